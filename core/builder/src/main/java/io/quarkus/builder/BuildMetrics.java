@@ -5,16 +5,21 @@
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -73,6 +78,73 @@ public Collection<BuildStepRecord> getRecords() {
         return records.values();
     }
 
+    /**
+     * Computes the critical path of the build, i.e. the chain of dependent build steps with the longest total duration.
+     * The build cannot finish sooner than the duration of this chain, no matter how many threads are available.
+     *
+     * @return the build steps of the critical path in the execution order, or an empty list if metrics are not enabled
+     */
+    public List<BuildStepRecord> getCriticalPath() {
+        if (!enabled() || records.isEmpty()) {
+            return List.of();
+        }
+        List<BuildStepRecord> sorted = new ArrayList<>(records.values());
+        // the ordinal is an index in the topological ordering, i.e. the dependencies of a step are always visited first
+        sorted.sort(Comparator.comparingInt(r -> r.stepInfo.getOrdinal()));
+        Map<StepInfo, Long> earliestStart = new HashMap<>();
+        Map<StepInfo, BuildStepRecord> predecessors = new HashMap<>();
+        BuildStepRecord last = null;
+        long lastFinish = -1;
+        for (BuildStepRecord rec : sorted) {
+            long finish = earliestStart.getOrDefault(rec.stepInfo, 0L) + rec.duration;
+            if (finish > lastFinish) {
+                last = rec;
+                lastFinish = finish;
+            }
+            for (StepInfo dependent : rec.stepInfo.getDependents()) {
+                Long start = earliestStart.get(dependent);
+                if (start == null || finish > start) {
+                    earliestStart.put(dependent, finish);
+                    predecessors.put(dependent, rec);
+                }
+            }
+        }
+        List<BuildStepRecord> path = new ArrayList<>();
+        for (BuildStepRecord rec = last; rec != null; rec = predecessors.get(rec.stepInfo)) {
+            path.add(rec);
+        }
+        Collections.reverse(path);
+        return path;
+    }
+
+    /**
+     * Computes the time the build threads spent executing build steps in each time slot of the build. Dividing the value
+     * of a slot by the slot duration gives the average number of busy threads in the slot.
+     *
+     * @param slotDuration the slot duration in ms
+     * @return the busy time in ms of each slot, or an empty array if metrics are not enabled
+     */
+    public long[] getThreadUtilization(long slotDuration) {
+        if (!enabled() || started == null) {
+            return new long[0];
+        }
+        long[] slots = new long[(int) Math.max(1, (duration + slotDuration - 1) / slotDuration)];
+        for (BuildStepRecord rec : records.values()) {
+            long start = startedAt(rec);
+            long end = start + rec.duration;
+            for (int i = (int) Math.min(start / slotDuration, slots.length - 1); i < slots.length; i++) {
+                long slotStart = i * slotDuration;
+                if (slotStart >= end) {
+                    break;
+                }
+                // the last slot also covers the steps that finished after the build was considered finished
+                long slotEnd = i == slots.length - 1 ? end : Math.min(end, slotStart + slotDuration);
+                slots[i] += slotEnd - Math.max(start, slotStart);
+            }
+        }
+        return slots;
+    }
+
     public void buildStarted() {
         this.started = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
     }
@@ -105,6 +177,10 @@ public void buildItemProduced(StepInfo stepInfo, BuildItem buildItem) {
         }
     }
 
+    private long startedAt(BuildStepRecord rec) {
+        return Math.max(0, Duration.between(started.toLocalTime(), rec.started).toMillis());
+    }
+
     private Long itemProduced(String key, Long val) {
         return val == null ? 1 : val + 1;
     }
@@ -126,6 +202,54 @@ public int compare(BuildStepRecord o1, BuildStepRecord o2) {
             json.put("started", started.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
             json.put("duration", duration);
 
+            List<BuildStepRecord> criticalPath = getCriticalPath();
+            Set<StepInfo> critical = new HashSet<>();
+            JsonArrayBuilder criticalSteps = Json.array();
+            long criticalDuration = 0;
+            for (BuildStepRecord rec : criticalPath) {
+                critical.add(rec.stepInfo);
+                criticalSteps.add(rec.id);
+                criticalDuration += rec.duration;
+            }
+            json.put("criticalPath", Json.object()
+                    .put("duration", criticalDuration)
+                    .put("steps", criticalSteps));
+
+            // join points on the critical path, e.g. a step consuming a multi build item waits for all its producers,
+            // which serializes otherwise independent branches of the graph
+            List<BuildStepRecord> joinSteps = new ArrayList<>();
+            for (BuildStepRecord rec : criticalPath) {
+                if (rec.stepInfo.getDependencies() > 1) {
+                    joinSteps.add(rec);
+                }
+            }
+            joinSteps.sort(Comparator.comparingInt((BuildStepRecord r) -> r.stepInfo.getDependencies()).reversed());
+            JsonArrayBuilder serializingSteps = Json.array();
+            for (BuildStepRecord rec : joinSteps) {
+                int consumedMultiItems = 0;
+                for (ItemId id : rec.stepInfo.getConsumes()) {
+                    if (id.isMulti()) {
+                        consumedMultiItems++;
+                    }
+                }
+                serializingSteps.add(Json.object()
+                        .put("id", rec.id)
+                        .put("stepId", rec.stepInfo.getBuildStep().getId())
+                        .put("dependencies", rec.stepInfo.getDependencies())
+                        .put("consumedMultiItems", consumedMultiItems));
+            }
+            json.put("serializingSteps", serializingSteps);
+
+            long slotDuration = Math.max(10, duration / 100);
+            JsonArrayBuilder busy = Json.array();
+            for (long slot : getThreadUtilization(slotDuration)) {
+                busy.add(slot);
+            }
+            json.put("threadUtilization", Json.object()
+                    .put("slotDuration", slotDuration)
+                    .put("threads", sortedSteps.stream().map(r -> r.thread).distinct().count())
+                    .put("busy", busy));
+
             JsonArrayBuilder steps = Json.array();
             json.put("records", steps);
             for (BuildStepRecord rec : sortedSteps) {
@@ -135,6 +259,7 @@ public int compare(BuildStepRecord o1, BuildStepRecord o2) {
                 recObject.put("thread", rec.thread);
                 recObject.put("started", rec.started.format(formatter));
                 recObject.put("duration", rec.duration);
+                recObject.put("critical", critical.contains(rec.stepInfo));
                 JsonArrayBuilder dependentsArray = Json.array();
                 for (StepInfo dependent : rec.stepInfo.getDependents()) {
                     BuildStepRecord dependentRecord = records.get(dependent.getBuildStep().getId());
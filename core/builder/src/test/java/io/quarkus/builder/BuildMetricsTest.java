@@ -0,0 +1,97 @@
+package io.quarkus.builder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.builder.BuildMetrics.BuildStepRecord;
+import io.quarkus.builder.item.MultiBuildItem;
+import io.quarkus.builder.item.SimpleBuildItem;
+
+public class BuildMetricsTest {
+
+    public static final class PartItem extends MultiBuildItem {
+    }
+
+    public static final class ResultItem extends SimpleBuildItem {
+    }
+
+    @BeforeEach
+    public void enableMetrics() {
+        System.setProperty(BuildMetrics.BUILDER_METRICS_ENABLED, "true");
+    }
+
+    @AfterEach
+    public void disableMetrics() {
+        System.clearProperty(BuildMetrics.BUILDER_METRICS_ENABLED);
+    }
+
+    @Test
+    public void testCriticalPath() throws ChainBuildException, BuildException {
+        final BuildChainBuilder builder = BuildChain.builder();
+        builder.addBuildStep(new NamedStep("fast") {
+            @Override
+            public void execute(BuildContext context) {
+                context.produce(new PartItem());
+            }
+        }).produces(PartItem.class).build();
+        builder.addBuildStep(new NamedStep("slow") {
+            @Override
+            public void execute(BuildContext context) {
+                sleep(100);
+                context.produce(new PartItem());
+            }
+        }).produces(PartItem.class).build();
+        builder.addBuildStep(new NamedStep("join") {
+            @Override
+            public void execute(BuildContext context) {
+                context.consumeMulti(PartItem.class);
+                sleep(20);
+                context.produce(new ResultItem());
+            }
+        }).consumes(PartItem.class).produces(ResultItem.class).build();
+        builder.addFinal(ResultItem.class);
+
+        BuildMetrics metrics = builder.build().createExecutionBuilder("my-app.jar").execute().getMetrics();
+
+        List<BuildStepRecord> criticalPath = metrics.getCriticalPath();
+        assertEquals(List.of("slow", "join"),
+                criticalPath.stream().map(r -> r.stepInfo.getBuildStep().getId()).collect(Collectors.toList()));
+        long[] utilization = metrics.getThreadUtilization(10);
+        long busy = 0;
+        for (long slot : utilization) {
+            assertTrue(slot >= 0);
+            busy += slot;
+        }
+        long total = metrics.getRecords().stream().mapToLong(r -> r.duration).sum();
+        assertEquals(total, busy);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    abstract static class NamedStep implements BuildStep {
+
+        private final String id;
+
+        NamedStep(String id) {
+            this.id = id;
+        }
+
+        @Override
+        public String getId() {
+            return id;
+        }
+    }
+}
@@ -21,6 +21,29 @@ public class ClassComparisonUtil {
             DotName.createSimple("kotlin.jvm.internal.SourceDebugExtension"),
             DotName.createSimple("kotlin.Metadata"));
 
+    private static final Set<DotName> PLAIN_SUPERCLASSES = Set.of(DotName.OBJECT_NAME, DotName.ENUM_NAME,
+            DotName.RECORD_NAME);
+
+    /**
+     * A plain class, i.e. a top-level class without annotations that only extends {@link Object}, {@link Enum} or
+     * {@link Record}, cannot be a bean, an endpoint, an entity or a config mapping. Adding such a class does not change
+     * the result of the augmentation.
+     */
+    static boolean isPlainClass(ClassInfo clazz) {
+        if (clazz.nestingType() != ClassInfo.NestingType.TOP_LEVEL) {
+            return false;
+        }
+        if (clazz.superName() != null && !PLAIN_SUPERCLASSES.contains(clazz.superName())) {
+            return false;
+        }
+        for (AnnotationInstance annotation : clazz.annotations()) {
+            if (!IGNORED_ANNOTATIONS.contains(annotation.name())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     static boolean isSameStructure(ClassInfo clazz, ClassInfo old) {
         if (clazz.flags() != old.flags()) {
             return false;
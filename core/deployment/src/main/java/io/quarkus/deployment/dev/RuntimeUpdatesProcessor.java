@@ -11,6 +11,7 @@
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.lang.instrument.ClassDefinition;
+import java.lang.invoke.MethodHandles;
 import java.nio.file.FileSystems;
 import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
@@ -128,6 +129,11 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext, Closeable
      */
     private static volatile IndexView lastStartIndex;
 
+    /**
+     * The classes added via an instrumentation based reload since the last successful start.
+     */
+    private static final Map<DotName, ClassInfo> instrumentationAddedClasses = new ConcurrentHashMap<>();
+
     /**
      * Resources that appear in both src and target, these will be removed if the src resource subsequently disappears.
      * This map contains the paths in the target dir, one for each module, otherwise on a second module we will delete files
@@ -557,37 +563,59 @@ public boolean doScan(boolean userInitiated, boolean forceRestart) {
                 //attempt to do an instrumentation based reload
                 //if only code has changed and not the class structure, then we can do a reload
                 //using the JDK instrumentation API (assuming we were started with the javaagent)
+                //classes that cannot affect the augmentation may also be added, e.g. a new helper class
                 if (changedClassResults.deletedClasses.isEmpty()
-                        && changedClassResults.addedClasses.isEmpty()
-                        && !changedClassResults.changedClasses.isEmpty()) {
+                        && (!changedClassResults.changedClasses.isEmpty()
+                                || !changedClassResults.addedClasses.isEmpty())) {
                     try {
                         Indexer indexer = new Indexer();
+                        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
                         //attempt to use the instrumentation API
                         ClassDefinition[] defs = new ClassDefinition[changedClassResults.changedClasses.size()];
                         int index = 0;
                         for (Path i : changedClassResults.changedClasses) {
                             byte[] bytes = Files.readAllBytes(i);
                             String name = indexer.indexWithSummary(new ByteArrayInputStream(bytes)).name().toString();
-                            defs[index++] = new ClassDefinition(
-                                    Thread.currentThread().getContextClassLoader().loadClass(name),
+                            defs[index++] = new ClassDefinition(classLoader.loadClass(name),
                                     classTransformers.apply(name, bytes));
                         }
+                        Map<DotName, byte[]> added = new HashMap<>();
+                        for (Path i : changedClassResults.addedClasses) {
+                            byte[] bytes = Files.readAllBytes(i);
+                            added.put(indexer.indexWithSummary(new ByteArrayInputStream(bytes)).name(), bytes);
+                        }
                         Index current = indexer.complete();
                         boolean ok = !disableInstrumentationForIndexPredicate.test(current);
                         if (ok) {
                             for (ClassInfo clazz : current.getKnownClasses()) {
-                                ClassInfo old = lastStartIndex.getClassByName(clazz.name());
-                                if (!ClassComparisonUtil.isSameStructure(clazz, old)
-                                        || disableInstrumentationForClassPredicate.test(clazz)) {
+                                if (added.containsKey(clazz.name())) {
+                                    ok = ClassComparisonUtil.isPlainClass(clazz);
+                                } else {
+                                    ClassInfo old = lastStartIndex.getClassByName(clazz.name());
+                                    if (old == null) {
+                                        old = instrumentationAddedClasses.get(clazz.name());
+                                    }
+                                    ok = old != null && ClassComparisonUtil.isSameStructure(clazz, old);
+                                }
+                                if (!ok || disableInstrumentationForClassPredicate.test(clazz)) {
                                     ok = false;
                                     break;
                                 }
                             }
                         }
 
+                        if (ok && !added.isEmpty()) {
+                            ok = defineAddedClasses(classLoader, added);
+                        }
+
                         if (ok) {
                             log.info("Application restart not required, replacing classes via instrumentation");
-                            ClassChangeAgent.getInstrumentation().redefineClasses(defs);
+                            if (defs.length > 0) {
+                                ClassChangeAgent.getInstrumentation().redefineClasses(defs);
+                            }
+                            for (DotName name : added.keySet()) {
+                                instrumentationAddedClasses.put(name, current.getClassByName(name));
+                            }
                             instrumentationChange = true;
                         }
                     } catch (Exception e) {
@@ -665,6 +693,63 @@ public boolean doScan(boolean userInitiated, boolean forceRestart) {
         }
     }
 
+    /**
+     * The class path of the running application is indexed when it starts, so the added classes are defined directly in
+     * the package of an existing application class instead.
+     *
+     * @return {@code false} if some classes could not be defined, in which case a restart is needed
+     */
+    private boolean defineAddedClasses(ClassLoader classLoader, Map<DotName, byte[]> added) {
+        Map<String, MethodHandles.Lookup> lookups = new HashMap<>();
+        for (DotName name : added.keySet()) {
+            DotName packageName = name.packagePrefixName();
+            if (packageName == null) {
+                return false;
+            }
+            if (lookups.containsKey(packageName.toString())) {
+                continue;
+            }
+            Iterator<ClassInfo> existing = lastStartIndex.getClassesInPackage(packageName).iterator();
+            if (!existing.hasNext()) {
+                log.debugf("Unable to define %s without restart, its package is new", name);
+                return false;
+            }
+            try {
+                Class<?> anchor = classLoader.loadClass(existing.next().name().toString());
+                if (anchor.getClassLoader() != classLoader) {
+                    return false;
+                }
+                lookups.put(packageName.toString(), MethodHandles.privateLookupIn(anchor, MethodHandles.lookup()));
+            } catch (ClassNotFoundException | IllegalAccessException e) {
+                log.debugf(e, "Unable to define %s without restart", name);
+                return false;
+            }
+        }
+        // an added class may implement an added interface, which must be defined first
+        Map<DotName, byte[]> remaining = new HashMap<>(added);
+        while (!remaining.isEmpty()) {
+            boolean progress = false;
+            for (Iterator<Entry<DotName, byte[]>> it = remaining.entrySet().iterator(); it.hasNext();) {
+                Entry<DotName, byte[]> e = it.next();
+                String name = e.getKey().toString();
+                try {
+                    lookups.get(e.getKey().packagePrefix()).defineClass(classTransformers.apply(name, e.getValue()));
+                    it.remove();
+                    progress = true;
+                } catch (NoClassDefFoundError ignored) {
+                    // retry once the other classes are defined
+                } catch (IllegalAccessException | LinkageError ex) {
+                    log.debugf(ex, "Unable to define %s without restart", name);
+                    return false;
+                }
+            }
+            if (!progress) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * This notifies registered extensions of "no-restart" changed files.
      *
@@ -1508,10 +1593,12 @@ public void startupFailed() {
         }
         //if startup failed we always do a class loader based restart
         lastStartIndex = null;
+        instrumentationAddedClasses.clear();
     }
 
     public static void setLastStartIndex(IndexView lastStartIndex) {
         RuntimeUpdatesProcessor.lastStartIndex = lastStartIndex;
+        instrumentationAddedClasses.clear();
     }
 
     @Override
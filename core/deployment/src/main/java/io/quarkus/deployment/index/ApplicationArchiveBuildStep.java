@@ -13,7 +13,6 @@
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.function.Function;
 
 import org.jboss.jandex.Index;
 import org.jboss.jandex.IndexView;
@@ -35,6 +34,7 @@
 import io.quarkus.deployment.builditem.LiveReloadBuildItem;
 import io.quarkus.deployment.builditem.QuarkusBuildCloseablesBuildItem;
 import io.quarkus.deployment.configuration.ClassLoadingConfig;
+import io.quarkus.deployment.pkg.builditem.BuildSystemTargetBuildItem;
 import io.quarkus.deployment.pkg.builditem.CurateOutcomeBuildItem;
 import io.quarkus.maven.dependency.ArtifactCoords;
 import io.quarkus.maven.dependency.ArtifactKey;
@@ -98,6 +98,30 @@ interface IndexDependencyConfig {
         }
     }
 
+    /**
+     * Index cache
+     */
+    @ConfigMapping(prefix = "quarkus.index-cache")
+    @ConfigRoot(phase = ConfigPhase.BUILD_TIME)
+    interface IndexCacheConfiguration {
+        /**
+         * Whether the Jandex indexes of the application dependencies should be cached on disk and reused by subsequent
+         * builds.
+         * <p>
+         * An index is cached under the digest of the dependency content, so an updated dependency is reindexed.
+         * Dependencies that already contain a Jandex index are not cached.
+         */
+        @WithDefault("false")
+        boolean enabled();
+
+        /**
+         * The directory where the indexes are cached. It may be shared between projects and concurrent builds.
+         * <p>
+         * If not set, the {@code quarkus-index-cache} directory in the build output directory is used.
+         */
+        Optional<Path> directory();
+    }
+
     @BuildStep
     void addConfiguredIndexedDependencies(IndexDependencyConfiguration config,
             BuildProducer<IndexDependencyBuildItem> indexDependencyBuildItemBuildProducer) {
@@ -117,11 +141,17 @@ ApplicationArchivesBuildItem build(
             List<IndexDependencyBuildItem> indexDependencyBuildItems,
             LiveReloadBuildItem liveReloadContext,
             CurateOutcomeBuildItem curateOutcomeBuildItem,
-            ClassLoadingConfig classLoadingConfig) throws IOException {
+            ClassLoadingConfig classLoadingConfig,
+            IndexCacheConfiguration indexCacheConfig,
+            BuildSystemTargetBuildItem buildSystemTarget) throws IOException {
 
         IndexCache indexCache = liveReloadContext.getContextObject(IndexCache.class);
         if (indexCache == null) {
             indexCache = new IndexCache();
+            if (indexCacheConfig.enabled()) {
+                indexCache.persistentCache = new PersistentIndexCache(indexCacheConfig.directory()
+                        .orElseGet(() -> buildSystemTarget.getOutputDirectory().resolve("quarkus-index-cache")));
+            }
             liveReloadContext.setContextObject(IndexCache.class, indexCache);
         }
 
@@ -254,7 +284,7 @@ private static ApplicationArchive createApplicationArchive(QuarkusBuildCloseable
             index = indexPathTree(openTree, removed);
         } else {
             openTree = buildCloseables.add(PathTree.ofArchive(dep).open());
-            index = handleJarPath(dep, indexCache, removed);
+            index = handleJarPath(dep, openTree, indexCache, removed);
         }
         return new ApplicationArchiveImpl(index, openTree, resolvedDependency);
     }
@@ -289,8 +319,10 @@ private static void addMarkerFilePaths(List<String> applicationArchiveMarkers,
                         }
                         Index index = indexCache.cache.get(rootPath);
                         if (index == null) {
+                            final Set<String> removedResources = removed.get(dependencyKey);
                             try {
-                                index = IndexingUtil.indexTree(tree, removed.get(dependencyKey));
+                                index = indexCache.index(rootPath, tree, removedResources,
+                                        () -> IndexingUtil.indexTree(tree, removedResources));
                             } catch (IOException ioe) {
                                 throw new UncheckedIOException(ioe);
                             }
@@ -352,24 +384,36 @@ public void visitPath(PathVisit visit) {
         return indexer.complete();
     }
 
-    private static Index handleJarPath(Path path, IndexCache indexCache, Set<String> removed) {
-        return indexCache.cache.computeIfAbsent(path, new Function<Path, Index>() {
-            @Override
-            public Index apply(Path path) {
-                try {
-                    return IndexingUtil.indexJar(path, removed);
-                } catch (IOException e) {
-                    throw new RuntimeException("Failed to process " + path, e);
-                }
+    private static Index handleJarPath(Path path, OpenPathTree tree, IndexCache indexCache, Set<String> removed) {
+        Index index = indexCache.cache.get(path);
+        if (index == null) {
+            try {
+                index = indexCache.index(path, tree, removed, () -> IndexingUtil.indexJar(path, removed));
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to process " + path, e);
             }
-        });
+            indexCache.cache.put(path, index);
+        }
+        return index;
     }
 
     /**
      * When running in hot deployment mode we know that java archives will never change, there is no need
      * to re-index them each time. We cache them here to reduce the hot reload time.
+     * <p>
+     * If enabled, the indexes are also cached on disk so that they can be reused by subsequent builds.
      */
     private static final class IndexCache {
         final Map<Path, Index> cache = new HashMap<>();
+        PersistentIndexCache persistentCache;
+
+        Index index(Path archive, OpenPathTree tree, Set<String> removed, PersistentIndexCache.IndexFunction indexer)
+                throws IOException {
+            // reading the index bundled in the archive is cheaper than computing the digest of the archive
+            if (persistentCache == null || removed == null && tree.contains(IndexingUtil.JANDEX_INDEX)) {
+                return indexer.index();
+            }
+            return persistentCache.get(archive, removed, indexer);
+        }
     }
 }
@@ -0,0 +1,116 @@
+package io.quarkus.deployment.index;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexReader;
+import org.jboss.jandex.IndexWriter;
+import org.jboss.jandex.Indexer;
+import org.jboss.logging.Logger;
+
+/**
+ * An on-disk cache of the Jandex indexes of the application dependencies, that survives the build and can be shared
+ * between builds and projects.
+ * <p>
+ * An index is stored under the SHA-256 digest of the archive content, the resources removed from the archive and the
+ * Jandex version. A cached index is therefore never stale, and a modified archive simply results in a new entry.
+ */
+final class PersistentIndexCache {
+
+    private static final Logger LOGGER = Logger.getLogger(PersistentIndexCache.class);
+
+    private static final String SUFFIX = ".idx";
+    private static final String JANDEX_VERSION = String.valueOf(Indexer.class.getPackage().getImplementationVersion());
+
+    private final Path directory;
+
+    PersistentIndexCache(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * @param archive the archive to index
+     * @param removed the resources removed from the archive, may be {@code null}
+     * @param indexer the function used to index the archive if it's not cached yet
+     * @return the index of the archive
+     */
+    Index get(Path archive, Set<String> removed, IndexFunction indexer) throws IOException {
+        String key = key(archive, removed);
+        Path file = directory.resolve(key + SUFFIX);
+        if (Files.isRegularFile(file)) {
+            try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+                return new IndexReader(in).read();
+            } catch (IOException | RuntimeException e) {
+                LOGGER.debugf(e, "Unable to read the cached index %s of %s, reindexing", file, archive);
+            }
+        }
+        Index index = indexer.index();
+        write(key, file, index);
+        return index;
+    }
+
+    private void write(String key, Path file, Index index) {
+        try {
+            Files.createDirectories(directory);
+            // the directory may be shared by concurrent builds, so the index is only visible once completely written
+            Path tmp = Files.createTempFile(directory, key, ".tmp");
+            try {
+                try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tmp))) {
+                    new IndexWriter(out).write(index);
+                }
+                Files.move(tmp, file, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+        } catch (IOException e) {
+            LOGGER.debugf(e, "Unable to cache the index in %s", file);
+        }
+    }
+
+    static String key(Path archive, Set<String> removed) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        try (InputStream in = Files.newInputStream(archive)) {
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        if (removed != null) {
+            List<String> sorted = new ArrayList<>(removed);
+            sorted.sort(null);
+            for (String resource : sorted) {
+                digest.update((byte) 0);
+                digest.update(resource.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        digest.update((byte) 0);
+        digest.update(JANDEX_VERSION.getBytes(StandardCharsets.UTF_8));
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    @FunctionalInterface
+    interface IndexFunction {
+
+        Index index() throws IOException;
+    }
+}
@@ -136,6 +136,17 @@ interface JarConfig {
         @WithDefault("true")
         boolean compress();
 
+        /**
+         * Whether the classes of all the application jars should be copied into a single, uncompressed archive that is
+         * memory-mapped when the application starts. The classes are then defined straight from the mapped region, which
+         * avoids opening the jars and inflating their entries, at the cost of a larger package.
+         * <p>
+         * This setting is only used by the {@linkplain JarType#FAST_JAR fast-jar} output type. It's ignored for the
+         * mutable-jar output type, as the application classes may be replaced at runtime.
+         */
+        @WithDefault("false")
+        boolean classArchive();
+
         /**
          * Files that should not be copied to the output artifact.
          */
@@ -1,5 +1,7 @@
 package io.quarkus.deployment.pkg.jar;
 
+import static io.quarkus.deployment.pkg.PackageConfig.JarConfig.JarType.FAST_JAR;
+
 import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.file.Path;
@@ -55,7 +57,11 @@ public FastJarBuilder(CurateOutcomeBuildItem curateOutcome,
     @Override
     protected void writeSerializedApplication(OutputStream out, Path buildDir, List<Path> allJars, List<Path> sortedParentFirst)
             throws IOException {
-        SerializedApplication.write(out, mainClass.getClassName(), buildDir, allJars, sortedParentFirst);
+        // The classes of a mutable jar may be replaced at runtime, so they're always loaded from the jars
+        Path classArchive = packageConfig.jar().classArchive() && packageConfig.jar().type() == FAST_JAR
+                ? buildDir.resolve(QuarkusEntryPoint.QUARKUS_CLASS_ARCHIVE)
+                : null;
+        SerializedApplication.write(out, mainClass.getClassName(), buildDir, allJars, sortedParentFirst, classArchive);
     }
 
     @Override
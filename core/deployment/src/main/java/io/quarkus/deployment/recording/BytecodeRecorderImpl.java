@@ -159,6 +159,13 @@ public class BytecodeRecorderImpl implements RecorderContext {
      */
     private static final int MAX_INSTRUCTION_GROUPS = 300;
 
+    /**
+     * the maximum number of split methods that are added to a class. Additional methods are added as static methods to
+     * separate classes, so that a large recorder does not hit the constant pool limit, and the JVM only loads and verifies
+     * each part when it's about to be executed, instead of a single huge class before the first invocation.
+     */
+    private static final int MAX_METHODS_PER_CLASS = 20;
+
     private int deferredParameterCount = 0;
     private boolean loadComplete;
 
@@ -510,7 +517,7 @@ ResultHandle createValue(MethodContext context, MethodCreator method, ResultHand
         //this context manages the creation of new methods
         //it tracks the number of instruction groups and when they hit a threshold it
         //allocates a new method
-        SplitMethodContext context = new SplitMethodContext(array, mainMethod, file);
+        SplitMethodContext context = new SplitMethodContext(array, mainMethod, file, classOutput, className);
 
         for (var i : this.existingRecorderValues.values().stream()
                 .sorted(Comparator.comparing(newRecorder -> newRecorder.theClass.getName())).toList()) {
@@ -2191,17 +2198,23 @@ static class SplitMethodContext implements Closeable, MethodContext {
         final ResultHandle deferredParameterArray;
         final MethodCreator mainMethod;
         final ClassCreator classCreator;
+        final ClassOutput classOutput;
+        final String className;
         List<MethodCreator> allMethods = new ArrayList<>();
+        List<ClassCreator> parts = new ArrayList<>();
 
         int methodCount;
         int currentCount;
         MethodCreator currentMethod;
         Map<Integer, ResultHandle> currentMethodCache = new HashMap<>();
 
-        SplitMethodContext(ResultHandle deferredParameterArray, MethodCreator mainMethod, ClassCreator classCreator) {
+        SplitMethodContext(ResultHandle deferredParameterArray, MethodCreator mainMethod, ClassCreator classCreator,
+                ClassOutput classOutput, String className) {
             this.deferredParameterArray = deferredParameterArray;
             this.mainMethod = mainMethod;
             this.classCreator = classCreator;
+            this.classOutput = classOutput;
+            this.className = className;
         }
 
         @Override
@@ -2224,10 +2237,25 @@ public ResultHandle loadDeferred(DeferredParameter parameter) {
 
         void newMethod() {
             currentCount = 0;
-            currentMethod = classCreator.getMethodCreator(mainMethod.getMethodDescriptor().getName() + "_" + (methodCount++),
-                    mainMethod.getMethodDescriptor().getReturnType(), StartupContext.class, Object[].class);
-            mainMethod.invokeVirtualMethod(currentMethod.getMethodDescriptor(), mainMethod.getThis(),
-                    mainMethod.getMethodParam(0), deferredParameterArray);
+            String name = mainMethod.getMethodDescriptor().getName() + "_" + methodCount;
+            String returnType = mainMethod.getMethodDescriptor().getReturnType();
+            if (methodCount < MAX_METHODS_PER_CLASS) {
+                currentMethod = classCreator.getMethodCreator(name, returnType, StartupContext.class, Object[].class);
+                mainMethod.invokeVirtualMethod(currentMethod.getMethodDescriptor(), mainMethod.getThis(),
+                        mainMethod.getMethodParam(0), deferredParameterArray);
+            } else {
+                if (methodCount % MAX_METHODS_PER_CLASS == 0) {
+                    parts.add(ClassCreator.builder().classOutput(classOutput)
+                            .className(className + "$Part" + (methodCount / MAX_METHODS_PER_CLASS))
+                            .superClass(Object.class).build());
+                }
+                currentMethod = parts.get(parts.size() - 1).getMethodCreator(name, returnType, StartupContext.class,
+                        Object[].class);
+                currentMethod.setModifiers(Modifier.PUBLIC | Modifier.STATIC);
+                mainMethod.invokeStaticMethod(currentMethod.getMethodDescriptor(), mainMethod.getMethodParam(0),
+                        deferredParameterArray);
+            }
+            methodCount++;
             currentMethodCache = new HashMap<>();
             allMethods.add(currentMethod);
         }
@@ -2237,6 +2265,9 @@ public void close() {
             for (MethodCreator i : allMethods) {
                 i.returnValue(null);
             }
+            for (ClassCreator i : parts) {
+                i.close();
+            }
         }
     }
 
@@ -262,6 +262,26 @@ static class EntityWithoutTypeAnnotation {
         }
     }
 
+    @Nested
+    class PlainClass {
+
+        @Test
+        public void plainClasses() throws IOException {
+            assertTrue(ClassComparisonUtil.isPlainClass(Index.singleClass(PlainHelperForComparisonTest.class)));
+            assertTrue(ClassComparisonUtil.isPlainClass(Index.singleClass(PlainRecordForComparisonTest.class)));
+            assertTrue(ClassComparisonUtil.isPlainClass(Index.singleClass(PlainEnumForComparisonTest.class)));
+        }
+
+        @Test
+        public void notPlainClasses() throws IOException {
+            // nested classes change the nest members of their enclosing class
+            assertFalse(ClassComparisonUtil.isPlainClass(
+                    Index.singleClass(CompareMethodParameterAnnotations.ClassWithNoParameterAnnotation.class)));
+            assertFalse(ClassComparisonUtil.isPlainClass(Index.singleClass(AnnotatedHelperForComparisonTest.class)));
+            assertFalse(ClassComparisonUtil.isPlainClass(Index.singleClass(HelperSubclassForComparisonTest.class)));
+        }
+    }
+
     private static boolean isSameStructure(Class<?> clazz1, Class<?> clazz2) throws IOException {
         ClassInfo classInfo1 = Index.singleClass(clazz1);
         ClassInfo classInfo2 = Index.singleClass(clazz2);
@@ -269,3 +289,25 @@ private static boolean isSameStructure(Class<?> clazz1, Class<?> clazz2) throws
     }
 
 }
+
+class PlainHelperForComparisonTest {
+
+    static int sum(int a, int b) {
+        return a + b;
+    }
+}
+
+record PlainRecordForComparisonTest(String name) {
+}
+
+enum PlainEnumForComparisonTest {
+    FOO,
+    BAR
+}
+
+@Deprecated
+class AnnotatedHelperForComparisonTest {
+}
+
+class HelperSubclassForComparisonTest extends PlainHelperForComparisonTest {
+}
@@ -0,0 +1,78 @@
+package io.quarkus.deployment.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class PersistentIndexCacheTest {
+
+    private static final String CLASS_FILE = PersistentIndexCacheTest.class.getName().replace('.', '/') + ".class";
+
+    @TempDir
+    Path dir;
+
+    @Test
+    public void testIndexIsReused() throws IOException {
+        Path jar = createJar(dir.resolve("lib.jar"));
+        PersistentIndexCache cache = new PersistentIndexCache(dir.resolve("cache"));
+        AtomicInteger indexed = new AtomicInteger();
+        PersistentIndexCache.IndexFunction indexer = () -> {
+            indexed.incrementAndGet();
+            return IndexingUtil.indexJar(jar);
+        };
+
+        Index index = cache.get(jar, null, indexer);
+        assertNotNull(index.getClassByName(DotName.createSimple(PersistentIndexCacheTest.class)));
+        assertEquals(1, indexed.get());
+
+        // a new cache instance simulates a subsequent build
+        index = new PersistentIndexCache(dir.resolve("cache")).get(jar, null, indexer);
+        assertNotNull(index.getClassByName(DotName.createSimple(PersistentIndexCacheTest.class)));
+        assertEquals(1, indexed.get());
+
+        cache.get(jar, Set.of(CLASS_FILE), () -> {
+            indexed.incrementAndGet();
+            return IndexingUtil.indexJar(jar, Set.of(CLASS_FILE));
+        });
+        assertEquals(2, indexed.get());
+    }
+
+    @Test
+    public void testKeyDependsOnContent() throws IOException {
+        Path jar = createJar(dir.resolve("lib.jar"));
+        String key = PersistentIndexCache.key(jar, null);
+        assertEquals(key, PersistentIndexCache.key(createJar(dir.resolve("copy.jar")), null));
+        assertNotEquals(key, PersistentIndexCache.key(jar, Set.of(CLASS_FILE)));
+        Files.writeString(jar, "modified");
+        assertNotEquals(key, PersistentIndexCache.key(jar, null));
+    }
+
+    private static Path createJar(Path path) throws IOException {
+        try (OutputStream out = Files.newOutputStream(path);
+                JarOutputStream jar = new JarOutputStream(out);
+                InputStream in = PersistentIndexCacheTest.class.getClassLoader().getResourceAsStream(CLASS_FILE)) {
+            JarEntry entry = new JarEntry(CLASS_FILE);
+            // a fixed time so that the same content results in the same archive
+            entry.setTime(0);
+            jar.putNextEntry(entry);
+            in.transferTo(jar);
+            jar.closeEntry();
+        }
+        return path;
+    }
+}
@@ -248,6 +248,22 @@ public void testLargeCollection() throws Exception {
         }, beans);
     }
 
+    @Test
+    public void testLargeRecorderIsSplitIntoClasses() throws Exception {
+        List<TestJavaBean> beans = Collections.nCopies(100000, new TestJavaBean("A string", 99));
+        TestRecorder.RESULT.clear();
+        TestClassLoader tcl = new TestClassLoader(getClass().getClassLoader());
+        BytecodeRecorderImpl recorder = new BytecodeRecorderImpl(tcl, false, TEST_CLASS);
+        recorder.getRecordingProxy(TestRecorder.class).list(beans);
+        recorder.writeBytecode(new TestClassOutput(tcl));
+
+        // the split methods that do not fit in the startup task class are moved to separate classes
+        assertNotNull(tcl.loadClass(TEST_CLASS + "$Part1"));
+        StartupTask task = (StartupTask) tcl.loadClass(TEST_CLASS).getDeclaredConstructor().newInstance();
+        task.deploy(new StartupContext());
+        assertEquals(beans, TestRecorder.RESULT.poll());
+    }
+
     @Test
     public void testUnmodifiableMapWithinAMap() throws Exception {
         Map<Integer, Map<Integer, TestJavaBean>> outerMap = new HashMap<>();
@@ -26,7 +26,8 @@ public interface LiveReloadConfig {
      * Whether Quarkus should enable its ability to not do a full restart
      * when changes to classes are compatible with JVM instrumentation.
      * <p>
-     * If this is set to true, Quarkus will perform class redefinition when possible.
+     * If this is set to true, Quarkus will perform class redefinition when possible. New top-level classes without
+     * annotations that only extend {@link Object}, {@link Enum} or {@link Record} can also be added to an existing package.
      */
     @WithDefault("false")
     boolean instrumentation();
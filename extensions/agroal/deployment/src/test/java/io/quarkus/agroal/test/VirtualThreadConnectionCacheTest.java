@@ -0,0 +1,73 @@
+package io.quarkus.agroal.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.agroal.api.AgroalDataSource;
+import io.quarkus.agroal.runtime.ConnectionAcquisitionMetrics;
+import io.quarkus.agroal.runtime.QuarkusVirtualThreadConnectionCache;
+import io.quarkus.test.QuarkusExtensionTest;
+
+public class VirtualThreadConnectionCacheTest {
+
+    @Inject
+    AgroalDataSource defaultDataSource;
+
+    @RegisterExtension
+    static final QuarkusExtensionTest config = new QuarkusExtensionTest()
+            .withConfigurationResource("base.properties")
+            .overrideConfigKey("quarkus.datasource.jdbc.metrics.enabled", "true");
+
+    @Test
+    public void testVirtualThreadsUseTheCache() throws Exception {
+        assertThat(defaultDataSource.getConfiguration().connectionPoolConfiguration().connectionCache())
+                .isInstanceOf(QuarkusVirtualThreadConnectionCache.class);
+        QuarkusVirtualThreadConnectionCache cache = (QuarkusVirtualThreadConnectionCache) defaultDataSource
+                .getConfiguration().connectionPoolConfiguration().connectionCache();
+        ConnectionAcquisitionMetrics.ThreadTypeMetrics metrics = cache.getMetrics().virtualThreads();
+        long hits = metrics.cacheHitCount();
+        long poolAcquisitions = metrics.poolAcquisitionCount();
+        AtomicInteger timedAcquisitions = new AtomicInteger();
+        metrics.setAcquisitionTimeRecorder((amount, unit) -> timedAcquisitions.incrementAndGet());
+
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread thread = Thread.ofVirtual().start(() -> {
+            try {
+                try (Connection connection = defaultDataSource.getConnection()) {
+                }
+                // the same virtual thread reuses the connection
+                try (Connection connection = defaultDataSource.getConnection()) {
+                }
+            } catch (Throwable t) {
+                failure.set(t);
+            }
+        });
+        thread.join();
+        assertThat(failure.get()).isNull();
+        assertThat(metrics.cacheHitCount()).isGreaterThan(hits);
+        // the first acquisition of the thread went through the pool
+        assertThat(metrics.poolAcquisitionCount()).isGreaterThan(poolAcquisitions);
+        // both acquisitions are timed
+        assertThat(timedAcquisitions.get()).isEqualTo(2);
+
+        // another virtual thread gets the connection from the shared slots
+        hits = metrics.cacheHitCount();
+        thread = Thread.ofVirtual().start(() -> {
+            try (Connection connection = defaultDataSource.getConnection()) {
+            } catch (Throwable t) {
+                failure.set(t);
+            }
+        });
+        thread.join();
+        assertThat(failure.get()).isNull();
+        assertThat(metrics.cacheHitCount()).isGreaterThan(hits);
+    }
+}
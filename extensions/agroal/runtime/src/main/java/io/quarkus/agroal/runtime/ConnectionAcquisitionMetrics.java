@@ -0,0 +1,72 @@
+package io.quarkus.agroal.runtime;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.quarkus.runtime.metrics.MetricsFactory.TimeRecorder;
+
+/**
+ * The connection acquisitions measured by the {@link QuarkusVirtualThreadConnectionCache} and the
+ * {@link MeteredAgroalDataSource}, by thread type.
+ */
+public class ConnectionAcquisitionMetrics {
+
+    private final ThreadTypeMetrics platform = new ThreadTypeMetrics();
+    private final ThreadTypeMetrics virtual = new ThreadTypeMetrics();
+
+    void hit(boolean virtualThread) {
+        of(virtualThread).cacheHits.increment();
+    }
+
+    void miss(boolean virtualThread) {
+        of(virtualThread).poolAcquisitions.increment();
+    }
+
+    void acquired(boolean virtualThread, long nanos) {
+        TimeRecorder acquisitionTime = of(virtualThread).acquisitionTime;
+        if (acquisitionTime != null) {
+            acquisitionTime.update(nanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public ThreadTypeMetrics platformThreads() {
+        return platform;
+    }
+
+    public ThreadTypeMetrics virtualThreads() {
+        return virtual;
+    }
+
+    private ThreadTypeMetrics of(boolean virtualThread) {
+        return virtualThread ? virtual : platform;
+    }
+
+    public static class ThreadTypeMetrics {
+
+        private final LongAdder cacheHits = new LongAdder();
+        private final LongAdder poolAcquisitions = new LongAdder();
+        // set once the metrics are registered
+        private volatile TimeRecorder acquisitionTime;
+
+        /**
+         * @return the number of connections acquired from the connection cache
+         */
+        public long cacheHitCount() {
+            return cacheHits.sum();
+        }
+
+        /**
+         * @return the number of connections acquired from the pool, after missing the connection cache
+         */
+        public long poolAcquisitionCount() {
+            return poolAcquisitions.sum();
+        }
+
+        /**
+         * Sets the timer recording how long it took to get the connections, including the time waiting for the pool.
+         */
+        public void setAcquisitionTimeRecorder(TimeRecorder acquisitionTime) {
+            this.acquisitionTime = acquisitionTime;
+        }
+    }
+}
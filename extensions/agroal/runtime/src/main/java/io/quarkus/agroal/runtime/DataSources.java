@@ -20,6 +20,7 @@
 
 import io.agroal.api.AgroalDataSource;
 import io.agroal.api.AgroalPoolInterceptor;
+import io.agroal.api.cache.ConnectionCache;
 import io.agroal.api.configuration.AgroalConnectionPoolConfiguration.ConnectionValidator;
 import io.agroal.api.configuration.AgroalConnectionPoolConfiguration.TransactionRequirement;
 import io.agroal.api.configuration.AgroalDataSourceConfiguration;
@@ -210,15 +211,20 @@ public AgroalDataSource createDataSource(String dataSourceName, boolean otelEnab
                     dataSourceJdbcRuntimeConfig.additionalJdbcProperties(), dataSourceJdbcRuntimeConfig.readTimeout().get());
         }
 
-        //we use a custom cache for two reasons:
+        //we use a custom cache for three reasons:
         //fast thread local cache should be faster
-        //and it prevents a thread local leak
+        //it prevents a thread local leak
+        //and the virtual threads also benefit from caching
+        ConnectionCache platformThreadCache;
         try {
             Class.forName("io.netty.util.concurrent.FastThreadLocal", true, Thread.currentThread().getContextClassLoader());
-            dataSourceConfiguration.connectionPoolConfiguration().connectionCache(new QuarkusNettyConnectionCache());
+            platformThreadCache = new QuarkusNettyConnectionCache();
         } catch (ClassNotFoundException e) {
-            dataSourceConfiguration.connectionPoolConfiguration().connectionCache(new QuarkusSimpleConnectionCache());
+            platformThreadCache = new QuarkusSimpleConnectionCache();
         }
+        QuarkusVirtualThreadConnectionCache connectionCache = new QuarkusVirtualThreadConnectionCache(platformThreadCache,
+                isMetricsEnabled(dataSourceJdbcBuildTimeConfig, mpMetricsPresent));
+        dataSourceConfiguration.connectionPoolConfiguration().connectionCache(connectionCache);
 
         agroalConnectionConfigurer.setExceptionSorter(resolvedDbKind, dataSourceConfiguration);
 
@@ -239,6 +245,11 @@ public AgroalDataSource createDataSource(String dataSourceName, boolean otelEnab
             dataSource.setPoolInterceptors(interceptorList);
         }
 
+        if (connectionCache.getMetrics() != null) {
+            // measure the connection acquisitions by thread type
+            dataSource = new MeteredAgroalDataSource(dataSource, connectionCache.getMetrics());
+        }
+
         if (dataSourceJdbcBuildTimeConfig.telemetry() &&
                 dataSourceJdbcRuntimeConfig.telemetry().enabled().orElse(true) &&
                 otelEnabled) {
@@ -293,12 +304,7 @@ private void applyNewConfiguration(String dataSourceName, AgroalDataSourceConfig
         }
 
         // metrics
-        if (dataSourceJdbcBuildTimeConfig.metrics().enabled().isPresent()) {
-            dataSourceConfiguration.metricsEnabled(dataSourceJdbcBuildTimeConfig.metrics().enabled().get());
-        } else {
-            // if the enable-metrics property is unspecified, treat it as true if MP Metrics are being exposed
-            dataSourceConfiguration.metricsEnabled(dataSourcesBuildTimeConfig.metricsEnabled() && mpMetricsPresent);
-        }
+        dataSourceConfiguration.metricsEnabled(isMetricsEnabled(dataSourceJdbcBuildTimeConfig, mpMetricsPresent));
 
         // Authentication
         if (dataSourceRuntimeConfig.username().isPresent()) {
@@ -386,6 +392,12 @@ private void applyNewConfiguration(String dataSourceName, AgroalDataSourceConfig
         poolConfiguration.recoveryEnable(dataSourceJdbcRuntimeConfig.enableRecovery());
     }
 
+    private boolean isMetricsEnabled(DataSourceJdbcBuildTimeConfig dataSourceJdbcBuildTimeConfig, boolean mpMetricsPresent) {
+        // if the enable-metrics property is unspecified, treat it as true if MP Metrics are being exposed
+        return dataSourceJdbcBuildTimeConfig.metrics().enabled()
+                .orElse(dataSourcesBuildTimeConfig.metricsEnabled() && mpMetricsPresent);
+    }
+
     /**
      * Uses the {@link ServiceLoader#load(Class) ServiceLoader to load the JDBC drivers} in context
      * of the current {@link Thread#getContextClassLoader() TCCL}.
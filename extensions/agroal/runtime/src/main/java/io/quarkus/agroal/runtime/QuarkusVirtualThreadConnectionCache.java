@@ -0,0 +1,104 @@
+package io.quarkus.agroal.runtime;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import io.agroal.api.cache.Acquirable;
+import io.agroal.api.cache.ConnectionCache;
+
+/**
+ * A connection cache handling the virtual threads, and delegating to another cache for the platform threads.
+ * <p>
+ * The platform thread caches only cache the connections on the threads that we control the lifecycle, so the virtual
+ * threads would always go through the pool. As a virtual thread usually runs a single task, its thread local only
+ * provides affinity within a task, e.g. for the several transactions of a request, but it never leaks: it is released
+ * with the thread. Across tasks, the connections recently acquired by virtual threads are also kept in a few shared
+ * slots, and handed off to the next virtual threads without locking, as a connection can only be acquired once.
+ * <p>
+ * When the metrics are enabled, the cache also counts, by thread type, how many acquisitions were served by the cache and
+ * how many went through the pool. The time spent getting the connections is measured by the
+ * {@link MeteredAgroalDataSource}, as timing the misses here would require to keep the miss time of each thread.
+ */
+public class QuarkusVirtualThreadConnectionCache implements ConnectionCache {
+
+    private static final int MAX_SHARED_SLOTS = 16;
+
+    private final ConnectionCache platformThreadCache;
+    private final AtomicReferenceArray<Acquirable> sharedSlots;
+    private final int slotMask;
+    // null if the metrics are disabled
+    private final ConnectionAcquisitionMetrics metrics;
+
+    private volatile ThreadLocal<Acquirable> virtualThreadCache = new ThreadLocal<>();
+
+    QuarkusVirtualThreadConnectionCache(ConnectionCache platformThreadCache, boolean metricsEnabled) {
+        this.platformThreadCache = platformThreadCache;
+        this.metrics = metricsEnabled ? new ConnectionAcquisitionMetrics() : null;
+        int slots = Integer.highestOneBit(Math.min(Runtime.getRuntime().availableProcessors(), MAX_SHARED_SLOTS));
+        this.sharedSlots = new AtomicReferenceArray<>(slots);
+        this.slotMask = slots - 1;
+    }
+
+    @Override
+    public Acquirable get() {
+        Thread thread = Thread.currentThread();
+        boolean virtual = thread.isVirtual();
+        Acquirable acquirable = virtual ? getForVirtualThread(thread) : platformThreadCache.get();
+        if (metrics != null) {
+            if (acquirable != null) {
+                metrics.hit(virtual);
+            } else {
+                // the pool acquires a connection and then puts it in the cache
+                metrics.miss(virtual);
+            }
+        }
+        return acquirable;
+    }
+
+    @Override
+    public void put(Acquirable acquirable) {
+        Thread thread = Thread.currentThread();
+        if (thread.isVirtual()) {
+            virtualThreadCache.set(acquirable);
+            sharedSlots.set(slot(thread), acquirable);
+        } else {
+            platformThreadCache.put(acquirable);
+        }
+    }
+
+    @Override
+    public void reset() {
+        platformThreadCache.reset();
+        virtualThreadCache = new ThreadLocal<>();
+        for (int i = 0; i < sharedSlots.length(); i++) {
+            sharedSlots.set(i, null);
+        }
+    }
+
+    /**
+     * @return the acquisition metrics, or {@code null} if the metrics are disabled
+     */
+    public ConnectionAcquisitionMetrics getMetrics() {
+        return metrics;
+    }
+
+    private Acquirable getForVirtualThread(Thread thread) {
+        Acquirable acquirable = virtualThreadCache.get();
+        if (acquirable != null && acquirable.acquire()) {
+            return acquirable;
+        }
+        // start with the slot of the thread, so that the concurrent threads do not compete for the same connection
+        int start = slot(thread);
+        for (int i = 0; i < sharedSlots.length(); i++) {
+            acquirable = sharedSlots.get((start + i) & slotMask);
+            if (acquirable != null && acquirable.acquire()) {
+                virtualThreadCache.set(acquirable);
+                return acquirable;
+            }
+        }
+        return null;
+    }
+
+    private int slot(Thread thread) {
+        return (int) thread.threadId() & slotMask;
+    }
+}
@@ -11,6 +11,8 @@
 import io.agroal.api.AgroalDataSource;
 import io.agroal.api.AgroalDataSourceMetrics;
 import io.quarkus.agroal.runtime.AgroalDataSourceUtil;
+import io.quarkus.agroal.runtime.ConnectionAcquisitionMetrics;
+import io.quarkus.agroal.runtime.QuarkusVirtualThreadConnectionCache;
 import io.quarkus.datasource.common.runtime.DataSourceUtil;
 import io.quarkus.runtime.annotations.Recorder;
 import io.quarkus.runtime.metrics.MetricsFactory;
@@ -121,7 +123,35 @@ public void accept(MetricsFactory metricsFactory) {
                         .tag("datasource", tagValue)
                         .unit("milliseconds")
                         .buildGauge(metrics::creationTimeTotal, convertToMillis);
+
+                if (dataSource.get().getConfiguration().connectionPoolConfiguration()
+                        .connectionCache() instanceof QuarkusVirtualThreadConnectionCache cache
+                        && cache.getMetrics() != null) {
+                    registerAcquisitionMetrics(metricsFactory, tagValue, "platform",
+                            cache.getMetrics().platformThreads());
+                    registerAcquisitionMetrics(metricsFactory, tagValue, "virtual",
+                            cache.getMetrics().virtualThreads());
+                }
             }
         };
     }
+
+    private static void registerAcquisitionMetrics(MetricsFactory metricsFactory, String tagValue, String threadType,
+            ConnectionAcquisitionMetrics.ThreadTypeMetrics metrics) {
+        metricsFactory.builder("agroal.cache.hit.count")
+                .description("Number of connections acquired from the connection cache, by thread type.")
+                .tag("datasource", tagValue)
+                .tag("thread.type", threadType)
+                .buildCounter(metrics::cacheHitCount);
+        metricsFactory.builder("agroal.pool.acquire.count")
+                .description("Number of connections acquired from the pool, by thread type.")
+                .tag("datasource", tagValue)
+                .tag("thread.type", threadType)
+                .buildCounter(metrics::poolAcquisitionCount);
+        metrics.setAcquisitionTimeRecorder(metricsFactory.builder("agroal.acquire.time")
+                .description("Time spent getting connections, including the time waiting for the pool, by thread type.")
+                .tag("datasource", tagValue)
+                .tag("thread.type", threadType)
+                .buildTimer());
+    }
 }
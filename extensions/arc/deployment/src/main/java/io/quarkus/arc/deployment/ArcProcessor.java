@@ -16,6 +16,7 @@
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BiPredicate;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -396,18 +397,25 @@ public Integer compute(AnnotationTarget target, Collection<StereotypeInfo> stere
         }
 
         builder.setBuildCompatibleExtensions(buildCompatibleExtensions.entrypoint);
-        builder.setOptimizeContexts(new Predicate<BeanDeployment>() {
+        builder.setOptimizeContexts(new BiPredicate<BeanDeployment, DotName>() {
             @Override
-            public boolean test(BeanDeployment deployment) {
+            public boolean test(BeanDeployment deployment, DotName scope) {
                 switch (arcConfig.optimizeContexts()) {
                     case TRUE:
                         return true;
                     case FALSE:
                         return false;
                     case AUTO:
-                        // Optimize the context if there is less than 1000 beans in the app
+                        // Optimize the context if there is less than 1000 beans with the given scope
+                        // The generated class declares a few members per bean, so the total number of beans does not matter
                         // Note that removed beans are excluded
-                        return deployment.getBeans().size() < 1000;
+                        int count = 0;
+                        for (BeanInfo bean : deployment.getBeans()) {
+                            if (bean.getScope().getDotName().equals(scope)) {
+                                count++;
+                            }
+                        }
+                        return count < 1000;
                     default:
                         throw new IllegalArgumentException("Unexpected value: " + arcConfig.optimizeContexts());
                 }
@@ -0,0 +1,116 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.CompositeCacheKey;
+import io.quarkus.cache.runtime.AbstractCache;
+import io.quarkus.test.QuarkusExtensionTest;
+import io.vertx.core.Vertx;
+
+/**
+ * Tests the fast path used for cache hits on {@link CacheResult} methods with a synchronous return type.
+ */
+public class SynchronousCacheHitTest {
+
+    @RegisterExtension
+    static final QuarkusExtensionTest TEST = new QuarkusExtensionTest()
+            .withApplicationRoot((jar) -> jar.addClass(CachedService.class));
+
+    @Inject
+    CachedService cachedService;
+
+    @Inject
+    Vertx vertx;
+
+    @CacheName("sync-hit-value")
+    Cache valueCache;
+
+    @Test
+    public void testHits() {
+        Object value = cachedService.value("a", 1);
+        assertSame(value, cachedService.value("a", 1));
+        assertSame(value, cachedService.value("a", 1));
+        assertEquals(1, cachedService.valueInvocations);
+
+        cachedService.value("a", 2);
+        assertEquals(2, cachedService.valueInvocations);
+    }
+
+    @Test
+    public void testHitIsServedWithoutAwaiting() throws Exception {
+        Object value = cachedService.value("d", 1);
+        int invocations = cachedService.valueInvocations;
+
+        // the cache value is already completed, so it is available without going through Cache#get
+        assertSame(value, ((AbstractCache) valueCache).getIfCompleted(new CompositeCacheKey("d", 1)));
+        assertSame(AbstractCache.ABSENT, ((AbstractCache) valueCache).getIfCompleted(new CompositeCacheKey("d", 2)));
+
+        // the regular path awaits the Uni returned by Cache#get, which is not allowed on an event loop
+        CompletableFuture<Object> hit = new CompletableFuture<>();
+        vertx.getOrCreateContext().runOnContext(ignored -> {
+            try {
+                hit.complete(cachedService.value("d", 1));
+            } catch (Throwable t) {
+                hit.completeExceptionally(t);
+            }
+        });
+        assertSame(value, hit.get(5, TimeUnit.SECONDS));
+        // the value loader, i.e. the cached method, was not invoked
+        assertEquals(invocations, cachedService.valueInvocations);
+    }
+
+    @Test
+    public void testNullValueHits() {
+        assertNull(cachedService.nullValue("b"));
+        assertNull(cachedService.nullValue("b"));
+        assertEquals(1, cachedService.nullValueInvocations);
+    }
+
+    @Test
+    public void testFailuresAreNotCached() {
+        assertThrows(IllegalStateException.class, () -> cachedService.failure("c"));
+        assertThrows(IllegalStateException.class, () -> cachedService.failure("c"));
+        assertEquals(2, cachedService.failureInvocations);
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        int valueInvocations;
+        int nullValueInvocations;
+        int failureInvocations;
+
+        @CacheResult(cacheName = "sync-hit-value")
+        public Object value(String key, int version) {
+            valueInvocations++;
+            return new Object();
+        }
+
+        @CacheResult(cacheName = "sync-hit-null")
+        public Object nullValue(String key) {
+            nullValueInvocations++;
+            return null;
+        }
+
+        @CacheResult(cacheName = "sync-hit-failure")
+        public Object failure(String key) {
+            failureInvocations++;
+            throw new IllegalStateException();
+        }
+    }
+}
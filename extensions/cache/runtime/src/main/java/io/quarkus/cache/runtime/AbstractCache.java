@@ -7,6 +7,11 @@ public abstract class AbstractCache implements Cache {
 
     public static final String NULL_KEYS_NOT_SUPPORTED_MSG = "Null keys are not supported by the Quarkus application data cache";
 
+    /**
+     * Returned by {@link #getIfCompleted(Object)} when no completed value is associated with the key.
+     */
+    public static final Object ABSENT = new Object();
+
     private Object defaultKey;
 
     @Override
@@ -17,6 +22,20 @@ public Object getDefaultKey() {
         return defaultKey;
     }
 
+    /**
+     * Returns the value associated with {@code key} if its computation has already completed successfully. This is a fast
+     * path for synchronous cache hits, it must not block and should not allocate. A hit is recorded in the cache
+     * statistics, a miss is not, as the caller is expected to fall back to {@link #get(Object, java.util.function.Function)}.
+     * <p>
+     * The default implementation always returns {@link #ABSENT}.
+     *
+     * @param key cache key
+     * @return the cache value, possibly {@code null}, or {@link #ABSENT}
+     */
+    public Object getIfCompleted(Object key) {
+        return ABSENT;
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public <T extends Cache> T as(Class<T> type) {
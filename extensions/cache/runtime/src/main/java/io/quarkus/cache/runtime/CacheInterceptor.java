@@ -139,11 +139,11 @@ protected Object getCacheKey(Cache cache, Class<? extends CacheKeyGenerator> key
         } else if (cacheKeyParameterPositions.size() >= 2) {
             // If two or more @CacheKey-annotated parameters were identified for the intercepted method at build time, then a
             // composite cache key built from all these parameters will be used.
-            List<Object> keyElements = new ArrayList<>();
-            for (short position : cacheKeyParameterPositions) {
-                keyElements.add(methodParameterValues[position]);
+            Object[] keyElements = new Object[cacheKeyParameterPositions.size()];
+            for (int i = 0; i < keyElements.length; i++) {
+                keyElements[i] = methodParameterValues[cacheKeyParameterPositions.get(i)];
             }
-            return new CompositeCacheKey(keyElements.toArray(new Object[0]));
+            return new CompositeCacheKey(keyElements);
         } else if (methodParameterValues.length == 1) {
             // If the intercepted method has exactly one parameter, then this parameter will be used as the cache key.
             return methodParameterValues[0];
@@ -86,6 +86,11 @@ public Uni<?> get() {
                         });
                 return createAsyncResult(cacheValue, returnType);
             } else {
+                // synchronous cache hits don't need any of the Uni machinery below
+                Object cachedValue = cache.getIfCompleted(key);
+                if (cachedValue != AbstractCache.ABSENT) {
+                    return cachedValue;
+                }
                 Uni<Object> cacheValue = cache.get(key, new Function<Object, Object>() {
                     @Override
                     public Object apply(Object k) {
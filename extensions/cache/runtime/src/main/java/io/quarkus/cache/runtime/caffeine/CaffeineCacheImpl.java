@@ -197,6 +197,23 @@ public V apply(Object value) {
         }
     }
 
+    @Override
+    public Object getIfCompleted(Object key) {
+        Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
+        // the map view does not record stats, unlike AsyncCache#getIfPresent
+        CompletableFuture<Object> existingCacheValue = cache.asMap().get(key);
+        if (existingCacheValue == null || !existingCacheValue.isDone() || existingCacheValue.isCompletedExceptionally()) {
+            return ABSENT;
+        }
+        Object value = existingCacheValue.getNow(null);
+        if (value instanceof CaffeineComputationThrowable) {
+            // let the regular path rethrow it
+            return ABSENT;
+        }
+        statsCounter.recordHits(1);
+        return NullValueConverter.fromCacheValue(value);
+    }
+
     /**
      * Returns a {@link CompletableFuture} holding the cache value identified by {@code key}, obtaining that value from
      * {@code valueLoader} if necessary. The value computation is done synchronously on the calling thread and the
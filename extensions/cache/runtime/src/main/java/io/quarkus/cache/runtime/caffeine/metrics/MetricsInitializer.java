@@ -1,10 +1,19 @@
 package io.quarkus.cache.runtime.caffeine.metrics;
 
+import java.util.function.Supplier;
+
 import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 
 public interface MetricsInitializer {
 
     boolean metricsEnabled();
 
     void recordMetrics(AsyncCache<Object, Object> cache, String cacheName);
+
+    /**
+     * Records the hit and miss counts of one tier of a multi-tier cache, such as the near cache or the remote store of a
+     * Redis cache.
+     */
+    void recordMetrics(Supplier<CacheStats> stats, String cacheName, String tier);
 }
@@ -1,10 +1,15 @@
 package io.quarkus.cache.runtime.caffeine.metrics;
 
+import java.util.function.Supplier;
+
 import org.jboss.logging.Logger;
 
 import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 
+import io.micrometer.core.instrument.FunctionCounter;
 import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 
 /**
@@ -26,4 +31,19 @@ public void recordMetrics(AsyncCache<Object, Object> cache, String cacheName) {
         // The 'tags' vararg is purposely empty here. Tags should be configured using MeterFilter.
         CaffeineCacheMetrics.monitor(Metrics.globalRegistry, cache, cacheName);
     }
+
+    @Override
+    public void recordMetrics(Supplier<CacheStats> stats, String cacheName, String tier) {
+        LOGGER.tracef("Initializing Micrometer metrics for the %s tier of cache [%s]", tier, cacheName);
+        // A distinct name, since registries such as Prometheus require the same tag keys for all the meters of a name
+        Tags tags = Tags.of("cache", cacheName, "tier", tier);
+        FunctionCounter.builder("cache.tier.gets", stats, s -> s.get().hitCount())
+                .tags(tags).tag("result", "hit")
+                .description("The number of times cache lookup methods have returned a cached value.")
+                .register(Metrics.globalRegistry);
+        FunctionCounter.builder("cache.tier.gets", stats, s -> s.get().missCount())
+                .tags(tags).tag("result", "miss")
+                .description("The number of times cache lookup methods have returned an uncached (newly loaded) value.")
+                .register(Metrics.globalRegistry);
+    }
 }
@@ -1,8 +1,11 @@
 package io.quarkus.cache.runtime.caffeine.metrics;
 
+import java.util.function.Supplier;
+
 import org.jboss.logging.Logger;
 
 import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 
 /**
  * An instance of this class is created during the instantiation of the Caffeine caches when the application does not depend on
@@ -22,4 +25,10 @@ public void recordMetrics(AsyncCache<Object, Object> cache, String cacheName) {
         LOGGER.tracef("Initializing no-op metrics for cache [%s]", cacheName);
         // Do nothing more.
     }
+
+    @Override
+    public void recordMetrics(Supplier<CacheStats> stats, String cacheName, String tier) {
+        LOGGER.tracef("Initializing no-op metrics for the %s tier of cache [%s]", tier, cacheName);
+        // Do nothing more.
+    }
 }
@@ -129,6 +129,8 @@ public Map<String, Object> prepareBuildStepsMetrics() {
                 metrics.put("items", items);
                 metrics.put("itemsCount", data.getInteger("itemsCount"));
                 metrics.put("duration", buildDuration);
+                metrics.put("criticalPath", data.getJsonObject("criticalPath"));
+                metrics.put("serializingSteps", data.getJsonArray("serializingSteps"));
             } catch (IOException e) {
                 LOG.error(e);
             }
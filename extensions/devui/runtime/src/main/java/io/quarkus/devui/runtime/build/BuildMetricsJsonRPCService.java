@@ -44,6 +44,8 @@ public BuildMetrics getBuildMetrics() {
         buildMetrics.numberOfThreads = threadSlotRecords.size();
         buildMetrics.duration = duration;
         buildMetrics.records = records;
+        buildMetrics.criticalPath = (JsonObject) buildStepMetrics.get("criticalPath");
+        buildMetrics.serializingSteps = (JsonArray) buildStepMetrics.get("serializingSteps");
         buildMetrics.enabled = records != null;
 
         return buildMetrics;
@@ -69,6 +71,8 @@ static class BuildMetrics {
         public int numberOfThreads;
         public Long duration;
         public JsonArray records;
+        public JsonObject criticalPath;
+        public JsonArray serializingSteps;
     }
 
     static class BuildItems {
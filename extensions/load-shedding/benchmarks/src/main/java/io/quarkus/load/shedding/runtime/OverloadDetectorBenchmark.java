@@ -0,0 +1,125 @@
+package io.quarkus.load.shedding.runtime;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the contention of the {@link OverloadDetector} request bookkeeping, as performed by
+ * {@link HttpLoadShedding} for every request, with the Vegas and the gradient limit algorithms.
+ * <p>
+ * Run {@link #main(String[])} to execute the benchmark with 8, 32 and 64 threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class OverloadDetectorBenchmark {
+
+    @Param({ "VEGAS", "GRADIENT" })
+    public LoadSheddingRuntimeConfig.Algorithm algorithm;
+
+    private OverloadDetector detector;
+
+    @Setup
+    public void setup() {
+        detector = new OverloadDetector(new BenchmarkConfig(algorithm));
+    }
+
+    @Benchmark
+    public boolean request() {
+        boolean overloaded = detector.isOverloaded();
+        detector.requestBegin();
+        detector.requestEnd(100 + (Thread.currentThread().getId() & 0xFF));
+        return overloaded;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        for (int threads : new int[] { 8, 32, 64 }) {
+            Options options = new OptionsBuilder()
+                    .include(OverloadDetectorBenchmark.class.getSimpleName())
+                    .threads(threads)
+                    .build();
+            new Runner(options).run();
+        }
+    }
+
+    private record BenchmarkConfig(Algorithm algorithm) implements LoadSheddingRuntimeConfig {
+        @Override
+        public boolean enabled() {
+            return true;
+        }
+
+        @Override
+        public int maxLimit() {
+            return 1000;
+        }
+
+        @Override
+        public int alphaFactor() {
+            return 3;
+        }
+
+        @Override
+        public int betaFactor() {
+            return 6;
+        }
+
+        @Override
+        public double probeFactor() {
+            return 30.0;
+        }
+
+        @Override
+        public int initialLimit() {
+            return 100;
+        }
+
+        @Override
+        public Gradient gradient() {
+            return new Gradient() {
+                @Override
+                public double tolerance() {
+                    return 1.5;
+                }
+
+                @Override
+                public double smoothing() {
+                    return 0.2;
+                }
+
+                @Override
+                public Duration window() {
+                    return Duration.ofMillis(100);
+                }
+
+                @Override
+                public int longWindow() {
+                    return 600;
+                }
+            };
+        }
+
+        @Override
+        public PriorityLoadShedding priority() {
+            return () -> false;
+        }
+    }
+}
@@ -6,6 +6,7 @@
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.load.shedding.runtime.DefaultLoadShedder;
 import io.quarkus.load.shedding.runtime.HttpLoadShedding;
 import io.quarkus.load.shedding.runtime.HttpRequestClassifier;
 import io.quarkus.load.shedding.runtime.ManagementRequestPrioritizer;
@@ -24,6 +25,7 @@ FeatureBuildItem feature() {
     AdditionalBeanBuildItem beans() {
         List<String> beans = new ArrayList<>();
         beans.add(OverloadDetector.class.getName());
+        beans.add(DefaultLoadShedder.class.getName());
         beans.add(HttpLoadShedding.class.getName());
         beans.add(PriorityLoadShedding.class.getName());
         beans.add(ManagementRequestPrioritizer.class.getName());
@@ -0,0 +1,39 @@
+package io.quarkus.load.shedding;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusExtensionTest;
+
+public class LoadShedderTest {
+    @RegisterExtension
+    static final QuarkusExtensionTest config = new QuarkusExtensionTest()
+            .withEmptyApplication()
+            .overrideConfigKey("quarkus.load-shedding.initial-limit", "2")
+            .overrideConfigKey("quarkus.load-shedding.max-limit", "2")
+            .overrideConfigKey("quarkus.load-shedding.priority.enabled", "false");
+
+    @Inject
+    LoadShedder loadShedder;
+
+    @Test
+    public void test() {
+        assertTrue(loadShedder.isEnabled());
+
+        long start = System.nanoTime();
+        assertTrue(loadShedder.tryAdmit("first"));
+        assertTrue(loadShedder.tryAdmit("second"));
+        assertFalse(loadShedder.tryAdmit("third"));
+
+        loadShedder.requestEnd(start);
+        assertTrue(loadShedder.tryAdmit("fourth"));
+
+        loadShedder.requestEnd(start);
+        loadShedder.requestEnd(start);
+    }
+}
@@ -0,0 +1,46 @@
+package io.quarkus.load.shedding;
+
+/**
+ * Transport-neutral entry point to load shedding. All transports share a single instance, so that
+ * the overload is detected once per process, regardless of which transport the requests arrive through.
+ * <p>
+ * Incoming HTTP requests (including gRPC and WebSocket upgrade requests) are handled automatically.
+ * Other transports may inject this bean and call {@link #tryAdmit(Object)} when a request arrives.
+ * If the request is admitted, {@link #requestEnd(long)} must be called exactly once when processing completes:
+ *
+ * <pre>
+ * if (loadShedder.tryAdmit(request)) {
+ *     long start = System.nanoTime();
+ *     try {
+ *         process(request);
+ *     } finally {
+ *         loadShedder.requestEnd(start);
+ *     }
+ * } else {
+ *     reject(request);
+ * }
+ * </pre>
+ */
+public interface LoadShedder {
+    /**
+     * @return whether load shedding is enabled; if not, {@link #tryAdmit(Object)} always returns {@code true}
+     */
+    boolean isEnabled();
+
+    /**
+     * Decides whether given {@code request} should be admitted. When the service is overloaded, the request
+     * is passed to the {@link RequestPrioritizer}s and {@link RequestClassifier}s to decide whether it should be
+     * rejected.
+     *
+     * @param request the request, never {@code null}
+     * @return {@code true} if the request is admitted, {@code false} if it should be rejected
+     */
+    boolean tryAdmit(Object request);
+
+    /**
+     * Signals that an admitted request has completed.
+     *
+     * @param startTime the value of {@link System#nanoTime()} when the request was admitted
+     */
+    void requestEnd(long startTime);
+}
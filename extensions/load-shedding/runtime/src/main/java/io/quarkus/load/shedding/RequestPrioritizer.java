@@ -14,7 +14,9 @@
  * {@link jakarta.annotation.Priority} values, only the implementations with the highest
  * priority are retained.
  * <p>
- * For HTTP requests, the type of the request ({@code R}) is {@link io.vertx.ext.web.RoutingContext}.
+ * For HTTP requests, including gRPC calls, the type of the request ({@code R}) is
+ * {@link io.vertx.ext.web.RoutingContext}. For other transports, it is the object passed to
+ * {@link LoadShedder#tryAdmit(Object)}.
  *
  * @param <R> type of the request
  */
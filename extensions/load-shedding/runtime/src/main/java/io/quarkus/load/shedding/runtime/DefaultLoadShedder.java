@@ -0,0 +1,39 @@
+package io.quarkus.load.shedding.runtime;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import io.quarkus.load.shedding.LoadShedder;
+
+@Singleton
+public class DefaultLoadShedder implements LoadShedder {
+    private final OverloadDetector detector;
+    private final PriorityLoadShedding priority;
+    private final boolean enabled;
+
+    @Inject
+    public DefaultLoadShedder(OverloadDetector detector, PriorityLoadShedding priority, LoadSheddingRuntimeConfig config) {
+        this.detector = detector;
+        this.priority = priority;
+        this.enabled = config.enabled();
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public boolean tryAdmit(Object request) {
+        if (enabled && detector.isOverloaded() && priority.shedLoad(request)) {
+            return false;
+        }
+        detector.requestBegin();
+        return true;
+    }
+
+    @Override
+    public void requestEnd(long startTime) {
+        detector.requestEnd((System.nanoTime() - startTime) / 1_000);
+    }
+}
@@ -0,0 +1,109 @@
+package io.quarkus.load.shedding.runtime;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * A limit algorithm based on the gradient of request times, similar to the Gradient2 algorithm implemented by
+ * <a href="https://github.com/Netflix/concurrency-limits/">Netflix Concurrency Limits</a>.
+ * <p>
+ * Completed requests are only recorded into striped counters, so that threads completing requests concurrently
+ * (typically the event loops) don't contend with each other. Once per window, a single thread aggregates
+ * the samples and updates the limit.
+ */
+final class GradientLimitAlgorithm implements LimitAlgorithm {
+    private final int maxLimit;
+    private final double tolerance;
+    private final double smoothing;
+    private final long windowNanos;
+    private final double longWindowFactor;
+    private final LongSupplier nanoTime;
+
+    private final LongAdder requestTimeSum = new LongAdder();
+    private final LongAdder requestCount = new LongAdder();
+    private final LongAccumulator maxCurrentRequests = new LongAccumulator(Math::max, 0);
+    private final AtomicLong nextWindow;
+
+    private volatile long currentLimit;
+
+    // guarded by `this`, only accessed once per window
+    private double estimatedLimit;
+    private double longRequestTime;
+
+    GradientLimitAlgorithm(LoadSheddingRuntimeConfig config) {
+        this(config.initialLimit(), config.maxLimit(), config.gradient().tolerance(), config.gradient().smoothing(),
+                config.gradient().window(), config.gradient().longWindow(), System::nanoTime);
+    }
+
+    // the clock is only replaced in tests
+    GradientLimitAlgorithm(int initialLimit, int maxLimit, double tolerance, double smoothing, Duration window,
+            int longWindow, LongSupplier nanoTime) {
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.smoothing = smoothing;
+        this.windowNanos = window.toNanos();
+        this.longWindowFactor = 1.0 / Math.max(1, longWindow);
+        this.nanoTime = nanoTime;
+        this.nextWindow = new AtomicLong(nanoTime.getAsLong() + windowNanos);
+        this.currentLimit = initialLimit;
+        this.estimatedLimit = initialLimit;
+    }
+
+    @Override
+    public long limit() {
+        return currentLimit;
+    }
+
+    @Override
+    public void update(long requestTime, int currentRequests) {
+        requestTimeSum.add(requestTime);
+        requestCount.increment();
+        maxCurrentRequests.accumulate(currentRequests);
+
+        long now = nanoTime.getAsLong();
+        long next = nextWindow.get();
+        if (now - next >= 0 && nextWindow.compareAndSet(next, now + windowNanos)) {
+            endWindow();
+        }
+    }
+
+    // only one thread per window gets here, so the monitor is uncontended
+    private synchronized void endWindow() {
+        // samples recorded concurrently may end up in either window, which is fine for an estimate
+        long count = requestCount.sumThenReset();
+        long sum = requestTimeSum.sumThenReset();
+        long inflight = maxCurrentRequests.getThenReset();
+        if (count == 0) {
+            return;
+        }
+
+        // request times are in microseconds, clamp to avoid dividing by zero for trivial requests
+        double shortRequestTime = Math.max(1.0, (double) sum / count);
+        if (longRequestTime == 0.0) {
+            longRequestTime = shortRequestTime;
+        } else {
+            longRequestTime += (shortRequestTime - longRequestTime) * longWindowFactor;
+            // after a period of overload, let the long-term average recover faster
+            if (longRequestTime / shortRequestTime > 2.0) {
+                longRequestTime *= 0.95;
+            }
+        }
+
+        // the limit isn't being exercised, so there's no signal to change it
+        if (inflight < estimatedLimit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, tolerance * longRequestTime / shortRequestTime));
+        double queueSize = LimitAlgorithms.log10Plus1((long) estimatedLimit);
+        double newLimit = estimatedLimit * gradient + queueSize;
+        newLimit = estimatedLimit * (1.0 - smoothing) + newLimit * smoothing;
+        newLimit = Math.max(1.0, Math.min(maxLimit, newLimit));
+
+        estimatedLimit = newLimit;
+        currentLimit = (long) newLimit;
+    }
+}
@@ -6,44 +6,78 @@
 
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpResponseStatus;
+import io.quarkus.load.shedding.LoadShedder;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Handler;
+import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.http.HttpVersion;
 import io.vertx.ext.web.Router;
+import io.vertx.ext.web.RoutingContext;
 
 @Singleton
 public class HttpLoadShedding {
-    public void init(@Observes @Priority(-1_000_000_000) Router router, OverloadDetector detector,
-            PriorityLoadShedding priority, LoadSheddingRuntimeConfig config) {
+    private static final String GRPC_CONTENT_TYPE = "application/grpc";
 
-        if (!config.enabled()) {
+    // see https://github.com/grpc/grpc/blob/master/doc/statuscodes.md
+    private static final String GRPC_RESOURCE_EXHAUSTED = "8";
+
+    public void init(@Observes @Priority(-1_000_000_000) Router router, LoadShedder loadShedder) {
+
+        if (!loadShedder.isEnabled()) {
             return;
         }
 
         router.route().order(-1_000_000_000).handler(ctx -> {
-            if (detector.isOverloaded() && priority.shedLoad(ctx)) {
-                HttpServerResponse response = ctx.response();
-                response.setStatusCode(HttpResponseStatus.SERVICE_UNAVAILABLE.code());
-                response.headers().add(HttpHeaderNames.CONNECTION, "close");
-                response.endHandler(new Handler<Void>() {
-                    @Override
-                    public void handle(Void ignored) {
-                        ctx.request().connection().close();
-                    }
-                });
-                response.end();
+            if (!loadShedder.tryAdmit(ctx)) {
+                if (isGrpc(ctx.request())) {
+                    rejectGrpc(ctx);
+                } else {
+                    reject(ctx);
+                }
             } else {
-                detector.requestBegin();
                 long start = System.nanoTime();
                 ctx.addEndHandler(new Handler<AsyncResult<Void>>() {
                     @Override
                     public void handle(AsyncResult<Void> ignored) {
-                        long end = System.nanoTime();
-                        detector.requestEnd((end - start) / 1_000);
+                        loadShedder.requestEnd(start);
                     }
                 });
                 ctx.next();
             }
         });
     }
+
+    private static void reject(RoutingContext ctx) {
+        HttpServerResponse response = ctx.response();
+        response.setStatusCode(HttpResponseStatus.SERVICE_UNAVAILABLE.code());
+        response.headers().add(HttpHeaderNames.CONNECTION, "close");
+        response.endHandler(new Handler<Void>() {
+            @Override
+            public void handle(Void ignored) {
+                ctx.request().connection().close();
+            }
+        });
+        response.end();
+    }
+
+    // a gRPC "Trailers-Only" response; the HTTP/2 connection is kept open, as it is shared by other calls
+    private static void rejectGrpc(RoutingContext ctx) {
+        HttpServerResponse response = ctx.response();
+        response.setStatusCode(HttpResponseStatus.OK.code());
+        response.headers()
+                .add(HttpHeaderNames.CONTENT_TYPE, GRPC_CONTENT_TYPE)
+                .add("grpc-status", GRPC_RESOURCE_EXHAUSTED)
+                .add("grpc-message", "Service overloaded");
+        response.end();
+    }
+
+    private static boolean isGrpc(HttpServerRequest request) {
+        if (request.version() != HttpVersion.HTTP_2) {
+            return false;
+        }
+        String contentType = request.getHeader(HttpHeaderNames.CONTENT_TYPE);
+        return contentType != null
+                && contentType.regionMatches(true, 0, GRPC_CONTENT_TYPE, 0, GRPC_CONTENT_TYPE.length());
+    }
 }
@@ -0,0 +1,22 @@
+package io.quarkus.load.shedding.runtime;
+
+/**
+ * An algorithm that computes the limit of concurrent requests from the observed request times.
+ * <p>
+ * Implementations must be thread-safe. {@link #update(long, int)} is called on every completed request,
+ * from any thread, and should avoid global locking.
+ */
+public interface LimitAlgorithm {
+    /**
+     * @return the current limit of concurrent requests
+     */
+    long limit();
+
+    /**
+     * Records a completed request.
+     *
+     * @param requestTime the time it took to process the request, in microseconds
+     * @param currentRequests the number of concurrent requests when the request completed, including itself
+     */
+    void update(long requestTime, int currentRequests);
+}
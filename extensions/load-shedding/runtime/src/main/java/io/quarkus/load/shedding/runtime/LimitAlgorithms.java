@@ -0,0 +1,29 @@
+package io.quarkus.load.shedding.runtime;
+
+final class LimitAlgorithms {
+    private static final int[] LOG10_PLUS_1_TABLE = new int[1_000];
+
+    static {
+        LOG10_PLUS_1_TABLE[0] = 1;
+        for (int i = 1; i < 1_000; i++) {
+            LOG10_PLUS_1_TABLE[i] = 1 + (int) Math.log10(i);
+        }
+    }
+
+    private LimitAlgorithms() {
+    }
+
+    static LimitAlgorithm create(LoadSheddingRuntimeConfig config) {
+        return switch (config.algorithm()) {
+            case VEGAS -> new VegasLimitAlgorithm(config);
+            case GRADIENT -> new GradientLimitAlgorithm(config);
+        };
+    }
+
+    static int log10Plus1(long value) {
+        if (value >= 0 && value < LOG10_PLUS_1_TABLE.length) {
+            return LOG10_PLUS_1_TABLE[(int) value];
+        }
+        return 1 + (int) Math.log10(value);
+    }
+}
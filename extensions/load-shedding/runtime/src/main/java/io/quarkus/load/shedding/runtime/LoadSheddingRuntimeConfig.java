@@ -1,5 +1,7 @@
 package io.quarkus.load.shedding.runtime;
 
+import java.time.Duration;
+
 import io.quarkus.runtime.annotations.ConfigGroup;
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
@@ -11,7 +13,8 @@
 public interface LoadSheddingRuntimeConfig {
     /**
      * Whether load shedding should be enabled.
-     * Currently, this only applies to incoming HTTP requests.
+     * This applies to incoming HTTP requests, including gRPC calls and WebSocket upgrade requests,
+     * and to other transports that use the {@link io.quarkus.load.shedding.LoadShedder}.
      */
     @WithDefault("true")
     boolean enabled();
@@ -22,6 +25,12 @@ public interface LoadSheddingRuntimeConfig {
     @WithDefault("1000")
     int maxLimit();
 
+    /**
+     * The algorithm used to compute the limit of concurrent requests.
+     */
+    @WithDefault("vegas")
+    Algorithm algorithm();
+
     /**
      * The {@code alpha} factor of the Vegas overload detection algorithm.
      */
@@ -46,11 +55,56 @@ public interface LoadSheddingRuntimeConfig {
     @WithDefault("100")
     int initialLimit();
 
+    /**
+     * Configuration of the gradient overload detection algorithm.
+     */
+    Gradient gradient();
+
     /**
      * Configuration of priority load shedding.
      */
     PriorityLoadShedding priority();
 
+    enum Algorithm {
+        /**
+         * TCP Vegas based algorithm, which updates the limit after every request.
+         */
+        VEGAS,
+        /**
+         * Gradient based algorithm, which samples request times without contention and updates the limit
+         * once per {@linkplain Gradient#window() window}.
+         */
+        GRADIENT,
+    }
+
+    @ConfigGroup
+    interface Gradient {
+        /**
+         * The tolerated ratio of the current request time to the long-term request time before the limit is decreased.
+         */
+        @WithDefault("1.5")
+        double tolerance();
+
+        /**
+         * The smoothing factor applied to each limit update, between {@code 0} (no change) and {@code 1}.
+         */
+        @WithDefault("0.2")
+        double smoothing();
+
+        /**
+         * The duration of a sampling window. Request times are aggregated, and the limit is updated,
+         * once per window.
+         */
+        @WithDefault("100ms")
+        Duration window();
+
+        /**
+         * The number of windows over which the long-term request time is averaged.
+         */
+        @WithDefault("600")
+        int longWindow();
+    }
+
     @ConfigGroup
     interface PriorityLoadShedding {
         /**
@@ -2,6 +2,7 @@
 
 import java.lang.management.ManagementFactory;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
@@ -29,9 +30,9 @@ public class PriorityLoadShedding {
 
     private final OperatingSystemMXBean os;
 
-    private double lastThreshold;
+    private volatile double lastThreshold;
 
-    private long lastThresholdTime;
+    private final AtomicLong lastThresholdTime = new AtomicLong();
 
     @Inject
     PriorityLoadShedding(LoadSheddingRuntimeConfig config) {
@@ -47,15 +48,14 @@ public boolean shedLoad(Object request) {
         }
 
         long now = System.currentTimeMillis();
-        synchronized (this) {
-            if (now - lastThresholdTime > 1_000) {
-                double load = os.getCpuLoad();
-                if (load < 0) {
-                    lastThreshold = -1;
-                } else {
-                    lastThreshold = max * (1.0 - load * load * load);
-                }
-                lastThresholdTime = now;
+        long last = lastThresholdTime.get();
+        // only one thread refreshes the threshold, the others use the previous one in the meantime
+        if (now - last > 1_000 && lastThresholdTime.compareAndSet(last, now)) {
+            double load = os.getCpuLoad();
+            if (load < 0) {
+                lastThreshold = -1;
+            } else {
+                lastThreshold = max * (1.0 - load * load * load);
             }
         }
         double threshold = lastThreshold;
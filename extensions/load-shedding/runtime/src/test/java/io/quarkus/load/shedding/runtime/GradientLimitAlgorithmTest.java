@@ -0,0 +1,73 @@
+package io.quarkus.load.shedding.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+public class GradientLimitAlgorithmTest {
+    private static final Duration WINDOW = Duration.ofMillis(100);
+
+    private final AtomicLong clock = new AtomicLong();
+    private final GradientLimitAlgorithm algorithm = new GradientLimitAlgorithm(20, 100, 1.5, 0.2, WINDOW, 600,
+            clock::get);
+
+    @Test
+    public void limitDoesNotChangeWithinWindow() {
+        for (int i = 0; i < 100; i++) {
+            algorithm.update(1_000, 20);
+        }
+        assertEquals(20, algorithm.limit());
+    }
+
+    @Test
+    public void limitGrowsWhenLatencyIsStable() {
+        long limit = algorithm.limit();
+        for (int i = 0; i < 10; i++) {
+            endWindow(1_000);
+            assertTrue(algorithm.limit() >= limit, "limit must not decrease when the latency is stable");
+            limit = algorithm.limit();
+        }
+        assertTrue(algorithm.limit() > 20, "limit must grow when the latency is stable: " + algorithm.limit());
+    }
+
+    @Test
+    public void limitDoesNotExceedMaxLimit() {
+        for (int i = 0; i < 1_000; i++) {
+            endWindow(1_000);
+        }
+        assertEquals(100, algorithm.limit());
+    }
+
+    @Test
+    public void limitShrinksWhenLatencyRises() {
+        for (int i = 0; i < 20; i++) {
+            endWindow(1_000);
+        }
+        long limit = algorithm.limit();
+        for (int i = 0; i < 10; i++) {
+            endWindow(10_000);
+            assertTrue(algorithm.limit() <= limit, "limit must not increase when the latency rises");
+            limit = algorithm.limit();
+        }
+        assertTrue(algorithm.limit() < 40, "limit must shrink when the latency rises: " + algorithm.limit());
+    }
+
+    @Test
+    public void limitIsKeptWhenNotExercised() {
+        for (int i = 0; i < 10; i++) {
+            clock.addAndGet(WINDOW.toNanos());
+            algorithm.update(10_000, 1);
+        }
+        assertEquals(20, algorithm.limit());
+    }
+
+    // records a request that saturates the current limit and completes the window
+    private void endWindow(long requestTime) {
+        clock.addAndGet(WINDOW.toNanos());
+        algorithm.update(requestTime, (int) algorithm.limit());
+    }
+}
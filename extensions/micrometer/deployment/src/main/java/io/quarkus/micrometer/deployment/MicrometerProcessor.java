@@ -41,6 +41,7 @@
 import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 import io.quarkus.devui.spi.page.CardPageBuildItem;
 import io.quarkus.devui.spi.page.Page;
+import io.quarkus.micrometer.deployment.binder.VirtualThreadBinderProcessor;
 import io.quarkus.micrometer.deployment.export.PrometheusRegistryProcessor;
 import io.quarkus.micrometer.deployment.export.RegistryBuildItem;
 import io.quarkus.micrometer.runtime.ClockProvider;
@@ -276,6 +277,13 @@ public CardPageBuildItem createCard(List<RegistryBuildItem> registries) {
                     .mimeType("text/plain"));
         });
 
+        if (VirtualThreadBinderProcessor.isPinningAttributionEnabled(mConfig)) {
+            card.addPage(Page.webComponentPageBuilder()
+                    .title("Virtual thread pinning")
+                    .componentLink("qwc-micrometer-pinned-threads.js")
+                    .icon("font-awesome-solid:thumbtack"));
+        }
+
         return card;
     }
 
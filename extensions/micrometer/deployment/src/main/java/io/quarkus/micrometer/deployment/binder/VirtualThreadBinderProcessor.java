@@ -3,11 +3,14 @@
 import java.util.function.BooleanSupplier;
 
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
+import io.quarkus.deployment.IsDevelopment;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.builditem.NativeMonitoringBuildItem;
 import io.quarkus.deployment.pkg.NativeConfig;
+import io.quarkus.devjsonrpc.spi.JsonRPCProvidersBuildItem;
 import io.quarkus.micrometer.runtime.MicrometerRecorder;
+import io.quarkus.micrometer.runtime.binder.virtualthreads.VirtualThreadPinningJsonRPCService;
 import io.quarkus.micrometer.runtime.config.MicrometerConfig;
 
 /**
@@ -28,6 +31,20 @@ public boolean getAsBoolean() {
         }
     }
 
+    static class PinningAttributionEnabled implements BooleanSupplier {
+        MicrometerConfig mConfig;
+
+        public boolean getAsBoolean() {
+            return isPinningAttributionEnabled(mConfig);
+        }
+    }
+
+    public static boolean isPinningAttributionEnabled(MicrometerConfig mConfig) {
+        return VIRTUAL_THREAD_BINDER_CLASS != null
+                && mConfig.isEnabled(mConfig.binder().virtualThreads())
+                && mConfig.binder().virtualThreads().attributePinning();
+    }
+
     @BuildStep(onlyIf = VirtualThreadSupportEnabled.class)
     AdditionalBeanBuildItem createCDIEventConsumer() {
         return AdditionalBeanBuildItem.builder()
@@ -39,4 +56,9 @@ AdditionalBeanBuildItem createCDIEventConsumer() {
     void addNativeMonitoring(BuildProducer<NativeMonitoringBuildItem> nativeMonitoring) {
         nativeMonitoring.produce(new NativeMonitoringBuildItem(NativeConfig.MonitoringOption.JFR));
     }
+
+    @BuildStep(onlyIf = { PinningAttributionEnabled.class, IsDevelopment.class })
+    JsonRPCProvidersBuildItem createPinningJsonRPCService() {
+        return new JsonRPCProvidersBuildItem(VirtualThreadPinningJsonRPCService.class);
+    }
 }
@@ -3,5 +3,16 @@ import { str } from '@lit/localize';
 
 export const templates = {
     // Metadata
-    'quarkus-micrometer-meta-description':'Instrument the runtime and your application with dimensional metrics using Micrometer.'
+    'quarkus-micrometer-meta-description':'Instrument the runtime and your application with dimensional metrics using Micrometer.',
+    // Pages
+    'quarkus-micrometer-virtual-thread-pinning': 'Virtual thread pinning',
+    // Virtual thread pinning
+    'quarkus-micrometer-loading-pinned-stacks': 'Loading pinning stacks...',
+    'quarkus-micrometer-refresh': 'Refresh',
+    'quarkus-micrometer-no-pinned-stacks': 'No virtual thread was pinned',
+    'quarkus-micrometer-entry-point': 'Entry point',
+    'quarkus-micrometer-pinning-stack': 'Pinning stack',
+    'quarkus-micrometer-count': 'Count',
+    'quarkus-micrometer-total-millis': 'Total (ms)',
+    'quarkus-micrometer-max-millis': 'Max (ms)'
 };
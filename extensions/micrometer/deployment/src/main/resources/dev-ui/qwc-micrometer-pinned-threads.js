@@ -0,0 +1,110 @@
+import { LitElement, html, css} from 'lit';
+import { JsonRpc } from 'jsonrpc';
+import '@vaadin/icon';
+import '@vaadin/button';
+import '@vaadin/grid';
+import '@vaadin/grid/vaadin-grid-sort-column.js';
+import { columnBodyRenderer } from '@vaadin/grid/lit.js';
+import 'qui-badge';
+import { msg, updateWhenLocaleChanges } from 'localization';
+
+/**
+ * This component shows the virtual thread pinning stacks, attributed to the application entry points
+ */
+export class QwcMicrometerPinnedThreads extends LitElement {
+
+    jsonRpc = new JsonRpc(this);
+
+    static styles = css`
+        .stacks {
+            display: flex;
+            flex-direction: column;
+            height: 100%;
+        }
+        .datatable {
+            height: 100%;
+        }
+        .button {
+            align-self: flex-start;
+            background-color: transparent;
+            cursor: pointer;
+        }
+        code {
+            font-size: 85%;
+        }
+        .frames {
+            display: flex;
+            flex-direction: column;
+        }
+    `;
+
+    static properties = {
+        _stacks: {state: true}
+    };
+
+    constructor() {
+        super();
+        updateWhenLocaleChanges(this);
+    }
+
+    connectedCallback() {
+        super.connectedCallback();
+        this._refresh();
+    }
+
+    render() {
+        if (!this._stacks) {
+            return html`<span>${msg('Loading pinning stacks...', { id: 'quarkus-micrometer-loading-pinned-stacks' })}</span>`;
+        }
+        return html`
+            <div class="stacks">
+                <vaadin-button theme="small" @click=${() => this._refresh()} class="button">
+                    <vaadin-icon icon="font-awesome-solid:rotate"></vaadin-icon> ${msg('Refresh', { id: 'quarkus-micrometer-refresh' })}
+                </vaadin-button>
+                ${this._renderStacks()}
+            </div>`;
+    }
+
+    _renderStacks() {
+        if (this._stacks.length === 0) {
+            return html`<qui-badge level='contrast'><span>${msg('No virtual thread was pinned', { id: 'quarkus-micrometer-no-pinned-stacks' })}</span></qui-badge>`;
+        }
+        return html`
+            <vaadin-grid .items="${this._stacks}" class="datatable" theme="no-border wrap-cell-content">
+                <vaadin-grid-sort-column auto-width path="entryPoint"
+                    header=${msg('Entry point', { id: 'quarkus-micrometer-entry-point' })}
+                    ${columnBodyRenderer(this._entryPointRenderer, [])}
+                    resizable>
+                </vaadin-grid-sort-column>
+                <vaadin-grid-column auto-width
+                    header=${msg('Pinning stack', { id: 'quarkus-micrometer-pinning-stack' })}
+                    ${columnBodyRenderer(this._framesRenderer, [])}
+                    resizable>
+                </vaadin-grid-column>
+                <vaadin-grid-sort-column auto-width path="count"
+                    header=${msg('Count', { id: 'quarkus-micrometer-count' })}>
+                </vaadin-grid-sort-column>
+                <vaadin-grid-sort-column auto-width path="totalMillis"
+                    header=${msg('Total (ms)', { id: 'quarkus-micrometer-total-millis' })}>
+                </vaadin-grid-sort-column>
+                <vaadin-grid-sort-column auto-width path="maxMillis"
+                    header=${msg('Max (ms)', { id: 'quarkus-micrometer-max-millis' })}>
+                </vaadin-grid-sort-column>
+            </vaadin-grid>`;
+    }
+
+    _entryPointRenderer(stack) {
+        return html`<code>${stack.entryPoint}</code>`;
+    }
+
+    _framesRenderer(stack) {
+        return html`<div class="frames">${stack.frames.map(frame => html`<code>${frame}</code>`)}</div>`;
+    }
+
+    _refresh() {
+        this.jsonRpc.getPinnedStacks().then(jsonRpcResponse => {
+            this._stacks = jsonRpcResponse.result;
+        });
+    }
+}
+customElements.define('qwc-micrometer-pinned-threads', QwcMicrometerPinnedThreads);
@@ -101,41 +101,50 @@ public static Tag outcome(int statusCode) {
      * @return the uri tag derived from the request
      */
     public static Tag uri(String pathInfo, String initialPath, int code, boolean suppress4xxErrors) {
+        return Tag.of("uri", uriValue(pathInfo, initialPath, code, suppress4xxErrors));
+    }
+
+    /**
+     * Same as {@link #uri(String, String, int, boolean)}, but only returns the value of the tag.
+     *
+     * @return the value of the uri tag derived from the request
+     */
+    public static String uriValue(String pathInfo, String initialPath, int code, boolean suppress4xxErrors) {
         if (pathInfo == null) {
-            return URI_UNKNOWN;
+            return URI_UNKNOWN.getValue();
         }
         if (pathInfo.isEmpty() || "/".equals(pathInfo)) {
-            return URI_ROOT;
+            return URI_ROOT.getValue();
         }
 
         if (code > 0) {
             if (code / 100 == 3) {
                 if (isTemplatedPath(pathInfo, initialPath)) {
-                    return Tag.of("uri", pathInfo);
+                    return pathInfo;
                 } else {
-                    return URI_REDIRECTION;
+                    return URI_REDIRECTION.getValue();
                 }
             } else if (code == 404) {
                 if (isTemplatedPath(pathInfo, initialPath)) {
-                    return Tag.of("uri", pathInfo);
+                    return pathInfo;
                 } else {
-                    return URI_NOT_FOUND;
+                    return URI_NOT_FOUND.getValue();
                 }
             } else if (code >= 400) {
                 if (!suppress4xxErrors) {
                     // legacy behaviour
-                    return Tag.of("uri", pathInfo);
+                    return pathInfo;
                 } else if (isTemplatedPath(pathInfo, initialPath)) {
-                    return Tag.of("uri", pathInfo);
+                    return pathInfo;
                 } else {
                     // Do not return the path info as it can lead to a metrics explosion
                     // for 4xx and 5xx responses
-                    return URI_UNKNOWN;
+                    return URI_UNKNOWN.getValue();
                 }
             }
         }
 
-        return Tag.of("uri", pathInfo);
+        return pathInfo;
     }
 
     public static String address(URI uri) {
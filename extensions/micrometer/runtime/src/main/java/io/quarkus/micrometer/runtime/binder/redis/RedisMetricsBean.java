@@ -8,6 +8,7 @@
 import jakarta.enterprise.inject.Typed;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Metrics;
 import io.micrometer.core.instrument.Tag;
@@ -29,6 +30,12 @@ public void report(String name, long durationInNs, boolean succeeded) {
                 .report(name, durationInNs, succeeded);
     }
 
+    @Override
+    public void reportBatch(String name, int size) {
+        reportedMetrics.computeIfAbsent(name, n -> new RedisMetrics(registry, n))
+                .reportBatch(name, size);
+    }
+
     private class RedisMetrics implements ObservableRedisMetrics {
         private final Tags tags;
         private final Counter operationCounter;
@@ -36,6 +43,7 @@ private class RedisMetrics implements ObservableRedisMetrics {
 
         private final Counter failureCounter;
         private final Timer timer;
+        private final DistributionSummary batchSize;
         private String name;
 
         private RedisMetrics(MeterRegistry registry, String name) {
@@ -57,6 +65,10 @@ private RedisMetrics(MeterRegistry registry, String name) {
                     .description("The duration of the operations (commands of batches")
                     .tags(tags)
                     .register(registry);
+            this.batchSize = DistributionSummary.builder("redis.commands.batch.size")
+                    .description("The number of commands of the batches, including the pipelined commands")
+                    .tags(tags)
+                    .register(registry);
         }
 
         @Override
@@ -69,5 +81,10 @@ public void report(String name, long durationInNs, boolean succeeded) {
             }
             timer.record(durationInNs, TimeUnit.NANOSECONDS);
         }
+
+        @Override
+        public void reportBatch(String name, int size) {
+            batchSize.record(size);
+        }
     }
 }
@@ -0,0 +1,89 @@
+package io.quarkus.micrometer.runtime.binder.vertx;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Meter.MeterProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.http.Outcome;
+import io.quarkus.micrometer.runtime.binder.HttpCommonTags;
+import io.vertx.core.http.HttpMethod;
+
+/**
+ * Caches the HTTP server request timers by method, uri and status, so that recording a request neither builds the
+ * tags nor looks the timer up in the registry.
+ * <p>
+ * The outcome tag is derived from the status, so it's not part of the key. The number of cached timers is bounded, as
+ * the uri tag is the raw request path for some error responses; once the bound is reached, the timers that are not
+ * cached yet are resolved through the registry on each request.
+ * <p>
+ * A timer removed from the registry is evicted as well, so that the next request registers a new one.
+ */
+final class RequestTimers {
+
+    static final int MAX_CACHED_TIMERS = 1024;
+
+    /**
+     * The status of a request that was reset before the response was sent.
+     */
+    static final int STATUS_RESET = -1;
+
+    private final MeterProvider<Timer> requestsTimer;
+    private final ConcurrentMap<Key, Timer> timers = new ConcurrentHashMap<>();
+
+    RequestTimers(MeterRegistry registry, MeterProvider<Timer> requestsTimer) {
+        this.requestsTimer = requestsTimer;
+        registry.config().onMeterRemoved(this::evict);
+    }
+
+    /**
+     * @param method the request method
+     * @param uri the value of the uri tag
+     * @param status the response status code, {@link #STATUS_RESET} if the request was reset
+     * @return the timer
+     */
+    Timer get(HttpMethod method, String uri, int status) {
+        Key key = new Key(method, uri, status);
+        Timer timer = timers.get(key);
+        if (timer == null) {
+            timer = requestsTimer.withTags(tags(method, uri, status));
+            if (timers.size() < MAX_CACHED_TIMERS) {
+                timers.putIfAbsent(key, timer);
+            }
+        }
+        return timer;
+    }
+
+    private void evict(Meter meter) {
+        if (meter instanceof Timer) {
+            Meter.Id id = meter.getId();
+            timers.values().removeIf(timer -> timer.getId().equals(id));
+        }
+    }
+
+    int size() {
+        return timers.size();
+    }
+
+    static Tags tags(HttpMethod method, String uri, int status) {
+        if (status == STATUS_RESET) {
+            return Tags.of(
+                    VertxMetricsTags.method(method),
+                    Tag.of("uri", uri),
+                    Outcome.CLIENT_ERROR.asTag(),
+                    HttpCommonTags.STATUS_RESET);
+        }
+        return Tags.of(
+                VertxMetricsTags.method(method),
+                Tag.of("uri", uri),
+                HttpCommonTags.outcome(status),
+                HttpCommonTags.status(status));
+    }
+
+    private record Key(HttpMethod method, String uri, int status) {
+    }
+}
@@ -14,7 +14,6 @@
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.Timer;
-import io.micrometer.core.instrument.binder.http.Outcome;
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.ArcContainer;
 import io.quarkus.micrometer.runtime.HttpServerMetricsTagsContributor;
@@ -50,6 +49,7 @@ public class VertxHttpServerMetrics extends VertxTcpServerMetrics
     final LongAdder activeRequests;
 
     final MeterProvider<Timer> requestsTimer;
+    final RequestTimers requestTimers;
     final MeterProvider<LongTaskTimer> websocketConnectionTimer;
     final MeterProvider<Counter> pushCounter;
 
@@ -76,6 +76,7 @@ public class VertxHttpServerMetrics extends VertxTcpServerMetrics
         requestsTimer = Timer.builder(config.getHttpServerRequestsName())
                 .description("HTTP server request processing time")
                 .withRegistry(registry);
+        requestTimers = new RequestTimers(registry, requestsTimer);
 
         websocketConnectionTimer = LongTaskTimer.builder(config.getHttpServerWebSocketConnectionsName())
                 .description("Server web socket connection time")
@@ -206,23 +207,28 @@ public void requestReset(HttpRequestMetric requestMetric) {
                 config.getServerIgnorePatterns());
         if (path != null) {
             Timer.Sample sample = requestMetric.getSample();
-
-            Tags originalTags = Tags.of(
-                    VertxMetricsTags.method(requestMetric.request().method()),
-                    HttpCommonTags.uri(path, requestMetric.getInitialPath(), 0, false),
-                    Outcome.CLIENT_ERROR.asTag(),
-                    HttpCommonTags.STATUS_RESET);
-            Tags effectiveTags = effectiveTags(requestMetric, Optional.empty(), originalTags);
+            Timer timer = timer(requestMetric, Optional.empty(), requestMetric.request().method(),
+                    HttpCommonTags.uriValue(path, requestMetric.getInitialPath(), 0, false),
+                    RequestTimers.STATUS_RESET);
 
             io.vertx.core.Context ctx = requestMetric.request() != null ? requestMetric.request().context() : null;
             openTelemetryContextUnwrapper.executeInContext(
                     sample::stop,
-                    requestsTimer.withTags(effectiveTags),
+                    timer,
                     ctx);
         }
         requestMetric.requestEnded();
     }
 
+    private Timer timer(HttpRequestMetric requestMetric, Optional<HttpResponse> httpResponse, HttpMethod method,
+            String uri, int status) {
+        if (httpServerMetricsTagsContributors.isEmpty()) {
+            // the timer only depends on the request and the response, so it can be cached
+            return requestTimers.get(method, uri, status);
+        }
+        return requestsTimer.withTags(effectiveTags(requestMetric, httpResponse, RequestTimers.tags(method, uri, status)));
+    }
+
     private Tags effectiveTags(HttpRequestMetric requestMetric, Optional<HttpResponse> httpResponse, Tags originalTags) {
         if (!httpServerMetricsTagsContributors.isEmpty()) {
             HttpServerMetricsTagsContributor.Context context = new DefaultContext(
@@ -257,17 +263,14 @@ public void responseEnd(HttpRequestMetric requestMetric, HttpResponse response,
                 config.getServerIgnorePatterns());
         if (path != null) {
             Timer.Sample sample = requestMetric.getSample();
-            Tags originalTags = Tags.of(
-                    VertxMetricsTags.method(requestMetric.httpRequest().method()),
-                    HttpCommonTags.uri(path, requestMetric.getInitialPath(), response.statusCode(),
+            Timer timer = timer(requestMetric, Optional.of(response), requestMetric.httpRequest().method(),
+                    HttpCommonTags.uriValue(path, requestMetric.getInitialPath(), response.statusCode(),
                             config.isServerSuppress4xxErrors()),
-                    VertxMetricsTags.outcome(response),
-                    HttpCommonTags.status(response.statusCode()));
-            Tags effectiveTags = effectiveTags(requestMetric, Optional.of(response), originalTags);
+                    response.statusCode());
             io.vertx.core.Context ctx = requestMetric.request() != null ? requestMetric.request().context() : null;
             openTelemetryContextUnwrapper.executeInContext(
                     sample::stop,
-                    requestsTimer.withTags(effectiveTags),
+                    timer,
                     ctx);
         }
         requestMetric.requestEnded();
@@ -36,6 +36,7 @@ public class VirtualThreadCollector {
     private final boolean enabled;
     private final MeterBinder binder;
     private final List<Tag> tags;
+    private final VirtualThreadPinningTracker pinningTracker;
 
     @Inject
     public VirtualThreadCollector(MicrometerConfig mc) {
@@ -58,6 +59,9 @@ public VirtualThreadCollector(MicrometerConfig mc) {
             this.tags = List.of();
         }
         this.binder = instantiated;
+        this.pinningTracker = enabled && config.attributePinning()
+                ? new VirtualThreadPinningTracker(registry, tags, config.pinningThreshold(), config.pinningStackDepth())
+                : null;
     }
 
     /**
@@ -92,13 +96,30 @@ public List<Tag> getTags() {
         return tags;
     }
 
+    /**
+     * @return the tracker attributing the pinning of virtual threads, {@code null} if the attribution is disabled
+     */
+    public VirtualThreadPinningTracker getPinningTracker() {
+        return pinningTracker;
+    }
+
     public void init(@Observes StartupEvent event) {
         if (enabled && binder != null) {
             binder.bindTo(registry);
         }
+        if (pinningTracker != null) {
+            try {
+                pinningTracker.start();
+            } catch (Exception e) {
+                LOGGER.warnf(e, "Failed to start the attribution of the virtual thread pinning");
+            }
+        }
     }
 
     public void close(@Observes ShutdownEvent event) {
+        if (pinningTracker != null) {
+            pinningTracker.close();
+        }
         if (binder instanceof Closeable) {
             try {
                 ((Closeable) binder).close();
@@ -0,0 +1,37 @@
+package io.quarkus.micrometer.runtime.binder.virtualthreads;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import io.quarkus.runtime.annotations.JsonRpcDescription;
+import io.smallrye.common.annotation.NonBlocking;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Lists the virtual thread pinning stacks in the Dev UI.
+ */
+@ApplicationScoped
+public class VirtualThreadPinningJsonRPCService {
+
+    @Inject
+    VirtualThreadCollector collector;
+
+    @NonBlocking
+    @JsonRpcDescription("Get the virtual thread pinning stacks, the most frequent first")
+    public JsonArray getPinnedStacks() {
+        JsonArray array = new JsonArray();
+        VirtualThreadPinningTracker tracker = collector.getPinningTracker();
+        if (tracker != null) {
+            for (VirtualThreadPinningTracker.PinnedStack stack : tracker.getPinnedStacks()) {
+                array.add(new JsonObject()
+                        .put("entryPoint", stack.getEntryPoint())
+                        .put("frames", new JsonArray(stack.getFrames()))
+                        .put("count", stack.getCount())
+                        .put("totalMillis", stack.getTotalDuration().toMillis())
+                        .put("maxMillis", stack.getMaxDuration().toMillis()));
+            }
+        }
+        return array;
+    }
+}
@@ -0,0 +1,259 @@
+package io.quarkus.micrometer.runtime.binder.virtualthreads;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+
+/**
+ * Attributes the pinning of virtual threads to the application code that was running on the pinned thread.
+ * <p>
+ * The {@code jdk.VirtualThreadPinned} JFR events are streamed with their stack trace. The entry point of an event is
+ * the outermost application method of the stack, i.e. the REST endpoint, the messaging channel consumer or the
+ * scheduled method invoked on the virtual thread. The pinning stack is made of the topmost frames of the stack, without
+ * the JDK frames parking the thread.
+ * <p>
+ * The number of aggregated stacks and of timers is bounded, so that an application pinning from many places cannot
+ * exhaust the memory or explode the metric cardinality.
+ */
+public class VirtualThreadPinningTracker implements Closeable {
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    static final String METER_NAME = "jvm.threads.virtual.pinned.by.entry.point";
+    static final String UNKNOWN = "unknown";
+    static final String OTHER = "other";
+
+    static final int MAX_STACKS = 500;
+    static final int MAX_TIMERS = 100;
+
+    private static final List<String> FRAMEWORK_PACKAGES = List.of("java.", "javax.", "jakarta.", "jdk.", "sun.",
+            "com.sun.", "kotlin.", "kotlinx.", "io.quarkus.", "io.vertx.", "io.netty.", "io.smallrye.", "io.micrometer.",
+            "io.opentelemetry.", "org.jboss.", "org.eclipse.microprofile.");
+    private static final List<String> GENERATED_CLASS_MARKERS = List.of("_Subclass", "_ClientProxy", "$$",
+            "$quarkusrestinvoker$");
+    private static final List<String> PARKING_PACKAGES = List.of("java.lang.VirtualThread", "jdk.internal.",
+            "java.util.concurrent.locks.LockSupport");
+
+    private final MeterRegistry registry;
+    private final Tags tags;
+    private final Duration threshold;
+    private final int stackDepth;
+
+    private final ConcurrentMap<StackKey, PinnedStack> stacks = new ConcurrentHashMap<>();
+    private final ConcurrentMap<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+    private final LongAdder dropped = new LongAdder();
+
+    private volatile RecordingStream stream;
+
+    public VirtualThreadPinningTracker(MeterRegistry registry, Iterable<Tag> tags, Duration threshold, int stackDepth) {
+        this.registry = registry;
+        this.tags = Tags.of(tags);
+        this.threshold = threshold;
+        this.stackDepth = stackDepth;
+    }
+
+    public void start() {
+        RecordingStream stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+        this.stream = stream;
+    }
+
+    @Override
+    public void close() {
+        RecordingStream stream = this.stream;
+        if (stream != null) {
+            stream.close();
+            this.stream = null;
+        }
+    }
+
+    /**
+     * @return the aggregated pinning stacks, the most frequent first
+     */
+    public List<PinnedStack> getPinnedStacks() {
+        List<PinnedStack> result = new ArrayList<>(stacks.values());
+        result.sort(Comparator.comparingLong(PinnedStack::getCount).reversed());
+        return result;
+    }
+
+    /**
+     * @return the number of pinning events that were not aggregated because too many distinct stacks were recorded
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    private void onPinned(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        List<StackTraceElement> frames = new ArrayList<>();
+        if (stackTrace != null) {
+            for (RecordedFrame frame : stackTrace.getFrames()) {
+                if (frame.isJavaFrame()) {
+                    frames.add(new StackTraceElement(frame.getMethod().getType().getName(), frame.getMethod().getName(),
+                            null, frame.getLineNumber()));
+                }
+            }
+        }
+        record(frames, event.getDuration());
+    }
+
+    /**
+     * @param frames the stack of the pinned thread, the topmost frame first
+     * @param duration the pinning duration
+     */
+    void record(List<StackTraceElement> frames, Duration duration) {
+        String entryPoint = entryPoint(frames);
+        List<String> stack = pinningStack(frames, stackDepth);
+
+        StackKey stackKey = new StackKey(entryPoint, stack);
+        PinnedStack pinned = stacks.get(stackKey);
+        if (pinned == null) {
+            if (stacks.size() < MAX_STACKS) {
+                pinned = stacks.computeIfAbsent(stackKey, k -> new PinnedStack(k.entryPoint(), k.frames()));
+            } else {
+                dropped.increment();
+            }
+        }
+        if (pinned != null) {
+            pinned.record(duration);
+        }
+
+        TimerKey timerKey = new TimerKey(entryPoint, stack.isEmpty() ? UNKNOWN : stack.get(0));
+        Timer timer = timers.get(timerKey);
+        if (timer == null) {
+            if (timers.size() >= MAX_TIMERS) {
+                timerKey = new TimerKey(OTHER, OTHER);
+            }
+            timer = timers.computeIfAbsent(timerKey, this::createTimer);
+        }
+        timer.record(duration);
+    }
+
+    private Timer createTimer(TimerKey key) {
+        return Timer.builder(METER_NAME)
+                .description("The duration while the virtual threads were pinned, by application entry point")
+                .tags(tags)
+                .tag("entry_point", key.entryPoint())
+                .tag("frame", key.frame())
+                .register(registry);
+    }
+
+    /**
+     * @return the outermost application method of the stack
+     */
+    static String entryPoint(List<StackTraceElement> frames) {
+        for (int i = frames.size() - 1; i >= 0; i--) {
+            StackTraceElement frame = frames.get(i);
+            if (isApplicationClass(frame.getClassName())) {
+                return frame.getClassName() + "#" + frame.getMethodName();
+            }
+        }
+        return UNKNOWN;
+    }
+
+    /**
+     * @return the topmost frames of the stack, starting from the frame that parked the pinned thread
+     */
+    static List<String> pinningStack(List<StackTraceElement> frames, int depth) {
+        List<String> stack = new ArrayList<>(depth);
+        int i = 0;
+        while (i < frames.size() && isParkingClass(frames.get(i).getClassName())) {
+            i++;
+        }
+        for (; i < frames.size() && stack.size() < depth; i++) {
+            StackTraceElement frame = frames.get(i);
+            stack.add(frame.getClassName() + "." + frame.getMethodName()
+                    + (frame.getLineNumber() > 0 ? ":" + frame.getLineNumber() : ""));
+        }
+        return stack;
+    }
+
+    static boolean isApplicationClass(String className) {
+        for (String prefix : FRAMEWORK_PACKAGES) {
+            if (className.startsWith(prefix)) {
+                return false;
+            }
+        }
+        for (String marker : GENERATED_CLASS_MARKERS) {
+            if (className.contains(marker)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isParkingClass(String className) {
+        for (String prefix : PARKING_PACKAGES) {
+            if (className.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private record StackKey(String entryPoint, List<String> frames) {
+    }
+
+    private record TimerKey(String entryPoint, String frame) {
+    }
+
+    /**
+     * The pinning occurrences of an entry point with the same pinning stack.
+     */
+    public static class PinnedStack {
+
+        private final String entryPoint;
+        private final List<String> frames;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        PinnedStack(String entryPoint, List<String> frames) {
+            this.entryPoint = entryPoint;
+            this.frames = List.copyOf(frames);
+        }
+
+        void record(Duration duration) {
+            long nanos = duration.toNanos();
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+        }
+
+        public String getEntryPoint() {
+            return entryPoint;
+        }
+
+        public List<String> getFrames() {
+            return frames;
+        }
+
+        public long getCount() {
+            return count.sum();
+        }
+
+        public Duration getTotalDuration() {
+            return Duration.ofNanos(totalNanos.sum());
+        }
+
+        public Duration getMaxDuration() {
+            return Duration.ofNanos(maxNanos.get());
+        }
+    }
+}
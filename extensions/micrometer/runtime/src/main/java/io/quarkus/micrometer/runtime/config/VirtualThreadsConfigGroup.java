@@ -1,9 +1,11 @@
 package io.quarkus.micrometer.runtime.config;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 
 import io.quarkus.runtime.annotations.ConfigGroup;
+import io.smallrye.config.WithDefault;
 
 /**
  * Build / static runtime config for the virtual thread metric collection.
@@ -26,4 +28,30 @@ public interface VirtualThreadsConfigGroup extends MicrometerConfig.CapabilityEn
      * When set, tags are passed as: {@code key1=value1,key2=value2}.
      */
     Optional<List<String>> tags();
+
+    /**
+     * Whether the pinning of virtual threads is attributed to the application code that was running on the pinned
+     * thread.
+     * <p>
+     * When enabled, the {@code jdk.VirtualThreadPinned} events are recorded with their stack trace. Each event is
+     * attributed to the outermost application method of the stack, e.g. the REST endpoint, the messaging channel
+     * consumer or the scheduled method, and to the frames where the thread got pinned. The pinning occurrences are
+     * exposed by the {@code jvm.threads.virtual.pinned.by.entry.point} timer, and the aggregated stacks are listed in
+     * the Dev UI.
+     */
+    @WithDefault("false")
+    boolean attributePinning();
+
+    /**
+     * The minimum duration of a pinning to be attributed.
+     */
+    @WithDefault("20ms")
+    Duration pinningThreshold();
+
+    /**
+     * The number of frames of the pinning stacks that are aggregated, starting from the frame where the thread got
+     * pinned.
+     */
+    @WithDefault("5")
+    int pinningStackDepth();
 }
@@ -0,0 +1,68 @@
+package io.quarkus.micrometer.runtime.binder.vertx;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vertx.core.http.HttpMethod;
+
+public class RequestTimersTest {
+
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    RequestTimers timers = new RequestTimers(registry, Timer.builder("http.server.requests").withRegistry(registry));
+
+    @Test
+    public void testTimersAreCached() {
+        Timer timer = timers.get(HttpMethod.GET, "/item/{id}", 200);
+        Assertions.assertSame(timer, timers.get(HttpMethod.GET, "/item/{id}", 200));
+        Assertions.assertSame(timer, registry.get("http.server.requests")
+                .tag("method", "GET")
+                .tag("uri", "/item/{id}")
+                .tag("outcome", "SUCCESS")
+                .tag("status", "200")
+                .timer());
+
+        Assertions.assertNotSame(timer, timers.get(HttpMethod.GET, "/item/{id}", 404));
+        Assertions.assertNotSame(timer, timers.get(HttpMethod.POST, "/item/{id}", 200));
+        Assertions.assertEquals(3, timers.size());
+    }
+
+    @Test
+    public void testResetRequest() {
+        Timer timer = timers.get(HttpMethod.GET, "/item/{id}", RequestTimers.STATUS_RESET);
+        Assertions.assertSame(timer, registry.get("http.server.requests")
+                .tag("uri", "/item/{id}")
+                .tag("outcome", "CLIENT_ERROR")
+                .tag("status", "RESET")
+                .timer());
+    }
+
+    @Test
+    public void testRemovedTimersAreEvicted() {
+        Timer timer = timers.get(HttpMethod.GET, "/item/{id}", 200);
+        timers.get(HttpMethod.GET, "/item/{id}", 404);
+        registry.remove(timer);
+        Assertions.assertEquals(1, timers.size());
+
+        Timer registered = timers.get(HttpMethod.GET, "/item/{id}", 200);
+        Assertions.assertNotSame(timer, registered);
+        Assertions.assertSame(registered, registry.get("http.server.requests").tag("status", "200").timer());
+
+        registry.clear();
+        Assertions.assertEquals(0, timers.size());
+        Assertions.assertSame(timers.get(HttpMethod.GET, "/item/{id}", 404),
+                registry.get("http.server.requests").tag("status", "404").timer());
+    }
+
+    @Test
+    public void testCacheIsBounded() {
+        for (int i = 0; i < RequestTimers.MAX_CACHED_TIMERS + 10; i++) {
+            timers.get(HttpMethod.GET, "/item/" + i, 400);
+        }
+        Assertions.assertEquals(RequestTimers.MAX_CACHED_TIMERS, timers.size());
+        // the timers that are not cached are still registered
+        Assertions.assertEquals(RequestTimers.MAX_CACHED_TIMERS + 10,
+                registry.find("http.server.requests").timers().size());
+    }
+}
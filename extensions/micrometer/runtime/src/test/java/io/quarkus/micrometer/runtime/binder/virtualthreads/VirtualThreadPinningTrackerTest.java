@@ -0,0 +1,82 @@
+package io.quarkus.micrometer.runtime.binder.virtualthreads;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class VirtualThreadPinningTrackerTest {
+
+    private static final List<StackTraceElement> STACK = List.of(
+            frame("java.lang.VirtualThread", "parkOnCarrierThread", 10),
+            frame("java.lang.VirtualThread", "park", 20),
+            frame("java.util.concurrent.locks.LockSupport", "park", 30),
+            frame("org.acme.LegacyDriver", "read", 40),
+            frame("org.acme.Repository", "find", 50),
+            frame("org.acme.GreetingResource", "hello", 60),
+            frame("org.acme.GreetingResource_Subclass", "hello", 0),
+            frame("org.acme.GreetingResource$quarkusrestinvoker$hello_1234", "invoke", 0),
+            frame("org.jboss.resteasy.reactive.server.handlers.InvocationHandler", "handle", 70),
+            frame("java.lang.VirtualThread", "run", 80));
+
+    @Test
+    public void testAttribution() {
+        Assertions.assertEquals("org.acme.GreetingResource#hello", VirtualThreadPinningTracker.entryPoint(STACK));
+        Assertions.assertEquals(List.of("org.acme.LegacyDriver.read:40", "org.acme.Repository.find:50"),
+                VirtualThreadPinningTracker.pinningStack(STACK, 2));
+        Assertions.assertEquals(VirtualThreadPinningTracker.UNKNOWN,
+                VirtualThreadPinningTracker.entryPoint(List.of(frame("java.lang.VirtualThread", "run", 1))));
+    }
+
+    @Test
+    public void testRecord() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        VirtualThreadPinningTracker tracker = new VirtualThreadPinningTracker(registry, Tags.of("app", "test"),
+                Duration.ofMillis(20), 3);
+        tracker.record(STACK, Duration.ofMillis(30));
+        tracker.record(STACK, Duration.ofMillis(50));
+
+        List<VirtualThreadPinningTracker.PinnedStack> stacks = tracker.getPinnedStacks();
+        Assertions.assertEquals(1, stacks.size());
+        VirtualThreadPinningTracker.PinnedStack stack = stacks.get(0);
+        Assertions.assertEquals("org.acme.GreetingResource#hello", stack.getEntryPoint());
+        Assertions.assertEquals(3, stack.getFrames().size());
+        Assertions.assertEquals(2, stack.getCount());
+        Assertions.assertEquals(Duration.ofMillis(80), stack.getTotalDuration());
+        Assertions.assertEquals(Duration.ofMillis(50), stack.getMaxDuration());
+
+        Timer timer = registry.get(VirtualThreadPinningTracker.METER_NAME)
+                .tag("app", "test")
+                .tag("entry_point", "org.acme.GreetingResource#hello")
+                .tag("frame", "org.acme.LegacyDriver.read:40")
+                .timer();
+        Assertions.assertEquals(2, timer.count());
+    }
+
+    @Test
+    public void testCardinalityIsBounded() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        VirtualThreadPinningTracker tracker = new VirtualThreadPinningTracker(registry, Tags.empty(),
+                Duration.ofMillis(20), 3);
+        for (int i = 0; i < VirtualThreadPinningTracker.MAX_STACKS + 10; i++) {
+            tracker.record(List.of(frame("org.acme.Resource" + i, "get", 1)), Duration.ofMillis(25));
+        }
+        Assertions.assertEquals(VirtualThreadPinningTracker.MAX_STACKS, tracker.getPinnedStacks().size());
+        Assertions.assertEquals(10, tracker.getDroppedCount());
+        Assertions.assertEquals(VirtualThreadPinningTracker.MAX_TIMERS + 1,
+                registry.find(VirtualThreadPinningTracker.METER_NAME).timers().size());
+        Assertions.assertEquals(VirtualThreadPinningTracker.MAX_STACKS + 10 - VirtualThreadPinningTracker.MAX_TIMERS,
+                registry.get(VirtualThreadPinningTracker.METER_NAME)
+                        .tag("entry_point", VirtualThreadPinningTracker.OTHER)
+                        .timer().count());
+    }
+
+    private static StackTraceElement frame(String className, String methodName, int line) {
+        return new StackTraceElement(className, methodName, null, line);
+    }
+}
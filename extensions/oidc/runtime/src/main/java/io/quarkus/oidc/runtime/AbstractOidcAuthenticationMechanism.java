@@ -10,6 +10,7 @@
 import io.quarkus.security.identity.IdentityProviderManager;
 import io.quarkus.security.identity.SecurityIdentity;
 import io.quarkus.security.identity.request.TokenAuthenticationRequest;
+import io.quarkus.security.runtime.SecurityIdentityCache;
 import io.quarkus.vertx.core.runtime.context.VertxContextSafetyToggle;
 import io.quarkus.vertx.http.runtime.security.HttpAuthenticationMechanism;
 import io.quarkus.vertx.http.runtime.security.HttpSecurityUtils;
@@ -45,6 +46,15 @@ abstract class AbstractOidcAuthenticationMechanism {
 
     protected Uni<SecurityIdentity> authenticate(IdentityProviderManager identityProviderManager,
             RoutingContext context, TokenCredential token) {
+        return authenticate(identityProviderManager, context, token, null);
+    }
+
+    /**
+     * @param identityCachePartition the {@link SecurityIdentityCache} partition if the identity only depends on the
+     *        token, null otherwise
+     */
+    protected Uni<SecurityIdentity> authenticate(IdentityProviderManager identityProviderManager,
+            RoutingContext context, TokenCredential token, String identityCachePartition) {
         context.put(HttpAuthenticationMechanism.class.getName(), parent);
 
         if (propagateTokenCredentialWithDuplicatedCtx) {
@@ -60,7 +70,8 @@ protected Uni<SecurityIdentity> authenticate(IdentityProviderManager identityPro
                     .getLocal(ContextInternal.LOCAL_MAP, ConcurrentHashMap::new);
             locals.put(TokenCredential.class.getName(), tokenCredential);
             return identityProviderManager
-                    .authenticate(HttpSecurityUtils.setRoutingContextAttribute(new TokenAuthenticationRequest(token), context))
+                    .authenticate(HttpSecurityUtils.setRoutingContextAttribute(
+                            createTokenAuthenticationRequest(token, identityCachePartition), context))
                     .invoke(new Runnable() {
                         @Override
                         public void run() {
@@ -71,7 +82,16 @@ public void run() {
         }
 
         return identityProviderManager.authenticate(HttpSecurityUtils.setRoutingContextAttribute(
-                new TokenAuthenticationRequest(token), context));
+                createTokenAuthenticationRequest(token, identityCachePartition), context));
+    }
+
+    private static TokenAuthenticationRequest createTokenAuthenticationRequest(TokenCredential token,
+            String identityCachePartition) {
+        TokenAuthenticationRequest request = new TokenAuthenticationRequest(token);
+        if (identityCachePartition != null) {
+            SecurityIdentityCache.setCachePartition(request, identityCachePartition);
+        }
+        return request;
     }
 
 }
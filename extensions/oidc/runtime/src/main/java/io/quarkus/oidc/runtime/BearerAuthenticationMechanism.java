@@ -54,12 +54,23 @@ public Uni<SecurityIdentity> authenticate(RoutingContext context,
             } catch (AuthenticationFailedException ex) {
                 return Uni.createFrom().failure(ex);
             }
-            return authenticate(identityProviderManager, context, new AccessTokenCredential(token));
+            return authenticate(identityProviderManager, context, new AccessTokenCredential(token),
+                    getIdentityCachePartition(context, oidcTenantConfig));
         }
         LOG.debug("Bearer access token is not available");
         return Uni.createFrom().nullItem();
     }
 
+    private static String getIdentityCachePartition(RoutingContext context, OidcTenantConfig oidcTenantConfig) {
+        // the certificate and DPoP bound tokens, as well as the step-up authentication, must be verified for each request
+        if (oidcTenantConfig.token().binding().certificate()
+                || OidcUtils.isDPoPScheme(oidcTenantConfig.token().authorizationScheme())
+                || StepUpAuthenticationPolicy.getFromRoutingContext(context) != null) {
+            return null;
+        }
+        return OidcUtils.getIdentityCachePartition(oidcTenantConfig);
+    }
+
     private static void setCertificateThumbprint(RoutingContext context, OidcTenantConfig oidcTenantConfig, String token) {
         if (oidcTenantConfig.token().binding().certificate()) {
             Certificate cert = getCertificate(context, token);
@@ -40,7 +40,7 @@ public DefaultTokenIntrospectionUserInfoCache(OidcConfig oidcConfig, Vertx vertx
     @Override
     public Uni<Void> addIntrospection(String token, TokenIntrospection introspection, OidcTenantConfig oidcTenantConfig,
             OidcRequestContext<Void> requestContext) {
-        CacheEntry entry = cache.get(token);
+        CacheEntry entry = cache.peek(token);
         if (entry != null) {
             entry.introspection = introspection;
         } else {
@@ -75,7 +75,7 @@ private static boolean isTokenExpired(Long exp, OidcTenantConfig oidcConfig) {
     @Override
     public Uni<Void> addUserInfo(String token, UserInfo userInfo, OidcTenantConfig oidcTenantConfig,
             OidcRequestContext<Void> requestContext) {
-        CacheEntry entry = cache.get(token);
+        CacheEntry entry = cache.peek(token);
         if (entry != null) {
             entry.userInfo = userInfo;
         } else {
@@ -113,6 +113,18 @@ public int getCacheSize() {
         return cache.getCacheSize();
     }
 
+    public long getHitCount() {
+        return cache.getHitCount();
+    }
+
+    public long getMissCount() {
+        return cache.getMissCount();
+    }
+
+    public long getEvictionCount() {
+        return cache.getEvictionCount();
+    }
+
     void shutdown(@Observes ShutdownEvent event, Vertx vertx) {
         cache.stopTimer(vertx);
     }
@@ -1,30 +1,55 @@
 package io.quarkus.oidc.runtime;
 
 import java.time.Duration;
-import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 
+/**
+ * A bounded in-memory cache whose entries expire after a time to live.
+ * <p>
+ * The entries are spread across segments, each guarded by its own lock, so that the concurrent requests rarely
+ * compete for the same lock. Each segment evicts its least recently used entry when it is full, and keeps its entries
+ * ordered by expiry time, so that both the eviction and the removal of the expired entries only touch the entries
+ * being removed. The expired entries are never returned, and are removed when they are looked up, when a segment is
+ * full, and by the optional clean up timer.
+ */
 public class MemoryCache<T> {
+
+    // below this number of entries per segment, a single segment is used so that the cache is exactly LRU
+    private static final int MIN_SEGMENT_CAPACITY = 64;
+    private static final int MAX_SEGMENTS = 16;
+
     private volatile Long timerId = null;
 
-    private final Map<String, CacheEntry<T>> cacheMap = new ConcurrentHashMap<>();
-    private final AtomicInteger size = new AtomicInteger();
-    private final Duration cacheTimeToLive;
+    private final Segment[] segments;
+    private final int segmentMask;
+    private final long cacheTimeToLive;
     private final int cacheSize;
     private final Runnable startTimer;
 
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    @SuppressWarnings("unchecked")
     public MemoryCache(Vertx vertx, Optional<Duration> cleanUpTimerInterval,
             Duration cacheTimeToLive, int cacheSize) {
-        this.cacheTimeToLive = cacheTimeToLive;
+        this.cacheTimeToLive = cacheTimeToLive.toMillis();
         this.cacheSize = cacheSize;
+        int segmentCount = Integer.highestOneBit(Math.max(1, Math.min(MAX_SEGMENTS, cacheSize / MIN_SEGMENT_CAPACITY)));
+        int segmentCapacity = Math.max(0, (cacheSize + segmentCount - 1) / segmentCount);
+        this.segments = (Segment[]) new MemoryCache.Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment(segmentCapacity);
+        }
+        this.segmentMask = segmentCount - 1;
         if (vertx != null && cleanUpTimerInterval.isPresent()) {
             this.startTimer = () -> {
                 synchronized (MemoryCache.this) {
@@ -32,10 +57,8 @@ public MemoryCache(Vertx vertx, Optional<Duration> cleanUpTimerInterval,
                         timerId = vertx.setPeriodic(cleanUpTimerInterval.get().toMillis(), new Handler<Long>() {
                             @Override
                             public void handle(Long event) {
-                                if (!cacheMap.isEmpty()) {
-                                    // Remove all the entries which have expired
-                                    removeInvalidEntries();
-                                }
+                                // Remove all the entries which have expired
+                                removeInvalidEntries();
                             }
                         });
                     }
@@ -49,10 +72,8 @@ public void handle(Long event) {
     public void add(String key, T result) {
         if (cacheSize > 0) {
             startTimerIfNotRunning();
-            if (!prepareSpaceForNewCacheEntry()) {
-                clearCache();
-            }
-            cacheMap.put(key, new CacheEntry<>(result, now()));
+            long now = now();
+            segment(key).put(key, result, now + cacheTimeToLive, now);
         }
     }
 
@@ -63,17 +84,30 @@ private void startTimerIfNotRunning() {
     }
 
     public T remove(String key) {
-        CacheEntry<T> entry = removeCacheEntry(key);
-        return entry == null ? null : entry.result;
+        Node<T> node = segment(key).remove(key);
+        return node == null ? null : node.value;
     }
 
     public T get(String key) {
-        CacheEntry<T> entry = cacheMap.get(key);
-        return entry == null ? null : entry.result;
+        Node<T> node = segment(key).get(key, now(), true);
+        if (node == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return node.value;
+    }
+
+    /**
+     * Returns the value of a valid entry, without recording a hit or a miss, nor an access to the entry.
+     */
+    T peek(String key) {
+        Node<T> node = segment(key).get(key, now(), false);
+        return node == null ? null : node.value;
     }
 
     public boolean containsKey(String key) {
-        return cacheMap.containsKey(key);
+        return segment(key).get(key, now(), false) != null;
     }
 
     T getOrComputeDeferredValue(String key, Function<CacheEntryAction, T> itemFactory) {
@@ -82,85 +116,53 @@ T getOrComputeDeferredValue(String key, Function<CacheEntryAction, T> itemFactor
 
     private void removeInvalidEntries() {
         long now = now();
-        for (Map.Entry<String, CacheEntry<T>> next : cacheMap.entrySet()) {
-            if (next != null) {
-                if (isEntryExpired(next.getValue(), now)) {
-                    removeCacheEntry(next.getKey(), next.getValue());
-                }
-            }
+        for (Segment segment : segments) {
+            segment.expire(now);
         }
     }
 
-    private void removeCacheEntry(String key, CacheEntry<T> entry) {
-        if (cacheMap.remove(key, entry)) {
-            size.decrementAndGet();
-        }
-    }
-
-    private void evictEldest() {
-        int overflow = cacheMap.size() - cacheSize;
-        if (overflow <= 0) {
-            return;
-        }
-        long[] times = new long[overflow];
-        var entries = new ArrayList<Map.Entry<String, CacheEntry<T>>>(overflow);
-        int found = 0;
-        for (var next : cacheMap.entrySet()) {
-            long createdTime = next.getValue().createdTime();
-            if (found < overflow) {
-                times[found] = createdTime;
-                entries.add(next);
-                found++;
-            } else {
-                int youngest = 0;
-                for (int i = 1; i < overflow; i++) {
-                    if (times[i] > times[youngest]) {
-                        youngest = i;
-                    }
-                }
-                if (createdTime < times[youngest]) {
-                    times[youngest] = createdTime;
-                    entries.set(youngest, next);
-                }
-            }
-        }
-        entries.forEach(e -> removeCacheEntry(e.getKey(), e.getValue()));
+    private Segment segment(String key) {
+        int h = key.hashCode();
+        return segments[(h ^ (h >>> 16)) & segmentMask];
     }
 
-    private boolean prepareSpaceForNewCacheEntry() {
-        int currentSize;
-        do {
-            currentSize = size.get();
-            if (currentSize == cacheSize) {
-                return false;
-            }
-        } while (!size.compareAndSet(currentSize, currentSize + 1));
-        return true;
+    private static long now() {
+        return System.currentTimeMillis();
     }
 
-    private CacheEntry<T> removeCacheEntry(String token) {
-        CacheEntry<T> entry = cacheMap.remove(token);
-        if (entry != null) {
-            size.decrementAndGet();
+    public int getCacheSize() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size;
         }
-        return entry;
+        return size;
     }
 
-    private boolean isEntryExpired(CacheEntry<T> entry, long now) {
-        return entry.createdTime + cacheTimeToLive.toMillis() < now;
+    /**
+     * @return the number of lookups which found a valid entry
+     */
+    public long getHitCount() {
+        return hits.sum();
     }
 
-    private static long now() {
-        return System.currentTimeMillis();
+    /**
+     * @return the number of lookups which did not find a valid entry
+     */
+    public long getMissCount() {
+        return misses.sum();
     }
 
-    public int getCacheSize() {
-        return cacheMap.size();
+    /**
+     * @return the number of valid entries removed to make room for new entries
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
     }
 
     public void clearCache() {
-        cacheMap.clear();
-        size.set(0);
+        for (Segment segment : segments) {
+            segment.clear();
+        }
     }
 
     public void stopTimer(Vertx vertx) {
@@ -173,8 +175,173 @@ public boolean isTimerRunning() {
         return timerId != null;
     }
 
-    private record CacheEntry<S>(S result, long createdTime) {
+    /**
+     * A cache entry, linked both in the access order and in the expiry order of its segment.
+     */
+    private static final class Node<S> {
+        final String key;
+        final S value;
+        long expiresAt;
+
+        Node<S> accessPrev;
+        Node<S> accessNext;
+        Node<S> expiryPrev;
+        Node<S> expiryNext;
+
+        Node(String key, S value, long expiresAt) {
+            this.key = key;
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isExpired(long now) {
+            return expiresAt < now;
+        }
+    }
+
+    private final class Segment {
+
+        private final int capacity;
+        private final Map<String, Node<T>> map = new HashMap<>();
+        // the sentinels of the circular lists: the least recently used and the first expiring entries come first
+        private final Node<T> accessOrder = sentinel();
+        private final Node<T> expiryOrder = sentinel();
+        // written under the lock, read without it
+        private volatile int size;
+
+        Segment(int capacity) {
+            this.capacity = capacity;
+        }
+
+        synchronized Node<T> get(String key, long now, boolean recordAccess) {
+            Node<T> node = map.get(key);
+            if (node == null) {
+                return null;
+            }
+            if (node.isExpired(now)) {
+                unlink(node);
+                return null;
+            }
+            if (recordAccess) {
+                unlinkAccess(node);
+                linkAccessLast(node);
+            }
+            return node;
+        }
+
+        synchronized void put(String key, T value, long expiresAt, long now) {
+            link(new Node<>(key, value, expiresAt), now);
+        }
+
+        synchronized Node<T> computeIfAbsent(String key, long now, Function<String, Node<T>> factory) {
+            Node<T> node = get(key, now, true);
+            if (node == null) {
+                node = factory.apply(key);
+                link(node, now);
+            }
+            return node;
+        }
+
+        synchronized Node<T> remove(String key) {
+            Node<T> node = map.get(key);
+            if (node != null) {
+                unlink(node);
+            }
+            return node;
+        }
+
+        synchronized void remove(Node<T> node) {
+            if (map.get(node.key) == node) {
+                unlink(node);
+            }
+        }
+
+        synchronized void resetExpiry(Node<T> node, long expiresAt) {
+            if (map.get(node.key) == node) {
+                unlinkExpiry(node);
+                node.expiresAt = expiresAt;
+                linkExpiry(node);
+            }
+        }
+
+        synchronized void expire(long now) {
+            Node<T> first;
+            while ((first = expiryOrder.expiryNext) != expiryOrder && first.isExpired(now)) {
+                unlink(first);
+            }
+        }
+
+        synchronized void clear() {
+            map.clear();
+            accessOrder.accessPrev = accessOrder.accessNext = accessOrder;
+            expiryOrder.expiryPrev = expiryOrder.expiryNext = expiryOrder;
+            size = 0;
+        }
+
+        private void link(Node<T> node, long now) {
+            Node<T> previous = map.put(node.key, node);
+            if (previous != null) {
+                unlinkAccess(previous);
+                unlinkExpiry(previous);
+            }
+            linkAccessLast(node);
+            linkExpiry(node);
+            size = map.size();
+            if (size > capacity) {
+                // the expired entries go first, then the least recently used ones
+                expire(now);
+                while (size > capacity) {
+                    unlink(accessOrder.accessNext);
+                    evictions.increment();
+                }
+            }
+        }
+
+        private void unlink(Node<T> node) {
+            map.remove(node.key);
+            unlinkAccess(node);
+            unlinkExpiry(node);
+            size = map.size();
+        }
+
+        private void linkAccessLast(Node<T> node) {
+            Node<T> last = accessOrder.accessPrev;
+            node.accessPrev = last;
+            node.accessNext = accessOrder;
+            last.accessNext = node;
+            accessOrder.accessPrev = node;
+        }
+
+        private void unlinkAccess(Node<T> node) {
+            node.accessPrev.accessNext = node.accessNext;
+            node.accessNext.accessPrev = node.accessPrev;
+            node.accessPrev = node.accessNext = null;
+        }
 
+        private void linkExpiry(Node<T> node) {
+            // the entries mostly share the same time to live, so the new entry usually expires last
+            Node<T> previous = expiryOrder.expiryPrev;
+            while (previous != expiryOrder && previous.expiresAt > node.expiresAt) {
+                previous = previous.expiryPrev;
+            }
+            node.expiryPrev = previous;
+            node.expiryNext = previous.expiryNext;
+            previous.expiryNext.expiryPrev = node;
+            previous.expiryNext = node;
+        }
+
+        private void unlinkExpiry(Node<T> node) {
+            node.expiryPrev.expiryNext = node.expiryNext;
+            node.expiryNext.expiryPrev = node.expiryPrev;
+            node.expiryPrev = node.expiryNext = null;
+        }
+
+        private Node<T> sentinel() {
+            Node<T> sentinel = new Node<>(null, null, Long.MAX_VALUE);
+            sentinel.accessPrev = sentinel.accessNext = sentinel;
+            sentinel.expiryPrev = sentinel.expiryNext = sentinel;
+            return sentinel;
+        }
     }
 
     private final class DeferredCacheValue implements CacheEntryAction {
@@ -183,7 +350,7 @@ private final class DeferredCacheValue implements CacheEntryAction {
         private static final long GRACE_PERIOD_MILLIS = 5_000L;
 
         private final String key;
-        private volatile CacheEntry<T> cacheEntry;
+        private volatile Node<T> cacheEntry;
 
         private DeferredCacheValue(String key) {
             this.key = Objects.requireNonNull(key);
@@ -195,47 +362,42 @@ private T computeIfAbsent(Function<CacheEntryAction, T> valueFactory) {
                 return valueFactory.apply(this);
             }
             if (cacheEntry == null) {
-                if (cacheMap.size() >= cacheSize) {
-                    removeInvalidEntries();
-                }
-                var createIfAbsent = new Function<String, CacheEntry<T>>() {
+                var createIfAbsent = new Function<String, Node<T>>() {
 
                     private boolean applied = false;
 
                     @Override
-                    public CacheEntry<T> apply(String k) {
+                    public Node<T> apply(String k) {
                         applied = true;
-                        long entryCreated = now() + GRACE_PERIOD_MILLIS;
-                        return new CacheEntry<>(valueFactory.apply(DeferredCacheValue.this), entryCreated);
+                        long expiresAt = now() + GRACE_PERIOD_MILLIS + cacheTimeToLive;
+                        return new Node<>(k, valueFactory.apply(DeferredCacheValue.this), expiresAt);
                     }
                 };
-                cacheEntry = cacheMap.computeIfAbsent(key, createIfAbsent);
+                cacheEntry = segment(key).computeIfAbsent(key, now(), createIfAbsent);
                 if (createIfAbsent.applied) {
+                    misses.increment();
                     startTimerIfNotRunning();
-                    size.incrementAndGet();
-                    if (cacheMap.size() > cacheSize) {
-                        evictEldest();
-                    }
+                } else {
+                    hits.increment();
                 }
             }
-            return cacheEntry.result();
+            return cacheEntry.value;
         }
 
         @Override
         public void remove() {
             var e = cacheEntry;
             if (e != null) {
-                removeCacheEntry(key, e);
+                segment(key).remove(e);
             }
         }
 
         // must be called after the old entry was created, otherwise it is no-op
         @Override
         public void startCachingPeriod() {
-            var oldEntry = cacheEntry;
-            if (oldEntry != null) {
-                var newEntry = cacheEntry = new CacheEntry<>(oldEntry.result(), now());
-                cacheMap.replace(key, oldEntry, newEntry);
+            var e = cacheEntry;
+            if (e != null) {
+                segment(key).resetExpiry(e, now() + cacheTimeToLive);
             }
         }
 
@@ -40,6 +40,9 @@
 import org.jose4j.lang.InvalidAlgorithmException;
 import org.jose4j.lang.UnresolvableKeyException;
 
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.InstanceHandle;
 import io.quarkus.oidc.AuthorizationCodeTokens;
 import io.quarkus.oidc.OIDCException;
 import io.quarkus.oidc.OidcConfigurationMetadata;
@@ -52,6 +55,7 @@
 import io.quarkus.oidc.common.runtime.OidcConstants;
 import io.quarkus.security.AuthenticationFailedException;
 import io.quarkus.security.credential.TokenCredential;
+import io.quarkus.security.runtime.SecurityIdentityCache;
 import io.smallrye.jwt.algorithm.SignatureAlgorithm;
 import io.smallrye.jwt.util.KeyUtils;
 import io.smallrye.mutiny.Uni;
@@ -645,6 +649,8 @@ public Uni<Void> refresh() {
                             @Override
                             public Uni<? extends Void> apply(JsonWebKeySet t) {
                                 jwks = t;
+                                // the identities verified with the removed keys must not be used anymore
+                                invalidateIdentityCache();
                                 return Uni.createFrom().voidItem();
                             }
 
@@ -656,6 +662,16 @@ public Uni<? extends Void> apply(JsonWebKeySet t) {
 
     }
 
+    private void invalidateIdentityCache() {
+        ArcContainer container = Arc.container();
+        if (container != null) {
+            InstanceHandle<SecurityIdentityCache> identityCache = container.instance(SecurityIdentityCache.class);
+            if (identityCache.isAvailable()) {
+                identityCache.get().invalidate(OidcUtils.getIdentityCachePartition(oidcConfig));
+            }
+        }
+    }
+
     private static class LocalPublicKeyResolver implements RefreshableVerificationKeyResolver {
         Key key;
 
@@ -25,6 +25,7 @@
 import io.quarkus.runtime.annotations.Recorder;
 import io.quarkus.runtime.annotations.RuntimeInit;
 import io.quarkus.runtime.annotations.StaticInit;
+import io.quarkus.runtime.metrics.MetricsFactory;
 import io.quarkus.security.AuthenticationFailedException;
 import io.quarkus.security.runtime.SecurityConfig;
 import io.quarkus.tls.TlsConfigurationRegistry;
@@ -55,6 +56,29 @@ public DefaultTokenIntrospectionUserInfoCache get() {
         };
     }
 
+    public Consumer<MetricsFactory> registerTokenCacheMetrics() {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                // the cache bean is looked up lazily as it is created during the runtime init
+                Supplier<DefaultTokenIntrospectionUserInfoCache> cache = () -> Arc.container()
+                        .instance(DefaultTokenIntrospectionUserInfoCache.class).get();
+                metricsFactory.builder("oidc.token.cache.size")
+                        .description("Number of entries in the default token introspection and UserInfo cache.")
+                        .buildGauge(() -> cache.get().getCacheSize());
+                metricsFactory.builder("oidc.token.cache.hits")
+                        .description("Number of token introspection and UserInfo lookups found in the cache.")
+                        .buildCounter(() -> cache.get().getHitCount());
+                metricsFactory.builder("oidc.token.cache.misses")
+                        .description("Number of token introspection and UserInfo lookups not found in the cache.")
+                        .buildCounter(() -> cache.get().getMissCount());
+                metricsFactory.builder("oidc.token.cache.evictions")
+                        .description("Number of cache entries evicted to make room for new entries.")
+                        .buildCounter(() -> cache.get().getEvictionCount());
+            }
+        };
+    }
+
     @StaticInit
     public void setUserInfoInjectionPointDetected(boolean userInfoInjectionPointDetected) {
         TenantContextFactory.userInfoInjectionPointDetected = userInfoInjectionPointDetected;
@@ -74,6 +74,7 @@
 import io.quarkus.security.identity.request.TokenAuthenticationRequest;
 import io.quarkus.security.runtime.QuarkusSecurityIdentity;
 import io.quarkus.security.runtime.QuarkusSecurityIdentity.Builder;
+import io.quarkus.security.runtime.SecurityIdentityCache;
 import io.quarkus.vertx.http.runtime.security.HttpSecurityUtils;
 import io.smallrye.jwt.algorithm.ContentEncryptionAlgorithm;
 import io.smallrye.jwt.algorithm.KeyEncryptionAlgorithm;
@@ -145,7 +146,7 @@ public final class OidcUtils {
      */
     private static final Pattern CLAIM_PATH_PATTERN = Pattern.compile("\\/(?=(?:(?:[^\"]*\"){2})*[^\"]*$)");
     private static final String EXTRACTED_BEARER_TOKEN = "quarkus.oidc.extracted-bearer-token";
-    public static final String QUARKUS_IDENTITY_EXPIRE_TIME = "quarkus.identity.expire-time";
+    public static final String QUARKUS_IDENTITY_EXPIRE_TIME = SecurityIdentityCache.EXPIRE_TIME_ATTRIBUTE;
 
     private OidcUtils() {
 
@@ -994,6 +995,10 @@ public static boolean isDPoPScheme(String authorizationScheme) {
         return OidcConstants.DPOP_SCHEME.equalsIgnoreCase(authorizationScheme);
     }
 
+    static String getIdentityCachePartition(OidcTenantConfig oidcConfig) {
+        return "oidc:" + oidcConfig.tenantId().orElse(DEFAULT_TENANT_ID);
+    }
+
     public static String getRootPath(String configuredRootPath) {
         // Prepend '/' if it is not present
         String rootPath = OidcCommonUtils.prependSlash(configuredRootPath);
@@ -80,15 +80,56 @@ public void testAddWhenMaxCacheSizeIsReached() throws Exception {
         cache.add("2", new Bean("2"));
         assertEquals(2, cache.getCacheSize());
 
-        // Currently, if the cache is full and a new entry has to be added, then the whole cache is cleared
-        // It can be optimized to remove the oldest entry only in the future
+        // If the cache is full and a new entry has to be added, then the least recently used entry is evicted
+        assertEquals("1", cache.get("1").name);
 
         cache.add("3", new Bean("3"));
-        assertEquals(1, cache.getCacheSize());
+        assertEquals(2, cache.getCacheSize());
 
-        assertNull(cache.get("1"));
+        assertEquals("1", cache.get("1").name);
         assertNull(cache.get("2"));
         assertEquals("3", cache.get("3").name);
+        assertEquals(1, cache.getEvictionCount());
+    }
+
+    @Test
+    public void testExpiredEntryIsNotReturned() throws Exception {
+
+        MemoryCache<Bean> cache = new MemoryCache<Bean>(vertx,
+                // no timer
+                Optional.empty(),
+                // entry is valid for 100 milliseconds
+                Duration.ofMillis(100),
+                // max cache size
+                2);
+        cache.add("1", new Bean("1"));
+        assertTrue(cache.containsKey("1"));
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> cache.get("1") == null);
+        assertFalse(cache.containsKey("1"));
+        assertEquals(0, cache.getCacheSize());
+    }
+
+    @Test
+    public void testStatistics() throws Exception {
+
+        MemoryCache<Bean> cache = new MemoryCache<Bean>(vertx,
+                // no timer
+                Optional.empty(),
+                // entry is valid for 3 seconds
+                Duration.ofSeconds(3),
+                // max cache size
+                1000);
+        for (int i = 0; i < 10_000; i++) {
+            cache.add(String.valueOf(i), new Bean(String.valueOf(i)));
+        }
+        assertTrue(cache.getCacheSize() <= 1000);
+        assertEquals(10_000 - cache.getCacheSize(), cache.getEvictionCount());
+
+        assertEquals("9999", cache.get("9999").name);
+        assertNull(cache.get("0"));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
     }
 
     static class Bean {
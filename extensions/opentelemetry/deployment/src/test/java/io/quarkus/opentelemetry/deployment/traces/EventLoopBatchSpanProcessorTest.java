@@ -0,0 +1,182 @@
+package io.quarkus.opentelemetry.deployment.traces;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.inject.Inject;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import io.quarkus.opentelemetry.deployment.common.TestUtil;
+import io.quarkus.opentelemetry.deployment.common.exporter.TestSpanExporter;
+import io.quarkus.opentelemetry.deployment.common.exporter.TestSpanExporterProvider;
+import io.quarkus.opentelemetry.runtime.tracing.EventLoopBatchSpanProcessor;
+import io.quarkus.test.QuarkusExtensionTest;
+import io.vertx.core.Vertx;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class EventLoopBatchSpanProcessorTest {
+
+    @RegisterExtension
+    static final QuarkusExtensionTest TEST = new QuarkusExtensionTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(TestUtil.class, TestSpanExporter.class, TestSpanExporterProvider.class)
+                    .addAsResource(new StringAsset(TestSpanExporterProvider.class.getCanonicalName()),
+                            "META-INF/services/io.opentelemetry.sdk.autoconfigure.spi.traces.ConfigurableSpanExporterProvider"))
+            .overrideConfigKey("quarkus.otel.bsp.event-loop.enabled", "true")
+            .overrideConfigKey("quarkus.otel.bsp.schedule.delay", "50ms")
+            .overrideConfigKey("quarkus.otel.bsp.max.export.batch.size", "2")
+            .overrideConfigKey("quarkus.otel.traces.exporter", "test-span-exporter")
+            .overrideConfigKey("quarkus.otel.traces.sampler.arg", "1.0d")
+            .overrideConfigKey("quarkus.otel.metrics.enabled", "false")
+            .overrideConfigKey("quarkus.otel.logs.enabled", "false")
+            .overrideConfigKey("quarkus.datasource.devservices.enabled", "false");
+
+    @Inject
+    OpenTelemetry openTelemetry;
+
+    @Inject
+    TestSpanExporter testSpanExporter;
+
+    @Inject
+    Vertx vertx;
+
+    @BeforeEach
+    void setUp() {
+        testSpanExporter.reset();
+    }
+
+    @Test
+    void activeProcessorIsEventLoopBatchSpanProcessor() throws Exception {
+        assertInstanceOf(EventLoopBatchSpanProcessor.class, TestUtil.getActiveSpanProcessor(openTelemetry));
+    }
+
+    @Test
+    void batchSpanProcessorIsNotCreated() {
+        // the SDK batch span processor starts its worker thread as soon as it is created
+        assertTrue(Thread.getAllStackTraces().keySet().stream()
+                .noneMatch(thread -> thread.getName().startsWith("BatchSpanProcessor")));
+    }
+
+    @Test
+    void spansAreExportedInBatches() {
+        Tracer tracer = openTelemetry.getTracer("test");
+
+        // more spans than the batch size, and not a multiple of it, so that the periodic export is also involved
+        for (int i = 0; i < 5; i++) {
+            Span span = tracer.spanBuilder("span-" + i).startSpan();
+            span.end();
+        }
+
+        List<SpanData> spans = testSpanExporter.getFinishedSpanItems(5);
+        assertEquals(5, spans.size());
+    }
+
+    @Test
+    @Order(Integer.MAX_VALUE)
+    void shutdownFlushesTheQueuedSpans() throws Exception {
+        SpanProcessor activeProcessor = TestUtil.getActiveSpanProcessor(openTelemetry);
+
+        Tracer tracer = openTelemetry.getTracer("test");
+        Span span = tracer.spanBuilder("before-shutdown").startSpan();
+        span.end();
+
+        CompletableResultCode shutdownResult = activeProcessor.shutdown();
+        shutdownResult.join(5, TimeUnit.SECONDS);
+        assertTrue(shutdownResult.isSuccess(), "Shutdown result should be successful");
+        assertEquals(1, testSpanExporter.getFinishedSpanItems(1).size());
+        assertEquals(0, ((EventLoopBatchSpanProcessor) activeProcessor).getDroppedSpans());
+    }
+
+    @Test
+    void shutdownWaitsForTheExportsInFlight() {
+        PendingSpanExporter exporter = new PendingSpanExporter();
+        EventLoopBatchSpanProcessor processor = new EventLoopBatchSpanProcessor(exporter, vertx, 16, 1,
+                Duration.ofSeconds(30), 2, Duration.ofSeconds(30));
+        try (SdkTracerProvider tracerProvider = SdkTracerProvider.builder().addSpanProcessor(processor).build()) {
+            tracerProvider.get("test").spanBuilder("in-flight").startSpan().end();
+            await().atMost(5, TimeUnit.SECONDS).until(() -> exporter.exports.size() == 1);
+
+            CompletableResultCode shutdownResult = processor.shutdown();
+            shutdownResult.join(200, TimeUnit.MILLISECONDS);
+            assertFalse(shutdownResult.isDone(), "Shutdown should wait for the export in flight");
+            assertFalse(exporter.shutdown);
+
+            exporter.exports.get(0).succeed();
+            shutdownResult.join(5, TimeUnit.SECONDS);
+            assertTrue(shutdownResult.isSuccess(), "Shutdown result should be successful");
+            assertTrue(exporter.shutdown);
+        }
+    }
+
+    @Test
+    void exportsTimeOut() {
+        PendingSpanExporter exporter = new PendingSpanExporter();
+        EventLoopBatchSpanProcessor processor = new EventLoopBatchSpanProcessor(exporter, vertx, 16, 1,
+                Duration.ofSeconds(30), 1, Duration.ofMillis(200));
+        try (SdkTracerProvider tracerProvider = SdkTracerProvider.builder().addSpanProcessor(processor).build()) {
+            tracerProvider.get("test").spanBuilder("timed-out").startSpan().end();
+            await().atMost(5, TimeUnit.SECONDS).until(() -> exporter.exports.size() == 1);
+
+            // the export that never completes no longer holds the only slot once it timed out
+            tracerProvider.get("test").spanBuilder("next").startSpan().end();
+            await().atMost(5, TimeUnit.SECONDS).until(() -> exporter.exports.size() == 2);
+
+            // the shutdown does not wait for the export in flight longer than the timeout
+            CompletableResultCode shutdownResult = processor.shutdown();
+            shutdownResult.join(5, TimeUnit.SECONDS);
+            assertTrue(shutdownResult.isDone(), "Shutdown should complete once the export timed out");
+            assertTrue(exporter.shutdown);
+        }
+    }
+
+    /**
+     * Completes the exports on demand, like a slow collector.
+     */
+    static final class PendingSpanExporter implements SpanExporter {
+
+        final List<CompletableResultCode> exports = new CopyOnWriteArrayList<>();
+        volatile boolean shutdown;
+
+        @Override
+        public CompletableResultCode export(Collection<SpanData> spans) {
+            CompletableResultCode result = new CompletableResultCode();
+            exports.add(result);
+            return result;
+        }
+
+        @Override
+        public CompletableResultCode flush() {
+            return CompletableResultCode.ofSuccess();
+        }
+
+        @Override
+        public CompletableResultCode shutdown() {
+            shutdown = true;
+            return CompletableResultCode.ofSuccess();
+        }
+    }
+}
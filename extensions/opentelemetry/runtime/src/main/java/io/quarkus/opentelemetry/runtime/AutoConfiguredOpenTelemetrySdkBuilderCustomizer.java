@@ -6,8 +6,12 @@
 
 import java.net.InetAddress;
 import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
 import java.util.Set;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.atomic.AtomicReference;
@@ -22,6 +26,8 @@
 import io.opentelemetry.context.propagation.TextMapPropagator;
 import io.opentelemetry.sdk.autoconfigure.AutoConfiguredOpenTelemetrySdkBuilder;
 import io.opentelemetry.sdk.autoconfigure.spi.ConfigProperties;
+import io.opentelemetry.sdk.autoconfigure.spi.ConfigurationException;
+import io.opentelemetry.sdk.autoconfigure.spi.traces.ConfigurableSpanExporterProvider;
 import io.opentelemetry.sdk.common.Clock;
 import io.opentelemetry.sdk.logs.LogRecordProcessor;
 import io.opentelemetry.sdk.logs.export.BatchLogRecordProcessor;
@@ -38,17 +44,21 @@
 import io.opentelemetry.sdk.trace.SdkTracerProviderBuilder;
 import io.opentelemetry.sdk.trace.SpanProcessor;
 import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
 import io.opentelemetry.sdk.trace.export.SpanExporter;
 import io.opentelemetry.sdk.trace.samplers.Sampler;
 import io.quarkus.arc.All;
 import io.quarkus.opentelemetry.runtime.config.build.OTelBuildConfig;
+import io.quarkus.opentelemetry.runtime.config.runtime.BatchSpanProcessorConfig;
 import io.quarkus.opentelemetry.runtime.config.runtime.OTelRuntimeConfig;
 import io.quarkus.opentelemetry.runtime.propagation.TextMapPropagatorCustomizer;
 import io.quarkus.opentelemetry.runtime.tracing.DropTargetsSampler;
+import io.quarkus.opentelemetry.runtime.tracing.EventLoopBatchSpanProcessor;
 import io.quarkus.opentelemetry.runtime.tracing.SimpleSpanProcessorWithBatchShutdown;
 import io.quarkus.opentelemetry.runtime.tracing.TracerRecorder;
 import io.quarkus.opentelemetry.runtime.tracing.TracerUtil;
 import io.quarkus.runtime.ApplicationConfig;
+import io.vertx.core.Vertx;
 
 public interface AutoConfiguredOpenTelemetrySdkBuilderCustomizer {
 
@@ -216,17 +226,30 @@ public String apply(String item) {
 
     @Singleton
     final class SpanProcessorCustomizer implements AutoConfiguredOpenTelemetrySdkBuilderCustomizer {
+        private static final String TRACES_EXPORTER = "otel.traces.exporter";
+
         private final OTelBuildConfig oTelBuildConfig;
+        private final OTelRuntimeConfig oTelRuntimeConfig;
         private final List<SpanProcessor> spanProcessors;
+        private final Instance<Vertx> vertx;
 
         public SpanProcessorCustomizer(OTelBuildConfig oTelBuildConfig,
-                @All List<SpanProcessor> spanProcessors) {
+                OTelRuntimeConfig oTelRuntimeConfig,
+                @All List<SpanProcessor> spanProcessors,
+                Instance<Vertx> vertx) {
             this.oTelBuildConfig = oTelBuildConfig;
+            this.oTelRuntimeConfig = oTelRuntimeConfig;
             this.spanProcessors = spanProcessors;
+            this.vertx = vertx;
         }
 
         @Override
         public void customize(AutoConfiguredOpenTelemetrySdkBuilder builder) {
+            if (spanProcessors.isEmpty() && !oTelBuildConfig.simple() && oTelRuntimeConfig.bsp().eventLoopEnabled()
+                    && vertx.isResolvable()) {
+                customizeEventLoopExport(builder, oTelRuntimeConfig.bsp());
+                return;
+            }
             builder.addSpanProcessorCustomizer(new BiFunction<SpanProcessor, ConfigProperties, SpanProcessor>() {
                 @Override
                 public SpanProcessor apply(SpanProcessor spanProcessor, ConfigProperties configProperties) {
@@ -246,6 +269,61 @@ public SpanProcessor apply(SpanProcessor spanProcessor, ConfigProperties configP
                 }
             });
         }
+
+        /**
+         * Creates the configured exporters instead of the SDK, which would otherwise wrap them in a
+         * {@link BatchSpanProcessor} and start its worker thread, and exports their spans with an
+         * {@link EventLoopBatchSpanProcessor}.
+         */
+        private void customizeEventLoopExport(AutoConfiguredOpenTelemetrySdkBuilder builder,
+                BatchSpanProcessorConfig bsp) {
+            AtomicReference<List<String>> exporterNames = new AtomicReference<>(emptyList());
+            builder.addPropertiesCustomizer(new Function<ConfigProperties, Map<String, String>>() {
+                @Override
+                public Map<String, String> apply(ConfigProperties configProperties) {
+                    exporterNames.set(configProperties.getList(TRACES_EXPORTER, List.of("otlp")));
+                    return Map.of(TRACES_EXPORTER, "none");
+                }
+            });
+            builder.addTracerProviderCustomizer(
+                    new BiFunction<SdkTracerProviderBuilder, ConfigProperties, SdkTracerProviderBuilder>() {
+                        @Override
+                        public SdkTracerProviderBuilder apply(SdkTracerProviderBuilder tracerProviderBuilder,
+                                ConfigProperties configProperties) {
+                            Map<String, ConfigurableSpanExporterProvider> providers = new HashMap<>();
+                            for (ConfigurableSpanExporterProvider provider : ServiceLoader.load(
+                                    ConfigurableSpanExporterProvider.class,
+                                    Thread.currentThread().getContextClassLoader())) {
+                                providers.putIfAbsent(provider.getName(), provider);
+                            }
+                            List<SpanExporter> spanExporters = new ArrayList<>();
+                            for (String name : exporterNames.get()) {
+                                if ("none".equals(name)) {
+                                    continue;
+                                }
+                                ConfigurableSpanExporterProvider provider = providers.get(name);
+                                if (provider == null) {
+                                    throw new ConfigurationException(
+                                            "Unrecognized value for " + TRACES_EXPORTER + ": " + name);
+                                }
+                                SpanExporter spanExporter = provider.createExporter(configProperties);
+                                if ("console".equals(name) || "logging".equals(name)) {
+                                    // the SDK does not batch the spans logged to the console either
+                                    tracerProviderBuilder.addSpanProcessor(SimpleSpanProcessor.create(spanExporter));
+                                } else if (!"NoopSpanExporter".equals(spanExporter.getClass().getSimpleName())) {
+                                    spanExporters.add(spanExporter);
+                                }
+                            }
+                            if (!spanExporters.isEmpty()) {
+                                tracerProviderBuilder.addSpanProcessor(new EventLoopBatchSpanProcessor(
+                                        SpanExporter.composite(spanExporters), vertx.get(), bsp.maxQueueSize(),
+                                        bsp.maxExportBatchSize(), bsp.scheduleDelay(),
+                                        bsp.eventLoopMaxConcurrentExports(), bsp.exportTimeout()));
+                            }
+                            return tracerProviderBuilder;
+                        }
+                    });
+        }
     }
 
     @Singleton
@@ -44,4 +44,30 @@ public interface BatchSpanProcessorConfig {
     @WithName("export.timeout")
     @WithDefault("30s")
     Duration exportTimeout();
+
+    /**
+     * Whether the spans are exported on the Vert.x event loop instead of the thread of the Batch Span Processor.
+     * <p>
+     * The finished spans are still queued in a bounded queue, and dropped when it is full. However, several batches may
+     * be exported at once, up to {@code quarkus.otel.bsp.event-loop.max-concurrent-exports}, instead of waiting for
+     * each export to complete before exporting the next batch. An export that does not complete within
+     * `quarkus.otel.bsp.export.timeout` is failed, so that the next batches can be exported.
+     * <p>
+     * The span exporters are invoked on the event loop and must not block. The OTLP exporters provided by Quarkus are
+     * non-blocking, but a custom `SpanExporter` bean must return immediately and complete the export asynchronously.
+     * <p>
+     * Default is `false`.
+     */
+    @WithName("event-loop.enabled")
+    @WithDefault("false")
+    boolean eventLoopEnabled();
+
+    /**
+     * The maximum number of concurrent exports when the spans are exported on the Vert.x event loop.
+     * <p>
+     * Default is `2`.
+     */
+    @WithName("event-loop.max-concurrent-exports")
+    @WithDefault("2")
+    int eventLoopMaxConcurrentExports();
 }
@@ -0,0 +1,249 @@
+package io.quarkus.opentelemetry.runtime.tracing;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jboss.logging.Logger;
+import org.jctools.queues.atomic.MpscAtomicArrayQueue;
+
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import io.vertx.core.Vertx;
+
+/**
+ * A batching span processor exporting the spans on a Vert.x event loop.
+ * <p>
+ * The finished spans are queued in a bounded lock-free queue, and dropped when the queue is full, so that ending a span
+ * never blocks. The batches are exported on the event loop, periodically and as soon as a full batch is available.
+ * Unlike the SDK {@code BatchSpanProcessor}, the processor does not wait for an export to complete before exporting the
+ * next batch: up to {@code maxConcurrentExports} exports may be in flight at once, so that a slow collector does not
+ * stall the export of the spans.
+ * <p>
+ * The {@link SpanExporter#export(java.util.Collection)} method is invoked on the event loop, hence the exporter must
+ * not block: it must initiate the export and complete the returned {@link CompletableResultCode} asynchronously, like
+ * the Vert.x based OTLP exporters do. A blocking exporter must dispatch the export to another thread itself.
+ * <p>
+ * An export that does not complete within {@code exportTimeout} is failed, so that it no longer counts as in flight.
+ * <p>
+ * The exporter is shut down with this processor, once the queued spans are exported and the exports in flight are
+ * completed, or after {@code exportTimeout} at most.
+ */
+public final class EventLoopBatchSpanProcessor implements SpanProcessor {
+
+    private static final Logger log = Logger.getLogger(EventLoopBatchSpanProcessor.class);
+
+    private final SpanExporter exporter;
+    private final io.vertx.core.Context context;
+    private final Queue<ReadableSpan> queue;
+    private final int maxExportBatchSize;
+    private final int maxConcurrentExports;
+    private final long exportTimeoutMillis;
+    private final long timerId;
+
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Set<CompletableResultCode> pendingExports = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean exportScheduled = new AtomicBoolean();
+    private final AtomicBoolean shutdown = new AtomicBoolean();
+    private final AtomicBoolean dropWarned = new AtomicBoolean();
+    private final LongAdder dropped = new LongAdder();
+    private final CompletableResultCode shutdownResult = new CompletableResultCode();
+
+    /**
+     * @param exportTimeout the maximum duration of an export, a zero duration meaning no timeout
+     */
+    public EventLoopBatchSpanProcessor(SpanExporter exporter, Vertx vertx, int maxQueueSize, int maxExportBatchSize,
+            Duration scheduleDelay, int maxConcurrentExports, Duration exportTimeout) {
+        this.exporter = exporter;
+        // all the exports are initiated from the same event loop
+        this.context = vertx.getOrCreateContext();
+        this.queue = new MpscAtomicArrayQueue<>(maxQueueSize);
+        this.maxExportBatchSize = maxExportBatchSize;
+        this.maxConcurrentExports = maxConcurrentExports;
+        this.exportTimeoutMillis = exportTimeout.toMillis();
+        this.timerId = vertx.setPeriodic(scheduleDelay.toMillis(), id -> context.runOnContext(v -> export(false)));
+    }
+
+    @Override
+    public void onStart(Context parentContext, ReadWriteSpan span) {
+    }
+
+    @Override
+    public boolean isStartRequired() {
+        return false;
+    }
+
+    @Override
+    public void onEnd(ReadableSpan span) {
+        if (!span.getSpanContext().isSampled() || shutdown.get()) {
+            return;
+        }
+        if (!queue.offer(span)) {
+            dropped.increment();
+            if (dropWarned.compareAndSet(false, true)) {
+                log.warn("The span queue is full, spans are dropped. Consider increasing quarkus.otel.bsp.max.queue.size");
+            }
+            return;
+        }
+        if (queued.incrementAndGet() >= maxExportBatchSize) {
+            scheduleExport();
+        }
+    }
+
+    @Override
+    public boolean isEndRequired() {
+        return true;
+    }
+
+    @Override
+    public CompletableResultCode forceFlush() {
+        CompletableResultCode result = new CompletableResultCode();
+        context.runOnContext(v -> {
+            export(true);
+            // the exports initiated before the flush are also awaited
+            CompletableResultCode exports = CompletableResultCode.ofAll(List.copyOf(pendingExports));
+            exports.whenComplete(() -> {
+                if (exports.isSuccess()) {
+                    result.succeed();
+                } else {
+                    result.fail();
+                }
+            });
+        });
+        return result;
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        if (!shutdown.compareAndSet(false, true)) {
+            return shutdownResult;
+        }
+        context.owner().cancelTimer(timerId);
+        CompletableResultCode flush = forceFlush();
+        // the exports started by the flush time out on their own, but they are only started once the flush runs
+        long flushTimer = setTimeout(flush);
+        flush.whenComplete(() -> {
+            if (flushTimer != -1) {
+                context.owner().cancelTimer(flushTimer);
+            }
+            if (dropped.sum() > 0) {
+                log.warnf("%d spans were dropped because the span queue was full", dropped.sum());
+            }
+            // the exporter is only shut down once no export is in flight
+            CompletableResultCode exporterShutdown = exporter.shutdown();
+            exporterShutdown.whenComplete(() -> {
+                if (exporterShutdown.isSuccess()) {
+                    shutdownResult.succeed();
+                } else {
+                    shutdownResult.fail();
+                }
+            });
+        });
+        return shutdownResult;
+    }
+
+    /**
+     * @return the number of spans dropped because the queue was full
+     */
+    public long getDroppedSpans() {
+        return dropped.sum();
+    }
+
+    private void scheduleExport() {
+        if (exportScheduled.compareAndSet(false, true)) {
+            context.runOnContext(v -> {
+                exportScheduled.set(false);
+                export(false);
+            });
+        }
+    }
+
+    /**
+     * Must be called on the event loop.
+     *
+     * @param all whether all the queued spans are exported, regardless of the number of exports in flight
+     */
+    private void export(boolean all) {
+        while (all || inFlight.get() < maxConcurrentExports) {
+            List<SpanData> batch = new ArrayList<>();
+            ReadableSpan span;
+            while (batch.size() < maxExportBatchSize && (span = queue.poll()) != null) {
+                batch.add(span.toSpanData());
+            }
+            if (batch.isEmpty()) {
+                break;
+            }
+            queued.addAndGet(-batch.size());
+            inFlight.incrementAndGet();
+            // completed by the exporter, or failed when the export times out
+            CompletableResultCode export = new CompletableResultCode();
+            pendingExports.add(export);
+            long exportTimer = setTimeout(export);
+            export.whenComplete(() -> exportCompleted(export, exportTimer));
+            CompletableResultCode result;
+            try {
+                result = exporter.export(batch);
+            } catch (RuntimeException e) {
+                log.debug("Exporter threw an exception", e);
+                result = CompletableResultCode.ofFailure();
+            }
+            CompletableResultCode exported = result;
+            result.whenComplete(() -> {
+                if (exported.isSuccess()) {
+                    export.succeed();
+                } else {
+                    export.fail();
+                }
+            });
+        }
+    }
+
+    /**
+     * @return the id of the timer failing the given result after the export timeout, or {@code -1} if there is no timeout
+     */
+    private long setTimeout(CompletableResultCode result) {
+        if (exportTimeoutMillis <= 0) {
+            return -1;
+        }
+        return context.owner().setTimer(exportTimeoutMillis, id -> {
+            if (!result.isDone()) {
+                log.debugf("Export timed out after %d ms", exportTimeoutMillis);
+                result.fail();
+            }
+        });
+    }
+
+    private void exportCompleted(CompletableResultCode export, long exportTimer) {
+        if (exportTimer != -1) {
+            context.owner().cancelTimer(exportTimer);
+        }
+        pendingExports.remove(export);
+        inFlight.decrementAndGet();
+        if (queued.get() >= maxExportBatchSize) {
+            // a full batch may have been left behind because of the exports in flight
+            scheduleExport();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "EventLoopBatchSpanProcessor{" +
+                "exporter=" + exporter +
+                ", maxExportBatchSize=" + maxExportBatchSize +
+                ", maxConcurrentExports=" + maxConcurrentExports +
+                ", exportTimeoutMillis=" + exportTimeoutMillis +
+                '}';
+    }
+}
@@ -0,0 +1,83 @@
+package io.quarkus.cache.redis.deployment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.redis.runtime.RedisCacheImpl;
+import io.quarkus.cache.redis.runtime.RedisCacheInfo;
+import io.quarkus.test.QuarkusExtensionTest;
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.mutiny.redis.client.Redis;
+import io.vertx.redis.client.Command;
+import io.vertx.redis.client.Request;
+
+public class CompressedRedisCacheTest {
+
+    private static final Supplier<Boolean> BLOCKING_ALLOWED = () -> false;
+
+    @RegisterExtension
+    static final QuarkusExtensionTest TEST = new QuarkusExtensionTest();
+
+    @Inject
+    Vertx vertx;
+
+    @Inject
+    Redis redis;
+
+    @Test
+    public void testLargeValuesAreCompressed() {
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "compressed";
+        info.valueType = String.class;
+        info.expireAfterWrite = Optional.of(Duration.ofMinutes(1));
+        info.compressionThreshold = OptionalInt.of(64);
+        RedisCacheImpl cache = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+
+        String small = "small";
+        String large = "large".repeat(1000);
+        String smallKey = UUID.randomUUID().toString();
+        String largeKey = UUID.randomUUID().toString();
+        cache.put(smallKey, small).await().indefinitely();
+        cache.put(largeKey, large).await().indefinitely();
+
+        byte[] storedSmall = redis.send(Request.cmd(Command.GET).arg("cache:compressed:" + smallKey)).await()
+                .indefinitely().toBytes();
+        byte[] storedLarge = redis.send(Request.cmd(Command.GET).arg("cache:compressed:" + largeKey)).await()
+                .indefinitely().toBytes();
+        // The format byte tells whether the value is compressed
+        assertThat(storedSmall[0]).isEqualTo((byte) 0);
+        assertThat(new String(storedSmall, 1, storedSmall.length - 1)).isEqualTo(small);
+        assertThat(storedLarge.length).isLessThan(large.length());
+        assertThat(storedLarge[0]).isEqualTo((byte) 1);
+
+        assertThat(cache.<String, String> getOrNull(smallKey, String.class).await().indefinitely()).isEqualTo(small);
+        assertThat(cache.<String, String> getOrNull(largeKey, String.class).await().indefinitely()).isEqualTo(large);
+        assertThat(cache.get(largeKey, String.class, k -> "computed").await().indefinitely()).isEqualTo(large);
+    }
+
+    @Test
+    public void testUncompressedValueStartingWithGzipMagicNumber() {
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "compressed-bytes";
+        info.valueType = byte[].class;
+        info.expireAfterWrite = Optional.of(Duration.ofMinutes(1));
+        info.compressionThreshold = OptionalInt.of(64);
+        RedisCacheImpl cache = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+
+        byte[] value = { (byte) 0x1f, (byte) 0x8b, 1, 2, 3 };
+        String key = UUID.randomUUID().toString();
+        cache.put(key, value).await().indefinitely();
+
+        assertThat(cache.<String, byte[]> getOrNull(key, byte[].class).await().indefinitely()).isEqualTo(value);
+    }
+}
@@ -0,0 +1,227 @@
+package io.quarkus.cache.redis.deployment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.redis.runtime.RedisCacheImpl;
+import io.quarkus.cache.redis.runtime.RedisCacheInfo;
+import io.quarkus.test.QuarkusExtensionTest;
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.mutiny.redis.client.Redis;
+import io.vertx.redis.client.Command;
+import io.vertx.redis.client.RedisConnection;
+import io.vertx.redis.client.Request;
+import io.vertx.redis.client.Response;
+
+public class NearCacheRedisCacheTest {
+
+    private static final Supplier<Boolean> BLOCKING_ALLOWED = () -> false;
+
+    @RegisterExtension
+    static final QuarkusExtensionTest TEST = new QuarkusExtensionTest();
+
+    @Inject
+    Vertx vertx;
+
+    @Inject
+    Redis redis;
+
+    @Test
+    public void testInvalidationIsPropagated() {
+        String k = UUID.randomUUID().toString();
+        String actualKey = "cache:near:" + k;
+        RedisCacheImpl first = new RedisCacheImpl(nearCacheInfo(), vertx, redis, BLOCKING_ALLOWED);
+        RedisCacheImpl second = new RedisCacheImpl(nearCacheInfo(), vertx, redis, BLOCKING_ALLOWED);
+
+        // Once subscribed, the value is served by the near cache even if Redis is modified behind its back
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> {
+            redis.send(Request.cmd(Command.DEL).arg(actualKey)).await().indefinitely();
+            assertThat(first.get(k, String.class, s -> "v1").await().indefinitely()).isEqualTo("v1");
+            redis.send(Request.cmd(Command.SET).arg(actualKey).arg("v2")).await().indefinitely();
+            assertThat(first.<String, String> getOrNull(k, String.class).await().indefinitely()).isEqualTo("v1");
+        });
+
+        second.invalidate(k).await().indefinitely();
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(
+                () -> assertThat(first.<String, String> getOrNull(k, String.class).await().indefinitely()).isNull());
+
+        assertThat(first.get(k, String.class, s -> "v3").await().indefinitely()).isEqualTo("v3");
+        second.invalidateAll().await().indefinitely();
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(
+                () -> assertThat(first.<String, String> getOrNull(k, String.class).await().indefinitely()).isNull());
+
+        first.close();
+        second.close();
+    }
+
+    @Test
+    public void testClosedNearCacheIsBypassed() {
+        String k = UUID.randomUUID().toString();
+        String actualKey = "cache:near:" + k;
+        RedisCacheImpl cache = new RedisCacheImpl(nearCacheInfo(), vertx, redis, BLOCKING_ALLOWED);
+
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> {
+            redis.send(Request.cmd(Command.DEL).arg(actualKey)).await().indefinitely();
+            assertThat(cache.get(k, String.class, s -> "v1").await().indefinitely()).isEqualTo("v1");
+            redis.send(Request.cmd(Command.SET).arg(actualKey).arg("v2")).await().indefinitely();
+            assertThat(cache.<String, String> getOrNull(k, String.class).await().indefinitely()).isEqualTo("v1");
+        });
+
+        cache.close();
+        // The near cache is bypassed and the subscription is not re-established
+        redis.send(Request.cmd(Command.DEL).arg(actualKey)).await().indefinitely();
+        assertThat(cache.<String, String> getOrNull(k, String.class).await().indefinitely()).isNull();
+        await().during(Duration.ofSeconds(2)).atMost(Duration.ofSeconds(5)).untilAsserted(() -> {
+            assertThat(cache.get(k, String.class, s -> "v3").await().indefinitely()).isEqualTo("v3");
+            redis.send(Request.cmd(Command.DEL).arg(actualKey)).await().indefinitely();
+            assertThat(cache.<String, String> getOrNull(k, String.class).await().indefinitely()).isNull();
+        });
+    }
+
+    @Test
+    public void testRejectedSubscriptionIsRetriedOnce() {
+        String k = UUID.randomUUID().toString();
+        SubscribeRejectingRedis rejecting = new SubscribeRejectingRedis(redis.getDelegate());
+        RedisCacheImpl cache = new RedisCacheImpl(nearCacheInfo(), vertx, Redis.newInstance(rejecting), BLOCKING_ALLOWED);
+
+        // The rejected attempt ends its connection too, but a single resubscription is scheduled
+        await().atMost(Duration.ofSeconds(5)).until(() -> rejecting.connects.get() == 2);
+        await().during(Duration.ofMillis(500)).atMost(Duration.ofMillis(900))
+                .until(() -> rejecting.connects.get() == 2);
+
+        // The near cache is bypassed
+        assertThat(cache.get(k, String.class, s -> "v1").await().indefinitely()).isEqualTo("v1");
+        redis.send(Request.cmd(Command.DEL).arg("cache:near:" + k)).await().indefinitely();
+        assertThat(cache.<String, String> getOrNull(k, String.class).await().indefinitely()).isNull();
+
+        cache.close();
+        int connects = rejecting.connects.get();
+        await().during(Duration.ofSeconds(2)).atMost(Duration.ofSeconds(3))
+                .until(() -> rejecting.connects.get() == connects);
+    }
+
+    private static RedisCacheInfo nearCacheInfo() {
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "near";
+        info.valueType = String.class;
+        info.expireAfterWrite = Optional.of(Duration.ofMinutes(1));
+        info.nearCacheEnabled = true;
+        return info;
+    }
+
+    /**
+     * Counts the connections and rejects the {@code SUBSCRIBE} commands sent on them.
+     */
+    private static class SubscribeRejectingRedis implements io.vertx.redis.client.Redis {
+
+        private final io.vertx.redis.client.Redis delegate;
+        private final AtomicInteger connects = new AtomicInteger();
+
+        SubscribeRejectingRedis(io.vertx.redis.client.Redis delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Future<RedisConnection> connect() {
+            connects.incrementAndGet();
+            return delegate.connect().map(RejectingConnection::new);
+        }
+
+        @Override
+        public Future<Void> close() {
+            return Future.succeededFuture();
+        }
+
+        @Override
+        public Future<Response> send(Request command) {
+            return delegate.send(command);
+        }
+
+        @Override
+        public Future<List<Response>> batch(List<Request> commands) {
+            return delegate.batch(commands);
+        }
+    }
+
+    private static class RejectingConnection implements RedisConnection {
+
+        private final RedisConnection delegate;
+
+        RejectingConnection(RedisConnection delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public RedisConnection exceptionHandler(Handler<Throwable> handler) {
+            delegate.exceptionHandler(handler);
+            return this;
+        }
+
+        @Override
+        public RedisConnection handler(Handler<Response> handler) {
+            delegate.handler(handler);
+            return this;
+        }
+
+        @Override
+        public RedisConnection pause() {
+            delegate.pause();
+            return this;
+        }
+
+        @Override
+        public RedisConnection resume() {
+            delegate.resume();
+            return this;
+        }
+
+        @Override
+        public RedisConnection fetch(long amount) {
+            delegate.fetch(amount);
+            return this;
+        }
+
+        @Override
+        public RedisConnection endHandler(Handler<Void> endHandler) {
+            delegate.endHandler(endHandler);
+            return this;
+        }
+
+        @Override
+        public Future<Response> send(Request command) {
+            if (command.command() == Command.SUBSCRIBE) {
+                return Future.failedFuture("NOPERM this user has no permissions to access the channel");
+            }
+            return delegate.send(command);
+        }
+
+        @Override
+        public Future<List<Response>> batch(List<Request> commands) {
+            return delegate.batch(commands);
+        }
+
+        @Override
+        public Future<Void> close() {
+            return delegate.close();
+        }
+
+        @Override
+        public boolean pendingQueueFull() {
+            return delegate.pendingQueueFull();
+        }
+    }
+}
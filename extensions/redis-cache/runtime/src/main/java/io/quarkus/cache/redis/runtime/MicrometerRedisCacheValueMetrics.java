@@ -0,0 +1,53 @@
+package io.quarkus.cache.redis.runtime;
+
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * An instance of this class is only created when the application depends on a quarkus-micrometer-registry-* extension,
+ * which keeps the micrometer-core dependency optional.
+ */
+class MicrometerRedisCacheValueMetrics implements RedisCacheValueMetrics {
+
+    private final DistributionSummary encodedSize;
+    private final DistributionSummary decodedSize;
+    private final Timer encodeTime;
+    private final Timer decodeTime;
+
+    MicrometerRedisCacheValueMetrics(String cacheName) {
+        this.encodedSize = size(cacheName, "encode");
+        this.decodedSize = size(cacheName, "decode");
+        this.encodeTime = time(cacheName, "encode");
+        this.decodeTime = time(cacheName, "decode");
+    }
+
+    private static DistributionSummary size(String cacheName, String operation) {
+        return DistributionSummary.builder("cache.redis.value.size")
+                .description("The size of the values stored in Redis, after compression")
+                .baseUnit("bytes")
+                .tags("cache", cacheName, "operation", operation)
+                .register(Metrics.globalRegistry);
+    }
+
+    private static Timer time(String cacheName, String operation) {
+        return Timer.builder("cache.redis.value.serialization")
+                .description("The time spent serializing and compressing the values stored in Redis")
+                .tags("cache", cacheName, "operation", operation)
+                .register(Metrics.globalRegistry);
+    }
+
+    @Override
+    public void encoded(int size, long durationInNs) {
+        encodedSize.record(size);
+        encodeTime.record(durationInNs, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void decoded(int size, long durationInNs) {
+        decodedSize.record(size);
+        decodeTime.record(durationInNs, TimeUnit.NANOSECONDS);
+    }
+}
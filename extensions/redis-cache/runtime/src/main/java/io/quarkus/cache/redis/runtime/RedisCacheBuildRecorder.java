@@ -11,6 +11,7 @@
 import io.quarkus.cache.CacheManagerInfo;
 import io.quarkus.cache.runtime.CacheManagerImpl;
 import io.quarkus.runtime.RuntimeValue;
+import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
 
 @Recorder
@@ -30,7 +31,7 @@ public RedisCacheBuildRecorder(RedisCachesBuildTimeConfig buildConfig,
         this.redisCacheConfigRV = redisCacheConfigRV;
     }
 
-    public CacheManagerInfo getCacheManagerSupplier() {
+    public CacheManagerInfo getCacheManagerSupplier(ShutdownContext shutdownContext) {
         return new CacheManagerInfo() {
             @Override
             public boolean supports(Context context) {
@@ -52,12 +53,33 @@ public CacheManager get() {
                             for (RedisCacheInfo cacheInfo : cacheInfos) {
                                 if (LOGGER.isDebugEnabled()) {
                                     LOGGER.debugf(
-                                            "Building Redis cache [%s] with [ttl=%s], [prefix=%s], [classOfItems=%s]",
+                                            "Building Redis cache [%s] with [ttl=%s], [prefix=%s], [classOfItems=%s], [nearCache=%s]",
                                             cacheInfo.name, cacheInfo.expireAfterAccess, cacheInfo.prefix,
-                                            cacheInfo.valueType);
+                                            cacheInfo.valueType, cacheInfo.nearCacheEnabled);
                                 }
 
                                 RedisCacheImpl cache = new RedisCacheImpl(cacheInfo, buildConfig.clientName());
+                                if (cacheInfo.nearCacheEnabled) {
+                                    // the near cache keeps a pub/sub connection open until the application stops
+                                    shutdownContext.addShutdownTask(cache::close);
+                                }
+                                /*
+                                 * Metrics will be recorded for the current cache if:
+                                 * - the application depends on a quarkus-micrometer-registry-* extension
+                                 * - the metrics are enabled for this cache from the Quarkus configuration
+                                 */
+                                if (cacheInfo.valueMetricsEnabled
+                                        || (cacheInfo.nearCacheEnabled && cacheInfo.nearCacheMetricsEnabled)) {
+                                    if (context.metrics() == Context.Metrics.MICROMETER) {
+                                        cache.recordMicrometerMetrics();
+                                    } else {
+                                        LOGGER.warnf(
+                                                "Metrics won't be recorded for cache '%s' because the application does not depend on a Micrometer extension. "
+                                                        + "This warning can be fixed by disabling the cache metrics in the configuration or by adding a Micrometer "
+                                                        + "extension to the pom.xml file.",
+                                                cacheInfo.name);
+                                    }
+                                }
                                 caches.put(cacheInfo.name, cache);
                             }
                             return new CacheManagerImpl(caches);
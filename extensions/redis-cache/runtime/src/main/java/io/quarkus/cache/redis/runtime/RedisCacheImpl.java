@@ -17,12 +17,17 @@
 
 import org.jboss.logging.Logger;
 
+import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
+
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.ArcContainer;
 import io.quarkus.cache.CacheException;
 import io.quarkus.cache.CompositeCacheKey;
 import io.quarkus.cache.runtime.AbstractCache;
+import io.quarkus.cache.runtime.caffeine.metrics.MetricsInitializer;
+import io.quarkus.cache.runtime.caffeine.metrics.MicrometerMetricsInitializer;
 import io.quarkus.redis.client.RedisClientName;
+import io.quarkus.redis.datasource.codecs.Codec;
 import io.quarkus.redis.runtime.datasource.Marshaller;
 import io.quarkus.runtime.BlockingOperationControl;
 import io.smallrye.mutiny.Uni;
@@ -54,9 +59,13 @@ public class RedisCacheImpl extends AbstractCache implements RedisCache {
     private final Type classOfKey;
 
     private final Marshaller marshaller;
+    private final RedisCacheValueCodec valueCodec;
 
     private final Supplier<Boolean> blockingAllowedSupplier;
 
+    private final RedisNearCache nearCache;
+    private final ConcurrentStatsCounter redisStats;
+
     public RedisCacheImpl(RedisCacheInfo cacheInfo, Optional<String> redisClientName) {
 
         this(cacheInfo, Arc.container().select(Vertx.class).get(), determineRedisClient(redisClientName),
@@ -87,7 +96,51 @@ public RedisCacheImpl(RedisCacheInfo cacheInfo, Vertx vertx, Redis redis, Suppli
             this.marshaller = new Marshaller(this.classOfKey);
         }
         this.marshaller.add(CompositeCacheKey.class);
+        this.valueCodec = new RedisCacheValueCodec(marshaller, cacheInfo.codec.map(RedisCacheImpl::lookupCodec).orElse(null),
+                cacheInfo.compressionThreshold.orElse(-1));
         this.redis = redis;
+
+        if (cacheInfo.nearCacheEnabled) {
+            this.nearCache = new RedisNearCache(cacheInfo, getKeyPrefix() + ":near-cache-invalidations", vertx, redis);
+            this.redisStats = cacheInfo.nearCacheMetricsEnabled ? new ConcurrentStatsCounter() : null;
+        } else {
+            this.nearCache = null;
+            this.redisStats = null;
+        }
+    }
+
+    private static Codec lookupCodec(String className) {
+        try {
+            Class<?> codecClass = Class.forName(className, false, Thread.currentThread().getContextClassLoader());
+            return (Codec) Arc.container().select(codecClass).get();
+        } catch (ClassNotFoundException | ClassCastException e) {
+            throw new IllegalArgumentException("Unable to use " + className + " as Redis cache codec", e);
+        }
+    }
+
+    /**
+     * Records the metrics enabled for this cache: the size and serialization time of the values, and the hit and miss
+     * counts of the near cache and of Redis.
+     * Must only be called when the application depends on a Micrometer extension.
+     */
+    void recordMicrometerMetrics() {
+        if (cacheInfo.valueMetricsEnabled) {
+            valueCodec.setMetrics(new MicrometerRedisCacheValueMetrics(getName()));
+        }
+        if (nearCache != null && redisStats != null) {
+            MetricsInitializer metricsInitializer = new MicrometerMetricsInitializer();
+            metricsInitializer.recordMetrics(nearCache::stats, getName(), "near");
+            metricsInitializer.recordMetrics(redisStats::snapshot, getName(), "redis");
+        }
+    }
+
+    /**
+     * Closes the near cache invalidation subscription, if the near cache is enabled.
+     */
+    public void close() {
+        if (nearCache != null) {
+            nearCache.close();
+        }
     }
 
     private static boolean isRecomputableError(Throwable error) {
@@ -158,17 +211,23 @@ private <K, V> Uni<V> get(K key, Type type, Function<K, V> valueLoader) {
         // val = deserialize(GET K)
         // if (val == null) => SET K computation.apply(K)
         // else => return val
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
+        String actualKey = computeActualKey(encodeKey(key));
+        V near = getFromNearCache(actualKey);
+        if (near != null) {
+            return Uni.createFrom().item(near);
+        }
+        long nearCacheGeneration = nearCache != null ? nearCache.generation() : 0;
+        byte[] encodedKey = marshaller.encode(actualKey);
         boolean isWorkerThread = blockingAllowedSupplier.get();
-        return withConnection(new Function<RedisConnection, Uni<V>>() {
+        return putInNearCache(actualKey, nearCacheGeneration, withConnection(new Function<RedisConnection, Uni<V>>() {
             @Override
             public Uni<V> apply(RedisConnection connection) {
                 Uni<V> startingPoint;
                 if (cacheInfo.useOptimisticLocking) {
                     startingPoint = watch(connection, encodedKey)
-                            .chain(new GetFromConnectionSupplier<>(connection, type, encodedKey, marshaller));
+                            .chain(new GetFromConnectionSupplier<>(connection, type, encodedKey));
                 } else {
-                    startingPoint = new GetFromConnectionSupplier<V>(connection, type, encodedKey, marshaller).get();
+                    startingPoint = new GetFromConnectionSupplier<V>(connection, type, encodedKey).get();
                 }
 
                 return startingPoint
@@ -191,7 +250,7 @@ public Uni<?> apply(V value) {
                                             if (value == null) {
                                                 throw new IllegalArgumentException("Cannot cache `null` value");
                                             }
-                                            byte[] encodedValue = marshaller.encode(value);
+                                            byte[] encodedValue = valueCodec.encode(value);
                                             Uni<V> result;
                                             if (cacheInfo.useOptimisticLocking) {
                                                 result = multi(connection, set(connection, encodedKey, encodedValue))
@@ -210,8 +269,7 @@ public Uni<?> apply(V value) {
                             }
                         }));
             }
-        })
-
+        }))
                 .onFailure(RedisCacheImpl::isRecomputableError).recoverWithUni(new Function<Throwable, Uni<? extends V>>() {
                     @Override
                     public Uni<? extends V> apply(Throwable e) {
@@ -238,16 +296,22 @@ public <K, V> Uni<V> getAsync(K key, TypeLiteral<V> type, Function<K, Uni<V>> va
     }
 
     private <K, V> Uni<V> getAsync(K key, Type type, Function<K, Uni<V>> valueLoader) {
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
-        return withConnection(new Function<RedisConnection, Uni<V>>() {
+        String actualKey = computeActualKey(encodeKey(key));
+        V near = getFromNearCache(actualKey);
+        if (near != null) {
+            return Uni.createFrom().item(near);
+        }
+        long nearCacheGeneration = nearCache != null ? nearCache.generation() : 0;
+        byte[] encodedKey = marshaller.encode(actualKey);
+        return putInNearCache(actualKey, nearCacheGeneration, withConnection(new Function<RedisConnection, Uni<V>>() {
             @Override
             public Uni<V> apply(RedisConnection connection) {
                 Uni<V> startingPoint;
                 if (cacheInfo.useOptimisticLocking) {
                     startingPoint = watch(connection, encodedKey)
-                            .chain(new GetFromConnectionSupplier<>(connection, type, encodedKey, marshaller));
+                            .chain(new GetFromConnectionSupplier<>(connection, type, encodedKey));
                 } else {
-                    startingPoint = new GetFromConnectionSupplier<V>(connection, type, encodedKey, marshaller).get();
+                    startingPoint = new GetFromConnectionSupplier<V>(connection, type, encodedKey).get();
                 }
 
                 return startingPoint
@@ -263,7 +327,7 @@ public Uni<V> apply(RedisConnection connection) {
                                 Uni<V> getter = valueLoader.apply(key);
                                 return getter
                                         .chain(value -> {
-                                            byte[] encodedValue = marshaller.encode(value);
+                                            byte[] encodedValue = valueCodec.encode(value);
                                             if (cacheInfo.useOptimisticLocking) {
                                                 return multi(connection, set(connection, encodedKey, encodedValue))
                                                         .replaceWith(value);
@@ -275,7 +339,7 @@ public Uni<V> apply(RedisConnection connection) {
                             }
                         });
             }
-        })
+        }))
                 .onFailure(RedisCacheImpl::isRecomputableError).recoverWithUni(e -> {
                     log.warn("Unable to connect to Redis, recomputing cached value", e);
                     return valueLoader.apply(key);
@@ -289,14 +353,15 @@ public <K, V> Uni<Void> put(K key, V value) {
 
     @Override
     public <K, V> Uni<Void> put(K key, Supplier<V> supplier) {
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
-        byte[] encodedValue = marshaller.encode(supplier.get());
+        String actualKey = computeActualKey(encodeKey(key));
+        byte[] encodedKey = marshaller.encode(actualKey);
+        byte[] encodedValue = valueCodec.encode(supplier.get());
         return withConnection(new Function<RedisConnection, Uni<Void>>() {
             @Override
             public Uni<Void> apply(RedisConnection connection) {
                 return set(connection, encodedKey, encodedValue);
             }
-        });
+        }).call(() -> invalidateNearCache(actualKey));
     }
 
     private void enforceDefaultType(String methodName) {
@@ -325,13 +390,7 @@ public <K, V> Uni<V> getOrDefault(K key, TypeLiteral<V> type, V defaultValue) {
     }
 
     private <K, V> Uni<V> getOrDefault(K key, Type type, V defaultValue) {
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
-        return withConnection(new Function<RedisConnection, Uni<V>>() {
-            @Override
-            public Uni<V> apply(RedisConnection redisConnection) {
-                return doGet(redisConnection, encodedKey, type, marshaller);
-            }
-        }).onItem().ifNull().continueWith(new StaticSupplier<>(defaultValue));
+        return this.<K, V> getOrNull(key, type).onItem().ifNull().continueWith(new StaticSupplier<>(defaultValue));
     }
 
     @Override
@@ -351,20 +410,28 @@ public <K, V> Uni<V> getOrNull(K key, TypeLiteral<V> type) {
     }
 
     private <K, V> Uni<V> getOrNull(K key, Type type) {
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
-        return withConnection(new Function<RedisConnection, Uni<V>>() {
+        String actualKey = computeActualKey(encodeKey(key));
+        V near = getFromNearCache(actualKey);
+        if (near != null) {
+            return Uni.createFrom().item(near);
+        }
+        long nearCacheGeneration = nearCache != null ? nearCache.generation() : 0;
+        byte[] encodedKey = marshaller.encode(actualKey);
+        return putInNearCache(actualKey, nearCacheGeneration, withConnection(new Function<RedisConnection, Uni<V>>() {
             @Override
             public Uni<V> apply(RedisConnection redisConnection) {
-                return doGet(redisConnection, encodedKey, type, marshaller);
+                return doGet(redisConnection, encodedKey, type);
             }
-        });
+        }));
     }
 
     @Override
     public Uni<Void> invalidate(Object key) {
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
+        String actualKey = computeActualKey(encodeKey(key));
+        byte[] encodedKey = marshaller.encode(actualKey);
         return redis.send(Request.cmd(Command.DEL).arg(encodedKey))
-                .replaceWithVoid();
+                .replaceWithVoid()
+                .call(() -> invalidateNearCache(actualKey));
     }
 
     @Override
@@ -399,6 +466,21 @@ public Uni<?> apply(Set<String> setOfKeys) {
                 }
             }
         })
+                .call(new Supplier<Uni<?>>() {
+                    @Override
+                    public Uni<?> get() {
+                        if (nearCache == null) {
+                            return Uni.createFrom().voidItem();
+                        }
+                        return nearCache.invalidateIf(new Predicate<String>() {
+                            @Override
+                            public boolean test(String actualKey) {
+                                Object userKey = computeUserKey(actualKey);
+                                return userKey != null && predicate.test(userKey);
+                            }
+                        });
+                    }
+                })
                 .replaceWithVoid();
     }
 
@@ -457,6 +539,27 @@ private String getKeyPrefix() {
         }
     }
 
+    @SuppressWarnings("unchecked")
+    private <V> V getFromNearCache(String actualKey) {
+        return nearCache != null ? (V) nearCache.getIfPresent(actualKey) : null;
+    }
+
+    private <V> Uni<V> putInNearCache(String actualKey, long nearCacheGeneration, Uni<V> uni) {
+        if (nearCache == null) {
+            return uni;
+        }
+        return uni.invoke(new Consumer<V>() {
+            @Override
+            public void accept(V value) {
+                nearCache.put(actualKey, value, nearCacheGeneration);
+            }
+        });
+    }
+
+    private Uni<Void> invalidateNearCache(String actualKey) {
+        return nearCache != null ? nearCache.invalidate(actualKey) : Uni.createFrom().voidItem();
+    }
+
     private <X> Uni<X> withConnection(Function<RedisConnection, Uni<X>> function) {
         return redis.connect()
                 .chain(new Function<RedisConnection, Uni<? extends X>>() {
@@ -479,15 +582,14 @@ private Uni<Void> watch(RedisConnection connection, byte[] keyToWatch) {
                 .replaceWithVoid();
     }
 
-    private <X> Uni<X> doGet(RedisConnection connection, byte[] encoded, Type clazz,
-            Marshaller marshaller) {
+    private <X> Uni<X> doGet(RedisConnection connection, byte[] encoded, Type clazz) {
         if (cacheInfo.expireAfterAccess.isPresent()) {
             Duration duration = cacheInfo.expireAfterAccess.get();
             return connection.send(Request.cmd(Command.GETEX).arg(encoded).arg("EX").arg(duration.toSeconds()))
                     .map(new Function<Response, X>() {
                         @Override
                         public X apply(Response r) {
-                            return marshaller.decode(clazz, r);
+                            return recordRedisLookup(valueCodec.decode(clazz, r));
                         }
                     });
         } else {
@@ -495,12 +597,23 @@ public X apply(Response r) {
                     .map(new Function<Response, X>() {
                         @Override
                         public X apply(Response r) {
-                            return marshaller.decode(clazz, r);
+                            return recordRedisLookup(valueCodec.decode(clazz, r));
                         }
                     });
         }
     }
 
+    private <X> X recordRedisLookup(X value) {
+        if (redisStats != null) {
+            if (value != null) {
+                redisStats.recordHits(1);
+            } else {
+                redisStats.recordMisses(1);
+            }
+        }
+        return value;
+    }
+
     private Uni<Void> set(RedisConnection connection, byte[] key, byte[] value) {
         Request request = Request.cmd(Command.SET).arg(key).arg(value);
         if (cacheInfo.expireAfterWrite.isPresent()) {
@@ -543,18 +656,16 @@ public V get() {
         private final RedisConnection connection;
         private final Type clazz;
         private final byte[] encodedKey;
-        private final Marshaller marshaller;
 
-        public GetFromConnectionSupplier(RedisConnection connection, Type clazz, byte[] encodedKey, Marshaller marshaller) {
+        public GetFromConnectionSupplier(RedisConnection connection, Type clazz, byte[] encodedKey) {
             this.connection = connection;
             this.clazz = clazz;
             this.encodedKey = encodedKey;
-            this.marshaller = marshaller;
         }
 
         @Override
         public Uni<V> get() {
-            return doGet(connection, encodedKey, clazz, marshaller);
+            return doGet(connection, encodedKey, clazz);
         }
     }
 
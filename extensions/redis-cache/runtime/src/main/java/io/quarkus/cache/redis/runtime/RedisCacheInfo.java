@@ -51,4 +51,39 @@ public class RedisCacheInfo {
      * no {@code COUNT} argument is present.
      */
     public OptionalInt invalidationScanSize = OptionalInt.empty();
+
+    /**
+     * Whether a bounded, in-memory near cache is used in front of Redis
+     */
+    public boolean nearCacheEnabled = false;
+
+    /**
+     * The maximum number of entries of the near cache
+     */
+    public long nearCacheMaximumSize = 10_000;
+
+    /**
+     * The time to live of the entries of the near cache. If not set, {@link #expireAfterWrite} is used.
+     */
+    public Optional<Duration> nearCacheExpireAfterWrite = Optional.empty();
+
+    /**
+     * The class name of the codec used to serialize the values, if not the default one for the value type
+     */
+    public Optional<String> codec = Optional.empty();
+
+    /**
+     * The size in bytes above which the serialized values are compressed
+     */
+    public OptionalInt compressionThreshold = OptionalInt.empty();
+
+    /**
+     * Whether the hit and miss counts of the near cache and of Redis are recorded
+     */
+    public boolean nearCacheMetricsEnabled = false;
+
+    /**
+     * Whether the size and serialization time of the values are recorded
+     */
+    public boolean valueMetricsEnabled = false;
 }
@@ -3,6 +3,7 @@
 import java.lang.reflect.Type;
 import java.util.Collections;
 import java.util.Map;
+import java.util.OptionalInt;
 import java.util.Set;
 
 import io.quarkus.runtime.configuration.HashSetFactory;
@@ -67,6 +68,50 @@ public static Set<RedisCacheInfo> build(Set<String> cacheNames, RedisCachesRunti
                     cacheInfo.invalidationScanSize = defaultRuntimeConfig.invalidationScanSize();
                 }
 
+                if (namedRuntimeConfig != null && namedRuntimeConfig.nearCacheEnabled().isPresent()) {
+                    cacheInfo.nearCacheEnabled = namedRuntimeConfig.nearCacheEnabled().get();
+                } else if (defaultRuntimeConfig.nearCacheEnabled().isPresent()) {
+                    cacheInfo.nearCacheEnabled = defaultRuntimeConfig.nearCacheEnabled().get();
+                }
+
+                if (namedRuntimeConfig != null && namedRuntimeConfig.nearCacheMaximumSize().isPresent()) {
+                    cacheInfo.nearCacheMaximumSize = namedRuntimeConfig.nearCacheMaximumSize().getAsLong();
+                } else if (defaultRuntimeConfig.nearCacheMaximumSize().isPresent()) {
+                    cacheInfo.nearCacheMaximumSize = defaultRuntimeConfig.nearCacheMaximumSize().getAsLong();
+                }
+
+                if (namedRuntimeConfig != null && namedRuntimeConfig.nearCacheExpireAfterWrite().isPresent()) {
+                    cacheInfo.nearCacheExpireAfterWrite = namedRuntimeConfig.nearCacheExpireAfterWrite();
+                } else if (defaultRuntimeConfig.nearCacheExpireAfterWrite().isPresent()) {
+                    cacheInfo.nearCacheExpireAfterWrite = defaultRuntimeConfig.nearCacheExpireAfterWrite();
+                }
+
+                if (namedRuntimeConfig != null && namedRuntimeConfig.codec().isPresent()) {
+                    cacheInfo.codec = namedRuntimeConfig.codec();
+                } else if (defaultRuntimeConfig.codec().isPresent()) {
+                    cacheInfo.codec = defaultRuntimeConfig.codec();
+                }
+
+                if (namedRuntimeConfig != null && namedRuntimeConfig.compressionThreshold().isPresent()) {
+                    cacheInfo.compressionThreshold = OptionalInt
+                            .of((int) namedRuntimeConfig.compressionThreshold().get().asLongValue());
+                } else if (defaultRuntimeConfig.compressionThreshold().isPresent()) {
+                    cacheInfo.compressionThreshold = OptionalInt
+                            .of((int) defaultRuntimeConfig.compressionThreshold().get().asLongValue());
+                }
+
+                if (namedRuntimeConfig != null && namedRuntimeConfig.nearCacheMetricsEnabled().isPresent()) {
+                    cacheInfo.nearCacheMetricsEnabled = namedRuntimeConfig.nearCacheMetricsEnabled().get();
+                } else if (defaultRuntimeConfig.nearCacheMetricsEnabled().isPresent()) {
+                    cacheInfo.nearCacheMetricsEnabled = defaultRuntimeConfig.nearCacheMetricsEnabled().get();
+                }
+
+                if (namedRuntimeConfig != null && namedRuntimeConfig.valueMetricsEnabled().isPresent()) {
+                    cacheInfo.valueMetricsEnabled = namedRuntimeConfig.valueMetricsEnabled().get();
+                } else if (defaultRuntimeConfig.valueMetricsEnabled().isPresent()) {
+                    cacheInfo.valueMetricsEnabled = defaultRuntimeConfig.valueMetricsEnabled().get();
+                }
+
                 result.add(cacheInfo);
             }
             return result;
@@ -3,8 +3,10 @@
 import java.time.Duration;
 import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.OptionalLong;
 
 import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.configuration.MemorySize;
 
 @ConfigGroup
 public interface RedisCacheRuntimeConfig {
@@ -49,4 +51,51 @@ public interface RedisCacheRuntimeConfig {
      * no {@code COUNT} argument is present.
      */
     OptionalInt invalidationScanSize();
+
+    /**
+     * Whether a bounded, in-memory near cache should be used in front of Redis.
+     * Values read from or loaded into Redis are kept locally, and invalidations are propagated to the near caches of the
+     * other application instances through a Redis pub/sub channel.
+     * Default is {@code false}.
+     */
+    Optional<Boolean> nearCacheEnabled();
+
+    /**
+     * The maximum number of entries the near cache may contain.
+     * Default is {@code 10000}.
+     */
+    OptionalLong nearCacheMaximumSize();
+
+    /**
+     * Specifies that each entry should be automatically removed from the near cache once a fixed duration has elapsed
+     * after the entry's creation. If not set, the {@code expire-after-write} value of the cache is used.
+     */
+    Optional<Duration> nearCacheExpireAfterWrite();
+
+    /**
+     * The class name of the {@link io.quarkus.redis.datasource.codecs.Codec} used to serialize the cached values. The
+     * codec must be a CDI bean. If not set, the codec handling the value type is used, or JSON if there is none.
+     */
+    Optional<String> codec();
+
+    /**
+     * If set, the serialized values larger than this size are compressed with gzip before being stored in Redis.
+     * The stored values are prefixed with a format byte while this property is set, so the cache must be flushed when
+     * the compression is enabled or disabled.
+     */
+    Optional<MemorySize> compressionThreshold();
+
+    /**
+     * Whether the hit and miss counts of the near cache and of Redis should be recorded, if the application depends on
+     * a Micrometer extension.
+     * Default is {@code false}.
+     */
+    Optional<Boolean> nearCacheMetricsEnabled();
+
+    /**
+     * Whether the size of the stored values and the time spent serializing them should be recorded, if the application
+     * depends on a Micrometer extension.
+     * Default is {@code false}.
+     */
+    Optional<Boolean> valueMetricsEnabled();
 }
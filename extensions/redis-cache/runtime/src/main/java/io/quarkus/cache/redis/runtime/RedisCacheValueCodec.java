@@ -0,0 +1,131 @@
+package io.quarkus.cache.redis.runtime;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import io.quarkus.redis.datasource.codecs.Codec;
+import io.quarkus.redis.runtime.datasource.Marshaller;
+import io.vertx.redis.client.Response;
+
+/**
+ * Serializes the values stored by a {@link RedisCacheImpl}.
+ * <p>
+ * Values are encoded with the codec configured for the cache, or with the {@link Marshaller} which picks the codec
+ * handling the value type. Payloads larger than the compression threshold are then compressed with gzip.
+ * <p>
+ * When the compression is enabled, every payload starts with a format byte telling whether the rest of the payload is
+ * compressed, so that any codec output can be stored. Without compression, the payloads are stored as is.
+ */
+class RedisCacheValueCodec {
+
+    private static final byte FORMAT_RAW = 0;
+    private static final byte FORMAT_GZIP = 1;
+
+    private final Marshaller marshaller;
+    private final Codec codec;
+    private final int compressionThreshold;
+
+    private volatile RedisCacheValueMetrics metrics = RedisCacheValueMetrics.NOOP;
+
+    /**
+     * @param codec the codec to use for all the values, or {@code null} to use the marshaller
+     * @param compressionThreshold the size above which payloads are compressed, or a negative value to disable compression
+     */
+    RedisCacheValueCodec(Marshaller marshaller, Codec codec, int compressionThreshold) {
+        this.marshaller = marshaller;
+        this.codec = codec;
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    void setMetrics(RedisCacheValueMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    byte[] encode(Object value) {
+        RedisCacheValueMetrics metrics = this.metrics;
+        long start = metrics != RedisCacheValueMetrics.NOOP ? System.nanoTime() : 0;
+        byte[] encoded = codec != null ? codec.encode(value) : marshaller.encode(value);
+        if (compressionThreshold >= 0) {
+            encoded = encoded.length > compressionThreshold ? compress(encoded) : withFormat(FORMAT_RAW, encoded);
+        }
+        if (metrics != RedisCacheValueMetrics.NOOP) {
+            metrics.encoded(encoded.length, System.nanoTime() - start);
+        }
+        return encoded;
+    }
+
+    @SuppressWarnings("unchecked")
+    <X> X decode(Type type, Response response) {
+        if (response == null) {
+            return null;
+        }
+        RedisCacheValueMetrics metrics = this.metrics;
+        if (codec == null && compressionThreshold < 0 && metrics == RedisCacheValueMetrics.NOOP) {
+            return marshaller.decode(type, response);
+        }
+        long start = metrics != RedisCacheValueMetrics.NOOP ? System.nanoTime() : 0;
+        byte[] payload = response.toBytes();
+        byte[] decompressed = compressionThreshold >= 0 ? decodeFormat(payload) : payload;
+        X value = codec != null ? (X) codec.decode(decompressed) : marshaller.decode(type, decompressed);
+        if (metrics != RedisCacheValueMetrics.NOOP) {
+            metrics.decoded(payload.length, System.nanoTime() - start);
+        }
+        return value;
+    }
+
+    private static byte[] withFormat(byte format, byte[] payload) {
+        byte[] result = new byte[payload.length + 1];
+        result[0] = format;
+        System.arraycopy(payload, 0, result, 1, payload.length);
+        return result;
+    }
+
+    private static byte[] decodeFormat(byte[] payload) {
+        if (payload.length == 0) {
+            throw new IllegalStateException("Invalid Redis cache value: missing format byte");
+        }
+        return switch (payload[0]) {
+            case FORMAT_RAW -> Arrays.copyOfRange(payload, 1, payload.length);
+            case FORMAT_GZIP -> decompress(payload);
+            default -> throw new IllegalStateException("Invalid Redis cache value: unknown format " + payload[0]
+                    + ", the cache must be flushed after enabling the compression");
+        };
+    }
+
+    private static byte[] compress(byte[] payload) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(payload.length / 2);
+        out.write(FORMAT_GZIP);
+        try (GZIPOutputStream gzip = new FastGZIPOutputStream(out)) {
+            gzip.write(payload);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] decompress(byte[] payload) {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(payload, 1, payload.length - 1))) {
+            return gzip.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Favors the compression speed, as values are compressed on the request path.
+     */
+    private static final class FastGZIPOutputStream extends GZIPOutputStream {
+
+        FastGZIPOutputStream(ByteArrayOutputStream out) throws IOException {
+            super(out);
+            def.setLevel(Deflater.BEST_SPEED);
+        }
+    }
+}
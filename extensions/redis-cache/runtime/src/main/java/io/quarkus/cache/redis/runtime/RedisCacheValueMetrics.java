@@ -0,0 +1,33 @@
+package io.quarkus.cache.redis.runtime;
+
+/**
+ * Records the size of the values stored by a {@link RedisCacheImpl} and the time spent serializing them.
+ */
+interface RedisCacheValueMetrics {
+
+    /**
+     * Called after a value is encoded.
+     *
+     * @param size the size in bytes of the stored payload, after compression
+     * @param durationInNs the time spent encoding and compressing the value
+     */
+    void encoded(int size, long durationInNs);
+
+    /**
+     * Called after a value is decoded.
+     *
+     * @param size the size in bytes of the stored payload, before decompression
+     * @param durationInNs the time spent decompressing and decoding the value
+     */
+    void decoded(int size, long durationInNs);
+
+    RedisCacheValueMetrics NOOP = new RedisCacheValueMetrics() {
+        @Override
+        public void encoded(int size, long durationInNs) {
+        }
+
+        @Override
+        public void decoded(int size, long durationInNs) {
+        }
+    };
+}
@@ -0,0 +1,229 @@
+package io.quarkus.cache.redis.runtime;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import org.jboss.logging.Logger;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.mutiny.redis.client.Redis;
+import io.vertx.mutiny.redis.client.RedisConnection;
+import io.vertx.redis.client.Command;
+import io.vertx.redis.client.Request;
+import io.vertx.redis.client.Response;
+
+/**
+ * A bounded, in-memory cache sitting in front of a {@link RedisCacheImpl}, keyed by the actual Redis keys.
+ * <p>
+ * Invalidations are published on a Redis pub/sub channel so that the near caches of the other application instances
+ * drop their copies. Entries are only served while this instance is subscribed to that channel: when the subscription
+ * is lost, the near cache is cleared and bypassed until it is re-established.
+ * <p>
+ * A generation counter is incremented on every invalidation. Values loaded from Redis are only stored if no
+ * invalidation happened since the lookup started, so that a concurrent invalidation cannot be overwritten by a stale
+ * value.
+ * <p>
+ * The near cache holds the deserialized values, so every caller gets the same instance of a value until it is evicted.
+ * The cached values must therefore not be mutated.
+ * <p>
+ * The subscription connection is kept until {@link #close()} is called when the application stops.
+ */
+class RedisNearCache {
+
+    private static final Logger log = Logger.getLogger(RedisNearCache.class);
+
+    private static final String ALL_KEYS = "*";
+    private static final long RESUBSCRIBE_DELAY_MILLIS = 1000;
+
+    private final Cache<String, Object> cache;
+    private final Vertx vertx;
+    private final Redis redis;
+    private final String channel;
+    private final String origin = UUID.randomUUID().toString();
+    private final AtomicLong generation = new AtomicLong();
+
+    private volatile boolean subscribed;
+    private volatile boolean closed;
+    private volatile RedisConnection connection;
+    private volatile long resubscribeTimer = -1;
+
+    RedisNearCache(RedisCacheInfo cacheInfo, String channel, Vertx vertx, Redis redis) {
+        this.vertx = vertx;
+        this.redis = redis;
+        this.channel = channel;
+
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().maximumSize(cacheInfo.nearCacheMaximumSize);
+        Optional<Duration> expireAfterWrite = cacheInfo.nearCacheExpireAfterWrite.or(() -> cacheInfo.expireAfterWrite);
+        if (expireAfterWrite.isPresent()) {
+            builder.expireAfterWrite(expireAfterWrite.get());
+        }
+        if (cacheInfo.nearCacheMetricsEnabled) {
+            builder.recordStats();
+        }
+        this.cache = builder.build();
+
+        subscribe();
+    }
+
+    /**
+     * @return the locally cached value, or {@code null} if there is none or if the invalidations are not received
+     */
+    Object getIfPresent(String key) {
+        return subscribed ? cache.getIfPresent(key) : null;
+    }
+
+    /**
+     * @return the current generation, to be passed to {@link #put(String, Object, long)} once the value is loaded
+     */
+    long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Stores the given value, unless an invalidation happened since the given generation was obtained.
+     */
+    void put(String key, Object value, long expectedGeneration) {
+        if (value == null || !subscribed || generation.get() != expectedGeneration) {
+            return;
+        }
+        cache.put(key, value);
+        if (generation.get() != expectedGeneration) {
+            // An invalidation raced with the put
+            cache.invalidate(key);
+        }
+    }
+
+    /**
+     * Invalidates the given key locally and in the near caches of the other instances.
+     */
+    Uni<Void> invalidate(String key) {
+        generation.incrementAndGet();
+        cache.invalidate(key);
+        return publish(key);
+    }
+
+    /**
+     * Invalidates the keys matching the given predicate locally, and all the keys in the near caches of the other
+     * instances since the predicate cannot be sent to them.
+     */
+    Uni<Void> invalidateIf(Predicate<String> predicate) {
+        generation.incrementAndGet();
+        cache.asMap().keySet().removeIf(predicate);
+        return publish(ALL_KEYS);
+    }
+
+    CacheStats stats() {
+        return cache.stats();
+    }
+
+    private Uni<Void> publish(String key) {
+        return redis.send(Request.cmd(Command.PUBLISH).arg(channel).arg(origin + " " + key))
+                .replaceWithVoid();
+    }
+
+    /**
+     * Closes the subscription connection and stops resubscribing. The near cache is bypassed afterwards.
+     */
+    void close() {
+        closed = true;
+        subscribed = false;
+        generation.incrementAndGet();
+        cache.invalidateAll();
+        long timer = resubscribeTimer;
+        if (timer != -1) {
+            vertx.cancelTimer(timer);
+        }
+        RedisConnection current = connection;
+        if (current != null) {
+            connection = null;
+            current.closeAndForget();
+        }
+    }
+
+    private void subscribe() {
+        if (closed) {
+            return;
+        }
+        // A failed attempt may be reported both by the end of its connection and by the failure of the subscription
+        AtomicBoolean lost = new AtomicBoolean();
+        redis.connect()
+                .chain(connection -> {
+                    this.connection = connection;
+                    if (closed) {
+                        // close() was called while connecting
+                        this.connection = null;
+                        return connection.close().replaceWith((Response) null);
+                    }
+                    connection.handler(this::onMessage);
+                    connection.exceptionHandler(new Consumer<Throwable>() {
+                        @Override
+                        public void accept(Throwable t) {
+                            log.debugf(t, "Near cache invalidation subscription to %s failed", channel);
+                            connection.closeAndForget();
+                        }
+                    });
+                    connection.endHandler(() -> onSubscriptionLost(lost, null));
+                    return connection.send(Request.cmd(Command.SUBSCRIBE).arg(channel))
+                            .onFailure().call(connection::close);
+                })
+                .subscribe().with(response -> {
+                    if (closed) {
+                        return;
+                    }
+                    generation.incrementAndGet();
+                    cache.invalidateAll();
+                    subscribed = true;
+                }, failure -> onSubscriptionLost(lost, failure));
+    }
+
+    private void onSubscriptionLost(AtomicBoolean lost, Throwable failure) {
+        if (!lost.compareAndSet(false, true)) {
+            // Already handled for this attempt
+            return;
+        }
+        subscribed = false;
+        generation.incrementAndGet();
+        cache.invalidateAll();
+        if (failure != null && !closed) {
+            log.warnf("Unable to subscribe to the near cache invalidation channel %s, the near cache is bypassed: %s",
+                    channel, failure.getMessage());
+        }
+        connection = null;
+        if (!closed) {
+            resubscribeTimer = vertx.setTimer(RESUBSCRIBE_DELAY_MILLIS, id -> {
+                resubscribeTimer = -1;
+                subscribe();
+            });
+        }
+    }
+
+    private void onMessage(Response message) {
+        // Pub/sub messages are ["message", channel, payload]
+        if (message.size() < 3 || !"message".equals(message.get(0).toString())) {
+            return;
+        }
+        String payload = message.get(2).toString();
+        int separator = payload.indexOf(' ');
+        if (separator < 0 || payload.startsWith(origin)) {
+            // Malformed, or already applied locally
+            return;
+        }
+        String key = payload.substring(separator + 1);
+        generation.incrementAndGet();
+        if (ALL_KEYS.equals(key)) {
+            cache.invalidateAll();
+        } else {
+            cache.invalidate(key);
+        }
+    }
+}
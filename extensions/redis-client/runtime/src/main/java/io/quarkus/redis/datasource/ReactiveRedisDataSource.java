@@ -57,6 +57,32 @@ public interface ReactiveRedisDataSource {
      */
     Uni<Void> withConnection(Function<ReactiveRedisDataSource, Uni<Void>> function);
 
+    /**
+     * Obtains a {@link ReactiveRedisDataSource} that batches commands and passes it to the given {@code function}.
+     * The commands issued when subscribing to the {@code Uni} returned by {@code function} are sent together, on a
+     * single connection and without waiting for the response of a command before sending the next one. The commands
+     * issued later, for example in a {@code chain} depending on the result of a previous command, are sent together
+     * with the other commands issued during the same event loop task.
+     * <p>
+     * Unlike a transaction, the commands are not executed atomically, and each command completes independently: a
+     * failing command does not fail the other commands of the batch.
+     * <p>
+     * For example, to read several keys in a single round trip:
+     *
+     * <pre>
+     * Uni&lt;List&lt;String&gt;&gt; values = ds.batch(batch -&gt; {
+     *     ReactiveValueCommands&lt;String, String&gt; commands = batch.value(String.class);
+     *     return Uni.join().all(keys.stream().map(commands::get).toList()).andFailFast();
+     * });
+     * </pre>
+     *
+     * @param function the function receiving the batching data source and producing the result of the batch from the
+     *        results of the commands
+     * @return the result produced by {@code function}
+     * @param <T> the type of the result
+     */
+    <T> Uni<T> batch(Function<ReactiveRedisDataSource, Uni<T>> function);
+
     /**
      * Obtains a {@link ReactiveRedisDataSource} that enqueues commands in a Redis Transaction ({@code MULTI})
      * and passes it to the given {@code tx} block. Note that the transaction acquires a single connection
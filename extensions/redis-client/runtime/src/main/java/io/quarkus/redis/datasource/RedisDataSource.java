@@ -31,6 +31,7 @@
 import io.quarkus.redis.datasource.transactions.TransactionalRedisDataSource;
 import io.quarkus.redis.datasource.value.ValueCommands;
 import io.smallrye.common.annotation.Experimental;
+import io.smallrye.mutiny.Uni;
 import io.vertx.redis.client.Command;
 import io.vertx.redis.client.Response;
 import tools.jackson.core.type.TypeReference;
@@ -55,6 +56,28 @@ public interface RedisDataSource {
      */
     void withConnection(Consumer<RedisDataSource> consumer);
 
+    /**
+     * Sends the commands issued by the given {@code function} together, on a single connection and without waiting for
+     * the response of a command before sending the next one, and waits for the result of the batch.
+     * See {@link ReactiveRedisDataSource#batch(Function)}.
+     * <p>
+     * The {@code function} receives a {@link ReactiveRedisDataSource}, as the commands of this data source wait for
+     * their response and so cannot be sent together. For example, to read several keys in a single round trip:
+     *
+     * <pre>
+     * List&lt;String&gt; values = ds.batch(batch -&gt; {
+     *     ReactiveValueCommands&lt;String, String&gt; commands = batch.value(String.class);
+     *     return Uni.join().all(keys.stream().map(commands::get).toList()).andFailFast();
+     * });
+     * </pre>
+     *
+     * @param function the function receiving the batching data source and producing the result of the batch from the
+     *        results of the commands
+     * @return the result produced by {@code function}
+     * @param <T> the type of the result
+     */
+    <T> T batch(Function<ReactiveRedisDataSource, Uni<T>> function);
+
     /**
      * Obtains a {@link RedisDataSource} that enqueues commands in a Redis Transaction ({@code MULTI})
      * and passes it to the given {@code tx} block. Note that the transaction acquires a single connection
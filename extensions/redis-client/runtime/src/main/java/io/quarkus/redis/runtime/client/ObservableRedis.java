@@ -32,6 +32,15 @@ private void report(long time, boolean succeeded) {
         reporter.report(name, time, succeeded);
     }
 
+    /**
+     * Reports a batch of commands sent on a connection of this client.
+     *
+     * @param size the number of commands of the batch
+     */
+    public void reportBatch(int size) {
+        reporter.reportBatch(name, size);
+    }
+
     @Override
     public Future<RedisConnection> connect() {
         return redis.connect()
@@ -52,6 +61,7 @@ public Future<Response> send(Request command) {
 
     @Override
     public Future<List<Response>> batch(List<Request> commands) {
+        reportBatch(commands.size());
         long begin = System.nanoTime();
         return redis.batch(commands)
                 .onComplete(x -> report(System.nanoTime() - begin, x.succeeded()));
@@ -113,6 +123,7 @@ public Future<Response> send(Request command) {
 
         @Override
         public Future<List<Response>> batch(List<Request> commands) {
+            reportBatch(commands.size());
             long begin = System.nanoTime();
             return delegate.batch(commands)
                     .onComplete(ar -> {
@@ -12,6 +12,16 @@ public interface ObservableRedisMetrics {
      */
     void report(String name, long durationInNs, boolean succeeded);
 
+    /**
+     * Method called by the {@link ObservableRedis} when a batch of commands is sent, either explicitly or by
+     * pipelining the commands of the data source.
+     *
+     * @param name the client name
+     * @param size the number of commands of the batch
+     */
+    default void reportBatch(String name, int size) {
+    }
+
     ObservableRedisMetrics NOOP = new ObservableRedisMetrics() {
         @Override
         public void report(String name, long durationInNs, boolean succeeded) {
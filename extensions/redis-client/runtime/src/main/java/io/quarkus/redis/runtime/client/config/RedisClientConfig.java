@@ -195,6 +195,18 @@ public interface RedisClientConfig {
     @WithDefault("false")
     boolean autoFailover();
 
+    /**
+     * Whether the commands sent by the Redis data source from the same event loop task are pipelined.
+     * <p>
+     * If enabled, the commands sent from an event loop are collected until the end of the current task, and then
+     * written on a single connection without waiting for the response of a command before writing the next one. This
+     * reduces the number of round trips and of pooled connections used when many independent commands are issued
+     * together, such as the reads of many keys. Each command still completes independently. The commands sent from
+     * worker threads are not pipelined.
+     */
+    @WithDefault("false")
+    boolean autoPipelining();
+
     /**
      * How the Redis topology is obtained. By default, the topology is discovered automatically.
      * This is the only mode for the clustered and sentinel client. For replication client,
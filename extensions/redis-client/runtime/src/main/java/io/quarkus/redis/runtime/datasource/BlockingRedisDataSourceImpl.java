@@ -36,6 +36,7 @@
 import io.quarkus.redis.datasource.transactions.TransactionResult;
 import io.quarkus.redis.datasource.transactions.TransactionalRedisDataSource;
 import io.quarkus.redis.datasource.value.ValueCommands;
+import io.smallrye.mutiny.Uni;
 import io.vertx.mutiny.core.Vertx;
 import io.vertx.mutiny.redis.client.Redis;
 import io.vertx.mutiny.redis.client.RedisAPI;
@@ -216,6 +217,12 @@ public void withConnection(Consumer<RedisDataSource> consumer) {
         }
     }
 
+    @Override
+    public <T> T batch(Function<ReactiveRedisDataSource, Uni<T>> function) {
+        return reactive.batch(function)
+                .await().atMost(timeout);
+    }
+
     @Override
     public void select(long index) {
         reactive.select(index)
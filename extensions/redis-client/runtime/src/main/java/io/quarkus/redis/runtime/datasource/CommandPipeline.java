@@ -0,0 +1,223 @@
+package io.quarkus.redis.runtime.datasource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import io.quarkus.redis.runtime.client.ObservableRedis;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.UniEmitter;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.mutiny.redis.client.Redis;
+import io.vertx.mutiny.redis.client.RedisConnection;
+import io.vertx.redis.client.Request;
+import io.vertx.redis.client.Response;
+import io.vertx.redis.client.impl.RequestImpl;
+
+/**
+ * Pipelines the commands sent by a data source.
+ * <p>
+ * The commands sent from an event loop are not written right away: they are collected until the end of the current
+ * event loop task, and then written on a single connection, without waiting for the response of a command before
+ * writing the next one. So, the commands issued together, typically the reads of a fan-out, cost a single connection
+ * acquisition and a single round trip instead of one of each per command. Unlike {@link Redis#batch(List)}, the
+ * commands of a pipeline complete independently: a command failing does not fail the other commands.
+ * <p>
+ * The commands sent from other threads are sent right away, as there is no end of task to wait for. The commands of an
+ * explicit batch are collected until {@link #flush()} is called, regardless of the thread.
+ * <p>
+ * The blocking commands, such as {@code BLPOP} or {@code XREAD ... BLOCK}, are always sent right away: they would hold
+ * the connection, and so delay the responses of the commands pipelined after them, until they are unblocked.
+ */
+final class CommandPipeline {
+
+    /**
+     * The maximum number of commands written in a single pipeline, kept below the default maximum number of waiting
+     * handlers of a connection.
+     */
+    static final int MAX_PIPELINE_SIZE = 1024;
+
+    private static final Set<String> BLOCKING_COMMANDS = Set.of("blpop", "brpop", "brpoplpush", "blmove", "blmpop",
+            "bzpopmin", "bzpopmax", "bzmpop", "wait", "waitaof");
+    private static final Set<String> STREAM_READ_COMMANDS = Set.of("xread", "xreadgroup");
+
+    private final Redis redis;
+
+    // the commands of an explicit batch, collected until the first flush
+    private Pipeline collected;
+
+    private CommandPipeline(Redis redis, boolean collect) {
+        this.redis = redis;
+        this.collected = collect ? new Pipeline() : null;
+    }
+
+    /**
+     * @return a pipeline sending the commands at the end of the current event loop task
+     */
+    static CommandPipeline auto(Redis redis) {
+        return new CommandPipeline(redis, false);
+    }
+
+    /**
+     * @return a pipeline collecting the commands until {@link #flush()} is called, and then behaving as an
+     *         {@link #auto(Redis) auto} pipeline
+     */
+    static CommandPipeline batch(Redis redis) {
+        return new CommandPipeline(redis, true);
+    }
+
+    Uni<Response> send(Request request) {
+        return Uni.createFrom().emitter(emitter -> enqueue(new PendingCommand(request, emitter)));
+    }
+
+    /**
+     * Sends the collected commands of an explicit batch.
+     */
+    void flush() {
+        Pipeline pipeline;
+        synchronized (this) {
+            pipeline = collected;
+            collected = null;
+        }
+        if (pipeline != null) {
+            pipeline.flush();
+        }
+    }
+
+    private void enqueue(PendingCommand command) {
+        if (isBlocking(command.request())) {
+            command.send(redis);
+            return;
+        }
+        boolean wasCollected = false;
+        Pipeline full = null;
+        synchronized (this) {
+            if (collected != null) {
+                wasCollected = true;
+                collected.add(command);
+                if (collected.size() >= MAX_PIPELINE_SIZE) {
+                    full = collected;
+                    collected = new Pipeline();
+                }
+            }
+        }
+        if (full != null) {
+            full.flush();
+        }
+        if (wasCollected) {
+            return;
+        }
+
+        Context context = Vertx.currentContext();
+        if (context == null || !Context.isOnEventLoopThread()) {
+            command.send(redis);
+            return;
+        }
+        // only accessed from the event loop
+        Pipeline pipeline = context.get(this);
+        if (pipeline == null) {
+            Pipeline created = new Pipeline();
+            context.put(this, created);
+            context.runOnContext(ignored -> {
+                if (context.get(this) == created) {
+                    context.remove(this);
+                }
+                created.flush();
+            });
+            pipeline = created;
+        }
+        pipeline.add(command);
+        if (pipeline.size() >= MAX_PIPELINE_SIZE) {
+            context.remove(this);
+            pipeline.flush();
+        }
+    }
+
+    static boolean isBlocking(Request request) {
+        String name = request.command().toString().toLowerCase(Locale.ROOT);
+        if (BLOCKING_COMMANDS.contains(name)) {
+            return true;
+        }
+        if (STREAM_READ_COMMANDS.contains(name)) {
+            if (!(request instanceof RequestImpl impl)) {
+                // the arguments are unknown, assume the read blocks
+                return true;
+            }
+            for (byte[] arg : impl.getArgs()) {
+                if ("BLOCK".equalsIgnoreCase(new String(arg, StandardCharsets.UTF_8))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private final class Pipeline {
+
+        private List<PendingCommand> commands = new ArrayList<>();
+
+        void add(PendingCommand command) {
+            commands.add(command);
+        }
+
+        int size() {
+            return commands.size();
+        }
+
+        void flush() {
+            List<PendingCommand> commands = this.commands;
+            if (commands.isEmpty()) {
+                return;
+            }
+            this.commands = new ArrayList<>();
+            if (commands.size() == 1) {
+                commands.get(0).send(redis);
+                return;
+            }
+            if (redis.getDelegate() instanceof ObservableRedis observable) {
+                observable.reportBatch(commands.size());
+            }
+            redis.connect()
+                    .chain(connection -> send(connection, commands))
+                    .subscribe().with(ignored -> {
+                    }, failure -> {
+                        // the connection could not be acquired
+                        for (PendingCommand command : commands) {
+                            command.emitter().fail(failure);
+                        }
+                    });
+        }
+
+        private Uni<Void> send(RedisConnection connection, List<PendingCommand> commands) {
+            List<Uni<Void>> responses = new ArrayList<>(commands.size());
+            for (PendingCommand command : commands) {
+                responses.add(connection.send(command.request())
+                        .onItemOrFailure().invoke(command::complete)
+                        .onFailure().recoverWithNull()
+                        .replaceWithVoid());
+            }
+            // the commands are written in order when the responses are subscribed
+            return Uni.join().all(responses).andFailFast()
+                    .onTermination().call(connection::close)
+                    .replaceWithVoid();
+        }
+    }
+
+    private record PendingCommand(Request request, UniEmitter<? super Response> emitter) {
+
+        void send(Redis redis) {
+            redis.send(request).subscribe().with(emitter::complete, emitter::fail);
+        }
+
+        void complete(Response response, Throwable failure) {
+            if (failure != null) {
+                emitter.fail(failure);
+            } else {
+                emitter.complete(response);
+            }
+        }
+    }
+}
@@ -49,14 +49,27 @@ public class ReactiveRedisDataSourceImpl implements ReactiveRedisDataSource, Red
     final Redis redis;
     final RedisConnection connection;
     private final Vertx vertx;
+    private final CommandPipeline pipeline;
 
     public ReactiveRedisDataSourceImpl(Vertx vertx, Redis redis, RedisAPI api) {
+        this(vertx, redis, api, false);
+    }
+
+    public ReactiveRedisDataSourceImpl(Vertx vertx, Redis redis, RedisAPI api, boolean autoPipelining) {
         nonNull(redis, "redis");
         nonNull(api, "api");
         nonNull(vertx, "vertx");
         this.vertx = vertx;
         this.redis = redis;
         this.connection = null;
+        this.pipeline = autoPipelining ? CommandPipeline.auto(redis) : null;
+    }
+
+    private ReactiveRedisDataSourceImpl(Vertx vertx, Redis redis, CommandPipeline pipeline) {
+        this.vertx = vertx;
+        this.redis = redis;
+        this.connection = null;
+        this.pipeline = pipeline;
     }
 
     public ReactiveRedisDataSourceImpl(Vertx vertx, Redis redis, RedisConnection connection) {
@@ -66,6 +79,7 @@ public ReactiveRedisDataSourceImpl(Vertx vertx, Redis redis, RedisConnection con
         this.vertx = vertx;
         this.redis = redis;
         this.connection = connection;
+        this.pipeline = null;
     }
 
     @Override
@@ -73,9 +87,35 @@ public Uni<Response> execute(Request request) {
         if (connection != null) {
             return connection.send(request);
         }
+        if (pipeline != null) {
+            return pipeline.send(request);
+        }
         return redis.send(request);
     }
 
+    @Override
+    public <T> Uni<T> batch(Function<ReactiveRedisDataSource, Uni<T>> function) {
+        nonNull(function, "function");
+        if (connection != null) {
+            // the commands are already sent on a single connection, without waiting for the previous responses
+            return function.apply(this);
+        }
+        return Uni.createFrom().emitter(emitter -> {
+            CommandPipeline batch = CommandPipeline.batch(redis);
+            Uni<T> uni;
+            try {
+                uni = function.apply(new ReactiveRedisDataSourceImpl(vertx, redis, batch));
+            } catch (Throwable failure) {
+                batch.flush();
+                emitter.fail(failure);
+                return;
+            }
+            // subscribing collects the commands issued by the function, they are then sent together
+            uni.subscribe().with(emitter::complete, emitter::fail);
+            batch.flush();
+        });
+    }
+
     @Override
     public Uni<TransactionResult> withTransaction(Function<ReactiveTransactionalRedisDataSource, Uni<Void>> tx) {
         nonNull(tx, "tx");
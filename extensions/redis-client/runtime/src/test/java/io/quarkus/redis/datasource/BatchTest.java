@@ -0,0 +1,161 @@
+package io.quarkus.redis.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.redis.datasource.list.KeyValue;
+import io.quarkus.redis.datasource.value.ReactiveValueCommands;
+import io.quarkus.redis.runtime.client.ObservableRedis;
+import io.quarkus.redis.runtime.client.ObservableRedisMetrics;
+import io.quarkus.redis.runtime.datasource.BlockingRedisDataSourceImpl;
+import io.quarkus.redis.runtime.datasource.ReactiveRedisDataSourceImpl;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.redis.client.Redis;
+
+public class BatchTest extends DatasourceTestBase {
+
+    private RedisDataSource blocking;
+    // the size of the batches sent by the observed client
+    private final List<Integer> batches = new CopyOnWriteArrayList<>();
+    private Redis observed;
+
+    @BeforeEach
+    void initialize() {
+        blocking = new BlockingRedisDataSourceImpl(vertx, redis, api, Duration.ofSeconds(60));
+        Map<String, String> values = new HashMap<>();
+        for (int i = 0; i < 100; i++) {
+            values.put(key + i, "value-" + i);
+        }
+        blocking.value(String.class).mset(values);
+        observed = Redis.newInstance(new ObservableRedis(redis.getDelegate(), "batch-test", new ObservableRedisMetrics() {
+            @Override
+            public void report(String name, long durationInNs, boolean succeeded) {
+            }
+
+            @Override
+            public void reportBatch(String name, int size) {
+                batches.add(size);
+            }
+        }));
+    }
+
+    @AfterEach
+    void clear() {
+        blocking.flushall();
+    }
+
+    @Test
+    void batch() {
+        ReactiveRedisDataSource ds = new ReactiveRedisDataSourceImpl(vertx, observed, api);
+        List<String> values = ds.batch(batch -> {
+            ReactiveValueCommands<String, String> commands = batch.value(String.class);
+            List<Uni<String>> gets = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                gets.add(commands.get(key + i));
+            }
+            return Uni.join().all(gets).andFailFast();
+        }).await().atMost(Duration.ofSeconds(10));
+
+        assertThat(values).hasSize(100);
+        for (int i = 0; i < 100; i++) {
+            assertThat(values.get(i)).isEqualTo("value-" + i);
+        }
+        // the commands were sent together
+        assertThat(batches).containsExactly(100);
+    }
+
+    @Test
+    void blockingBatch() {
+        RedisDataSource ds = new BlockingRedisDataSourceImpl(new ReactiveRedisDataSourceImpl(vertx, observed, api),
+                Duration.ofSeconds(10));
+        List<String> values = ds.batch(batch -> {
+            ReactiveValueCommands<String, String> commands = batch.value(String.class);
+            return Uni.join().all(commands.get(key + 0), commands.get(key + 1), commands.get(key + 2)).andFailFast();
+        });
+
+        assertThat(values).containsExactly("value-0", "value-1", "value-2");
+        assertThat(batches).containsExactly(3);
+    }
+
+    @Test
+    void blockingCommandsAreNotPipelined() {
+        ReactiveRedisDataSource ds = new ReactiveRedisDataSourceImpl(vertx, observed, api);
+        List<Object> values = ds.batch(batch -> Uni.join().<Object> all(
+                batch.value(String.class).get(key + 0),
+                // would delay the responses of the other commands if it was pipelined with them
+                batch.list(String.class).blpop(Duration.ofSeconds(1), key + "empty")
+                        .onItem().ifNull().continueWith(() -> new KeyValue<>("none", "none")),
+                batch.value(String.class).get(key + 1)).andFailFast())
+                .await().atMost(Duration.ofSeconds(10));
+
+        assertThat(values).containsExactly("value-0", new KeyValue<>("none", "none"), "value-1");
+        // BLPOP was sent on its own
+        assertThat(batches).containsExactly(2);
+    }
+
+    @Test
+    void batchWithDependentCommands() {
+        ReactiveRedisDataSource ds = new ReactiveRedisDataSourceImpl(vertx, observed, api);
+        String value = ds.batch(batch -> {
+            ReactiveValueCommands<String, String> commands = batch.value(String.class);
+            return commands.get(key + 0)
+                    .chain(v -> commands.set(key + "copy", v))
+                    .chain(() -> commands.get(key + "copy"));
+        }).await().atMost(Duration.ofSeconds(10));
+
+        assertThat(value).isEqualTo("value-0");
+    }
+
+    @Test
+    void failingCommandDoesNotFailTheBatch() {
+        blocking.list(String.class).lpush(key + "list", "a");
+        ReactiveRedisDataSource ds = new ReactiveRedisDataSourceImpl(vertx, observed, api);
+        List<String> values = ds.batch(batch -> {
+            ReactiveValueCommands<String, String> commands = batch.value(String.class);
+            return Uni.join().all(
+                    commands.get(key + 0),
+                    // WRONGTYPE
+                    commands.get(key + "list").onFailure().recoverWithItem("failed"),
+                    commands.get(key + 1)).andFailFast();
+        }).await().atMost(Duration.ofSeconds(10));
+
+        assertThat(values).containsExactly("value-0", "failed", "value-1");
+    }
+
+    @Test
+    void autoPipelining() {
+        ReactiveRedisDataSource ds = new ReactiveRedisDataSourceImpl(vertx, observed, api, true);
+        ReactiveValueCommands<String, String> commands = ds.value(String.class);
+        // subscribed from an event loop, so that the commands are pipelined
+        List<String> values = Uni.createFrom().voidItem()
+                .emitOn(command -> vertx.getDelegate().getOrCreateContext().runOnContext(ignored -> command.run()))
+                .chain(() -> {
+                    List<Uni<String>> gets = new ArrayList<>();
+                    for (int i = 0; i < 100; i++) {
+                        gets.add(commands.get(key + i));
+                    }
+                    return Uni.join().all(gets).andFailFast();
+                })
+                .await().atMost(Duration.ofSeconds(10));
+
+        assertThat(values).hasSize(100);
+        for (int i = 0; i < 100; i++) {
+            assertThat(values.get(i)).isEqualTo("value-" + i);
+        }
+        assertThat(batches).containsExactly(100);
+
+        // from a worker thread, the commands are sent right away
+        assertThat(commands.get(key + 0).await().atMost(Duration.ofSeconds(10))).isEqualTo("value-0");
+        assertThat(batches).containsExactly(100);
+    }
+}
@@ -19,4 +19,16 @@ public interface RestQuteConfig {
     @WithDefault("false")
     boolean templateInstanceNonBlockingType();
 
+    /**
+     * If set to {@code true} then a {@link io.quarkus.qute.TemplateInstance} returned from a JAX-RS resource method is
+     * rendered directly into a Vert.x buffer that is written to the response, i.e. the output is encoded to UTF-8 as it is
+     * rendered and the complete {@link String} is never created. This reduces the allocations for large templates.
+     * <p>
+     * Note that response filters observe a {@link io.vertx.core.buffer.Buffer} entity instead of a {@link String}. A
+     * template instance is always rendered as a {@link String} if the selected media type declares a charset other than
+     * UTF-8, or if it's wrapped in a {@link jakarta.ws.rs.core.Response}.
+     */
+    @WithDefault("false")
+    boolean renderToBuffer();
+
 }
@@ -0,0 +1,65 @@
+package io.quarkus.resteasy.reactive.qute.deployment;
+
+import static io.restassured.RestAssured.when;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+
+import org.hamcrest.Matchers;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.qute.Template;
+import io.quarkus.qute.TemplateInstance;
+import io.quarkus.test.QuarkusExtensionTest;
+import io.smallrye.mutiny.Uni;
+
+public class RenderToBufferTest {
+
+    private static final List<String> ITEMS = IntStream.range(0, 5000).mapToObj(i -> "Položka " + i)
+            .collect(Collectors.toList());
+
+    @RegisterExtension
+    static final QuarkusExtensionTest config = new QuarkusExtensionTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(TestResource.class)
+                    .addAsResource(new StringAsset("quarkus.rest.qute.render-to-buffer=true"),
+                            "application.properties")
+                    .addAsResource(new StringAsset("{#for item in items}<li>{item}</li>{/for}"), "templates/items.html"));
+
+    @Test
+    public void testRenderToBuffer() {
+        String expected = ITEMS.stream().map(item -> "<li>" + item + "</li>").collect(Collectors.joining());
+        when().get("/items").then().statusCode(200).contentType(Matchers.startsWith(MediaType.TEXT_HTML))
+                .body(Matchers.is(expected));
+        when().get("/items/uni").then().statusCode(200).body(Matchers.is(expected));
+    }
+
+    @Path("items")
+    public static class TestResource {
+
+        @Inject
+        Template items;
+
+        @GET
+        @Produces(MediaType.TEXT_HTML)
+        public TemplateInstance get() {
+            return items.data("items", ITEMS);
+        }
+
+        @GET
+        @Path("uni")
+        @Produces(MediaType.TEXT_HTML)
+        public Uni<TemplateInstance> uni() {
+            return Uni.createFrom().item(() -> items.data("items", ITEMS));
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package io.quarkus.resteasy.reactive.qute.runtime;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
@@ -8,20 +9,55 @@
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Request;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
 import io.quarkus.qute.Engine;
 import io.quarkus.qute.Template;
 import io.quarkus.qute.TemplateException;
 import io.quarkus.qute.TemplateInstance;
 import io.quarkus.qute.Variant;
 import io.smallrye.mutiny.Uni;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.internal.buffer.BufferInternal;
 
 final class Util {
 
+    // The initial capacity of the buffer if no capacity is set for the template instance
+    private static final int DEFAULT_BUFFER_CAPACITY = 4096;
+
     private Util() {
     }
 
     static Uni<String> toUni(TemplateInstance instance, Engine engine) {
-        Uni<String> uni = instance.createUni();
+        return withTimeout(instance.createUni(), instance, engine);
+    }
+
+    /**
+     * The rendered chunks are encoded to UTF-8 as they are emitted, directly into the buffer that is written to the
+     * response. Neither the complete {@link String} nor its encoded {@code byte[]} copy is created.
+     */
+    static Uni<Buffer> toBufferUni(TemplateInstance instance, Engine engine) {
+        Uni<Buffer> uni = Uni.createFrom().deferred(() -> {
+            ByteBuf byteBuf = Unpooled.buffer(getCapacity(instance));
+            return Uni.createFrom().completionStage(instance.consume(chunk -> ByteBufUtil.writeUtf8(byteBuf, chunk)))
+                    .replaceWith(() -> BufferInternal.buffer(byteBuf));
+        });
+        return withTimeout(uni, instance, engine);
+    }
+
+    /**
+     * @return {@code true} if the response for the given media type can be encoded in UTF-8
+     */
+    static boolean isUtf8(MediaType mediaType) {
+        if (mediaType == null) {
+            return true;
+        }
+        String charset = mediaType.getParameters().get(MediaType.CHARSET_PARAMETER);
+        return charset == null || StandardCharsets.UTF_8.name().equalsIgnoreCase(charset);
+    }
+
+    private static <T> Uni<T> withTimeout(Uni<T> uni, TemplateInstance instance, Engine engine) {
         if (!engine.useAsyncTimeout()) {
             // Make sure the timeout is always used
             long timeout = instance.getTimeout();
@@ -31,6 +67,14 @@ static Uni<String> toUni(TemplateInstance instance, Engine engine) {
         return uni;
     }
 
+    private static int getCapacity(TemplateInstance instance) {
+        Object capacity = instance.getAttribute(TemplateInstance.CAPACITY);
+        if (capacity instanceof Number number) {
+            return number.intValue();
+        }
+        return DEFAULT_BUFFER_CAPACITY;
+    }
+
     @SuppressWarnings("unchecked")
     static MediaType setSelectedVariant(TemplateInstance result,
             Request request, List<Locale> acceptableLanguages) {
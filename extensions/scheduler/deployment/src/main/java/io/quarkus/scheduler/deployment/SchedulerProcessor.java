@@ -108,6 +108,8 @@ public class SchedulerProcessor {
 
     static final String INVOKER_SUFFIX = "_ScheduledInvoker";
     static final String NESTED_SEPARATOR = "$_";
+    // Referenced by name because Micrometer is an optional dependency
+    static final String SCHEDULER_LAG_METRICS = "io.quarkus.scheduler.runtime.SchedulerLagMetrics";
 
     @BuildStep
     SchedulerImplementationBuildItem implementation() {
@@ -441,9 +443,14 @@ FeatureBuildItem feature() {
     @BuildStep
     public void metrics(SchedulerConfig config,
             Optional<MetricsCapabilityBuildItem> metricsCapability,
-            BuildProducer<AnnotationsTransformerBuildItem> annotationsTransformer) {
+            BuildProducer<AnnotationsTransformerBuildItem> annotationsTransformer,
+            BuildProducer<AdditionalBeanBuildItem> additionalBeans) {
 
         if (config.metricsEnabled() && metricsCapability.isPresent()) {
+            if (metricsCapability.get().metricsSupported(MetricsFactory.MICROMETER)) {
+                // Record the lag of all scheduled executions
+                additionalBeans.produce(AdditionalBeanBuildItem.unremovableOf(SCHEDULER_LAG_METRICS));
+            }
             DotName micrometerTimed = DotName.createSimple("io.micrometer.core.annotation.Timed");
 
             annotationsTransformer.produce(new AnnotationsTransformerBuildItem(AnnotationsTransformer.builder()
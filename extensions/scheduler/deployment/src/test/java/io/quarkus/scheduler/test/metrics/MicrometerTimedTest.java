@@ -83,6 +83,11 @@ void testTimedMethod() throws InterruptedException {
             fail(e.getMessage() + "\nFound: " + registry.find("foo").meters().stream()
                     .map(Meter::getId).map(Object::toString).collect(Collectors.joining("\n\t- ")));
         }
+
+        Timer lag = registry.get("scheduled.trigger.lag").timer();
+        Awaitility.await().pollInterval(10, TimeUnit.MILLISECONDS)
+                .atMost(2, TimeUnit.SECONDS)
+                .untilAsserted(() -> assertTrue(lag.count() > 0, "Count=" + lag.count()));
     }
 
     static class Jobs {
@@ -0,0 +1,56 @@
+package io.quarkus.scheduler.test.programmatic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.scheduler.Scheduler;
+import io.quarkus.test.QuarkusExtensionTest;
+
+public class ManyProgrammaticJobsTest {
+
+    private static final int JOBS = 10_000;
+
+    @RegisterExtension
+    static final QuarkusExtensionTest test = new QuarkusExtensionTest()
+            .overrideConfigKey("quarkus.scheduler.start-mode", "forced");
+
+    @Inject
+    Scheduler scheduler;
+
+    @Test
+    public void testManyJobs() throws InterruptedException {
+        CountDownLatch intervalLatch = new CountDownLatch(JOBS);
+        CountDownLatch cronLatch = new CountDownLatch(JOBS);
+        for (int i = 0; i < JOBS; i++) {
+            scheduler.newJob("interval" + i)
+                    .setInterval("1s")
+                    .setTask(ex -> intervalLatch.countDown())
+                    .schedule();
+            scheduler.newJob("cron" + i)
+                    .setCron("0/1 * * * * ?")
+                    .setTask(ex -> cronLatch.countDown())
+                    .schedule();
+            scheduler.newJob("unscheduled" + i)
+                    .setInterval("1s")
+                    .setTask(ex -> {
+                    })
+                    .schedule();
+        }
+        for (int i = 0; i < JOBS; i++) {
+            assertNotNull(scheduler.unscheduleJob("unscheduled" + i));
+        }
+        assertTrue(intervalLatch.await(10, TimeUnit.SECONDS), "Not all interval jobs fired: " + intervalLatch.getCount());
+        assertTrue(cronLatch.await(10, TimeUnit.SECONDS), "Not all cron jobs fired: " + cronLatch.getCount());
+        assertEquals(2 * JOBS, scheduler.getScheduledJobs().size());
+    }
+
+}
@@ -0,0 +1,35 @@
+package io.quarkus.scheduler.runtime;
+
+import java.time.Duration;
+
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Singleton;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.quarkus.scheduler.ScheduledExecution;
+import io.quarkus.scheduler.StartedExecution;
+
+/**
+ * Records the lag of scheduled executions, i.e. the time between the scheduled fire time and the actual fire time.
+ * <p>
+ * This bean is only registered if the scheduler metrics are enabled and Micrometer is used. The meter is not tagged with
+ * the job identity because an application may register a large number of programmatic jobs.
+ */
+@Singleton
+public class SchedulerLagMetrics {
+
+    private final Timer lag;
+
+    public SchedulerLagMetrics(MeterRegistry registry) {
+        this.lag = Timer.builder("scheduled.trigger.lag")
+                .description("The time between the scheduled fire time and the actual fire time of a scheduled execution")
+                .register(registry);
+    }
+
+    void onStarted(@Observes StartedExecution event) {
+        ScheduledExecution execution = event.getExecution();
+        Duration diff = Duration.between(execution.getScheduledFireTime(), execution.getFireTime());
+        lag.record(diff.isNegative() ? Duration.ZERO : diff);
+    }
+}
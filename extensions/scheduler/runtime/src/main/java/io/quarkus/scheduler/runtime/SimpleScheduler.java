@@ -6,6 +6,8 @@
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -14,6 +16,7 @@
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.PriorityBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
@@ -75,6 +78,8 @@ public class SimpleScheduler extends BaseScheduler implements Scheduler {
     private final ScheduledExecutorService scheduledExecutor;
     private volatile boolean running;
     private final ConcurrentMap<String, ScheduledTask> scheduledTasks;
+    // Tasks ordered by the time of the next evaluation so that only the due triggers are evaluated during a check
+    private final PriorityBlockingQueue<ScheduledTask> taskQueue;
     private final SchedulerConfig schedulerConfig;
 
     public SimpleScheduler(SchedulerContext context, SchedulerRuntimeConfig schedulerRuntimeConfig,
@@ -92,6 +97,7 @@ public SimpleScheduler(SchedulerContext context, SchedulerRuntimeConfig schedule
                 jobInstrumenter, blockingExecutor);
         this.running = true;
         this.scheduledTasks = new ConcurrentHashMap<>();
+        this.taskQueue = new PriorityBlockingQueue<>(11, Comparator.comparingLong(task -> task.nextEvaluation));
         this.schedulerConfig = schedulerConfig;
 
         if (!schedulerRuntimeConfig.enabled()) {
@@ -160,7 +166,9 @@ public void run() {
                     ScheduledInvoker invoker = initInvoker(context.createInvoker(method.getInvokerClassName()), events,
                             scheduled.concurrentExecution(), initSkipPredicate(scheduled.skipExecutionIf()), instrumenter,
                             vertx, false, SchedulerUtils.parseExecutionMaxDelayAsMillis(scheduled), blockingExecutor);
-                    scheduledTasks.put(trigger.get().id, new ScheduledTask(trigger.get(), invoker, false));
+                    ScheduledTask task = new ScheduledTask(trigger.get(), invoker, false);
+                    scheduledTasks.put(trigger.get().id, task);
+                    taskQueue.offer(task);
                 }
             }
         }
@@ -199,6 +207,7 @@ public Trigger unscheduleJob(String identity) {
             ScheduledTask task = scheduledTasks.get(parsedIdentity);
             if (task != null && task.isProgrammatic) {
                 if (scheduledTasks.remove(task.trigger.id) != null) {
+                    taskQueue.remove(task);
                     return task.trigger;
                 }
             }
@@ -237,8 +246,27 @@ void checkTriggers() {
         }
         ZonedDateTime now = ZonedDateTime.now();
         LOG.tracef("Check triggers at %s", now);
-        for (ScheduledTask task : scheduledTasks.values()) {
-            task.execute(now, vertx);
+        long nowMillis = now.toInstant().toEpochMilli();
+        // Tasks are only polled by this thread but new tasks can be offered concurrently
+        List<ScheduledTask> due = new ArrayList<>();
+        for (ScheduledTask task = taskQueue.poll(); task != null; task = taskQueue.poll()) {
+            if (task.nextEvaluation > nowMillis) {
+                taskQueue.offer(task);
+                break;
+            }
+            due.add(task);
+        }
+        for (ScheduledTask task : due) {
+            if (scheduledTasks.get(task.trigger.id) != task) {
+                // Unscheduled in the meantime
+                continue;
+            }
+            try {
+                task.execute(now, vertx);
+            } finally {
+                task.nextEvaluation = task.trigger.nextEvaluation();
+                taskQueue.offer(task);
+            }
         }
     }
 
@@ -383,11 +411,14 @@ static class ScheduledTask {
         final boolean isProgrammatic;
         final SimpleTrigger trigger;
         final ScheduledInvoker invoker;
+        // Epoch milliseconds; only modified while the task is not in the queue
+        long nextEvaluation;
 
         ScheduledTask(SimpleTrigger trigger, ScheduledInvoker invoker, boolean isProgrammatic) {
             this.trigger = trigger;
             this.invoker = invoker;
             this.isProgrammatic = isProgrammatic;
+            this.nextEvaluation = trigger.nextEvaluation();
         }
 
         void execute(ZonedDateTime now, Vertx vertx) {
@@ -429,6 +460,14 @@ static abstract class SimpleTrigger implements Trigger {
          */
         abstract ZonedDateTime evaluate(ZonedDateTime now);
 
+        /**
+         * The trigger is guaranteed not to fire if evaluated before the returned time. Note that a paused trigger is
+         * evaluated as soon as it's resumed.
+         *
+         * @return the earliest time in epoch milliseconds at which {@link #evaluate(ZonedDateTime)} may fire
+         */
+        abstract long nextEvaluation();
+
         @Override
         public Instant getPreviousFireTime() {
             ZonedDateTime last = lastFireTime;
@@ -496,6 +535,16 @@ ZonedDateTime evaluate(ZonedDateTime now) {
             return null;
         }
 
+        @Override
+        long nextEvaluation() {
+            ZonedDateTime last = lastFireTime;
+            if (last == null) {
+                // The first execution happens as soon as the trigger is started
+                return start.toInstant().toEpochMilli();
+            }
+            return last.toInstant().toEpochMilli() + interval;
+        }
+
         @Override
         public Instant getNextFireTime() {
             ZonedDateTime last = lastFireTime;
@@ -565,6 +614,16 @@ ZonedDateTime evaluate(ZonedDateTime now) {
             return null;
         }
 
+        @Override
+        long nextEvaluation() {
+            // The trigger fires once the next execution after the last fire time has passed
+            Optional<ZonedDateTime> next = executionTime.nextExecution(lastFireTime);
+            if (next.isEmpty()) {
+                return Long.MAX_VALUE;
+            }
+            return Math.max(start.toInstant().toEpochMilli(), next.get().toInstant().toEpochMilli());
+        }
+
         @Override
         public boolean isOverdue() {
             ZonedDateTime now = ZonedDateTime.now();
@@ -687,6 +746,7 @@ public boolean isBlocking() {
                 if (existing != null) {
                     throw new IllegalStateException("A job with this identity is already scheduled: " + identity);
                 }
+                taskQueue.offer(scheduledTask);
                 return simpleTrigger;
             }
             return null;
@@ -6,6 +6,7 @@
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.inject.Instance;
 import jakarta.enterprise.inject.Produces;
+import jakarta.inject.Singleton;
 
 import io.quarkus.arc.DefaultBean;
 import io.quarkus.runtime.ExecutorRecorder;
@@ -32,10 +33,18 @@ public Executor get() {
         });
     }
 
+    @Produces
+    @Singleton
+    SecurityIdentityCache identityCache(SecurityConfig securityConfig) {
+        SecurityConfig.SecurityIdentityCacheConfig config = securityConfig.identityCache();
+        return new SecurityIdentityCache(config.enabled() ? config.maxSize() : 0, config.timeToLive());
+    }
+
     @Produces
     @ApplicationScoped
     public IdentityProviderManager ipm(Instance<IdentityProvider<?>> identityProviders,
-            Instance<SecurityIdentityAugmentor> augmentors, BlockingSecurityExecutor blockingExecutor) {
+            Instance<SecurityIdentityAugmentor> augmentors, BlockingSecurityExecutor blockingExecutor,
+            SecurityIdentityCache identityCache) {
         boolean customAnon = false;
         QuarkusIdentityProviderManagerImpl.Builder builder = QuarkusIdentityProviderManagerImpl.builder();
         for (var i : identityProviders) {
@@ -51,6 +60,7 @@ public IdentityProviderManager ipm(Instance<IdentityProvider<?>> identityProvide
             builder.addSecurityIdentityAugmentor(i);
         }
         builder.setBlockingExecutor(blockingExecutor);
+        builder.setIdentityCache(identityCache);
         return builder.build();
     }
 
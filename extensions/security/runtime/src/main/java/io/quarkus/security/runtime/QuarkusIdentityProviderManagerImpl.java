@@ -8,6 +8,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -33,10 +34,13 @@ public class QuarkusIdentityProviderManagerImpl implements IdentityProviderManag
     private final Map<Class<? extends AuthenticationRequest>, List<IdentityProvider<? extends AuthenticationRequest>>> providers;
     private final SecurityIdentityAugmentor[] augmenters;
     private final AuthenticationRequestContext blockingRequestContext;
+    private final SecurityIdentityCache identityCache;
 
     QuarkusIdentityProviderManagerImpl(Builder builder) {
         this.providers = builder.providers;
         this.augmenters = builder.augmentors.toArray(SecurityIdentityAugmentor[]::new);
+        this.identityCache = builder.identityCache != null && builder.identityCache.isEnabled() ? builder.identityCache
+                : null;
         this.blockingRequestContext = new AuthenticationRequestContext() {
             @Override
             public Uni<SecurityIdentity> runBlocking(Supplier<SecurityIdentity> function) {
@@ -49,12 +53,32 @@ public Uni<SecurityIdentity> runBlocking(Supplier<SecurityIdentity> function) {
      * Attempts to create an authenticated identity for the provided {@link AuthenticationRequest}.
      * <p>
      * If authentication succeeds the resulting identity will be augmented with any configured {@link SecurityIdentityAugmentor}
-     * instances that have been registered.
+     * instances that have been registered. The augmented identity is cached if the request is marked as cacheable and
+     * the {@link SecurityIdentityCache} is enabled.
      *
      * @param request The authentication request
      * @return The first identity provider that was registered with this type
      */
     public Uni<SecurityIdentity> authenticate(AuthenticationRequest request) {
+        if (identityCache != null) {
+            String key = identityCache.getKey(request);
+            if (key != null) {
+                SecurityIdentity cached = identityCache.get(key, request);
+                if (cached != null) {
+                    return Uni.createFrom().item(cached);
+                }
+                return authenticateWithProviders(request).invoke(new Consumer<SecurityIdentity>() {
+                    @Override
+                    public void accept(SecurityIdentity securityIdentity) {
+                        identityCache.put(key, securityIdentity, request);
+                    }
+                });
+            }
+        }
+        return authenticateWithProviders(request);
+    }
+
+    private Uni<SecurityIdentity> authenticateWithProviders(AuthenticationRequest request) {
         try {
             var providers = this.providers.get(request.getClass());
             if (providers == null) {
@@ -184,6 +208,7 @@ public static class Builder {
         private final List<SecurityIdentityAugmentor> augmentors = new ArrayList<>();
         private QuarkusPermissionSecurityIdentityAugmentor quarkusPermissionAugmentor = null;
         private BlockingSecurityExecutor blockingExecutor;
+        private SecurityIdentityCache identityCache;
         private boolean built = false;
 
         /**
@@ -233,6 +258,15 @@ public Builder setBlockingExecutor(Executor blockingExecutor) {
             return this;
         }
 
+        /**
+         * @param identityCache The cache of the identities created for the cacheable token authentication requests
+         * @return this builder
+         */
+        public Builder setIdentityCache(SecurityIdentityCache identityCache) {
+            this.identityCache = identityCache;
+            return this;
+        }
+
         /**
          * @return a new {@link QuarkusIdentityProviderManagerImpl}
          */
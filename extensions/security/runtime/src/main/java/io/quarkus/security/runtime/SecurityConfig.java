@@ -1,5 +1,7 @@
 package io.quarkus.security.runtime;
 
+import java.time.Duration;
+
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
 import io.smallrye.config.ConfigMapping;
@@ -27,4 +29,37 @@ interface SecurityEventsConfig {
 
     }
 
+    /**
+     * Security identity cache configuration.
+     */
+    SecurityIdentityCacheConfig identityCache();
+
+    interface SecurityIdentityCacheConfig {
+
+        /**
+         * Whether the security identities created for the bearer tokens should be cached, so that the token is neither
+         * verified nor the identity augmented again when the same token is presented again.
+         * Only the smallrye-jwt and OIDC bearer token authentication mechanisms use this cache. The smallrye-jwt
+         * mechanism only uses it if `quarkus.smallrye-jwt.identity-cache-enabled` is `true`, and the OIDC mechanism does
+         * not use it for the certificate or DPoP bound tokens, nor for the step-up authentication.
+         * Enable it only if the `SecurityIdentityAugmentor` beans do not depend on the current request.
+         */
+        @WithDefault("false")
+        boolean enabled();
+
+        /**
+         * Maximum number of cached security identities.
+         */
+        @WithDefault("1000")
+        int maxSize();
+
+        /**
+         * Maximum time a security identity is cached. A security identity is never cached after its token expired.
+         * The revoked tokens are accepted until their identity is removed from the cache.
+         */
+        @WithDefault("1M")
+        Duration timeToLive();
+
+    }
+
 }
@@ -0,0 +1,320 @@
+package io.quarkus.security.runtime;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.Permission;
+import java.security.Principal;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.quarkus.security.credential.Credential;
+import io.quarkus.security.identity.SecurityIdentity;
+import io.quarkus.security.identity.request.AuthenticationRequest;
+import io.quarkus.security.identity.request.TokenAuthenticationRequest;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * A cache of the augmented {@link SecurityIdentity} created for the token authentication requests, so that a token
+ * which is presented again is neither verified nor augmented again.
+ * <p>
+ * Only the requests marked with {@link #setCachePartition(AuthenticationRequest, String)} are cached, that is
+ * the requests for which the authentication mechanism knows that the identity only depends on the token. The entries
+ * are keyed by the partition, the credential type and the SHA-256 digest of the token, so that the tokens are not kept
+ * in memory. An entry expires after the configured time to live, or when the token expires if it is sooner; the
+ * identities without the {@link #EXPIRE_TIME_ATTRIBUTE} attribute are not cached.
+ * <p>
+ * The entries are spread across segments, each guarded by its own lock and evicting its least recently used entry when
+ * it is full. The expired entries are never returned: they are removed when they are looked up, and by a sweep of all
+ * the segments done by the first put after each time to live period, so that a put does not scan the cache.
+ * <p>
+ * The identity attributes holding a request attribute, such as the routing context, are replaced with the attributes
+ * of the current request when a cached identity is returned. The cached identity is then wrapped rather than copied, so
+ * that the identity implementation, e.g. its {@link SecurityIdentity#hasRole(String)} method, is preserved.
+ */
+public class SecurityIdentityCache {
+
+    /**
+     * The request attribute holding the cache partition, usually the identity provider configuration that verified the
+     * token, so that the entries can be invalidated when its keys are rotated.
+     */
+    public static final String CACHE_PARTITION_ATTRIBUTE = "io.quarkus.security.identity-cache.partition";
+
+    /**
+     * The identity attribute holding the time the token of the identity expires at, in seconds since the epoch.
+     */
+    public static final String EXPIRE_TIME_ATTRIBUTE = "quarkus.identity.expire-time";
+
+    // below this number of entries per segment, a single segment is used so that the eviction is exactly LRU
+    private static final int MIN_SEGMENT_CAPACITY = 64;
+    private static final int MAX_SEGMENTS = 16;
+
+    private final Segment[] segments;
+    private final int segmentMask;
+    private final int maxSize;
+    private final long timeToLive;
+    // the time after which the next put removes the expired entries
+    private final AtomicLong nextSweep;
+
+    public SecurityIdentityCache(int maxSize, Duration timeToLive) {
+        this.maxSize = Math.max(0, maxSize);
+        this.timeToLive = timeToLive.toMillis();
+        int segmentCount = Integer.highestOneBit(Math.max(1, Math.min(MAX_SEGMENTS, this.maxSize / MIN_SEGMENT_CAPACITY)));
+        int segmentCapacity = (this.maxSize + segmentCount - 1) / segmentCount;
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment(segmentCapacity);
+        }
+        this.segmentMask = segmentCount - 1;
+        this.nextSweep = new AtomicLong(System.currentTimeMillis() + this.timeToLive);
+    }
+
+    /**
+     * Marks the request as cacheable.
+     *
+     * @param request the token authentication request
+     * @param partition the cache partition, see {@link #invalidate(String)}
+     * @return the request
+     */
+    public static <T extends AuthenticationRequest> T setCachePartition(T request, String partition) {
+        request.setAttribute(CACHE_PARTITION_ATTRIBUTE, partition);
+        return request;
+    }
+
+    boolean isEnabled() {
+        return maxSize > 0 && timeToLive > 0;
+    }
+
+    /**
+     * @return the cache key, or null if the request is not cacheable
+     */
+    String getKey(AuthenticationRequest request) {
+        if (request instanceof TokenAuthenticationRequest tokenRequest
+                && request.getAttribute(CACHE_PARTITION_ATTRIBUTE) instanceof String partition
+                && tokenRequest.getToken() != null && tokenRequest.getToken().getToken() != null) {
+            return partition + '|' + tokenRequest.getToken().getClass().getName() + '|'
+                    + digest(tokenRequest.getToken().getToken());
+        }
+        return null;
+    }
+
+    SecurityIdentity get(String key, AuthenticationRequest request) {
+        Segment segment = segment(key);
+        Entry entry;
+        synchronized (segment) {
+            entry = segment.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expiresAt <= System.currentTimeMillis()) {
+                segment.remove(key);
+                return null;
+            }
+        }
+        if (entry.requestAttributes.isEmpty()) {
+            return entry.identity;
+        }
+        Map<String, Object> attributes = new HashMap<>();
+        for (Map.Entry<String, String> attribute : entry.requestAttributes.entrySet()) {
+            Object value = request.getAttribute(attribute.getValue());
+            if (value != null) {
+                attributes.put(attribute.getKey(), value);
+            }
+        }
+        return attributes.isEmpty() ? entry.identity : new RequestAwareSecurityIdentity(entry.identity, attributes);
+    }
+
+    void put(String key, SecurityIdentity identity, AuthenticationRequest request) {
+        if (identity == null || identity.isAnonymous()
+                || !(identity.getAttribute(EXPIRE_TIME_ATTRIBUTE) instanceof Long tokenExpiresAt)) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        long expiresAt = Math.min(now + timeToLive, TimeUnit.SECONDS.toMillis(tokenExpiresAt));
+        if (expiresAt <= now) {
+            return;
+        }
+        sweepIfDue(now);
+        Entry entry = new Entry(identity, expiresAt, getRequestAttributes(identity, request));
+        Segment segment = segment(key);
+        synchronized (segment) {
+            segment.put(key, entry);
+        }
+    }
+
+    /**
+     * Removes the identities of the given partition, e.g. when the keys used to verify its tokens are rotated.
+     *
+     * @param partition the cache partition
+     */
+    public void invalidate(String partition) {
+        String prefix = partition + '|';
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                segment.keySet().removeIf(key -> key.startsWith(prefix));
+            }
+        }
+    }
+
+    /**
+     * Removes all the identities.
+     */
+    public void invalidateAll() {
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    /**
+     * @return the number of cached identities, including the expired identities which were not removed yet
+     */
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    private void sweepIfDue(long now) {
+        long next = nextSweep.get();
+        if (now < next || !nextSweep.compareAndSet(next, now + timeToLive)) {
+            return;
+        }
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                segment.values().removeIf(entry -> entry.expiresAt <= now);
+            }
+        }
+    }
+
+    private Segment segment(String key) {
+        int h = key.hashCode();
+        return segments[(h ^ (h >>> 16)) & segmentMask];
+    }
+
+    private static Map<String, String> getRequestAttributes(SecurityIdentity identity, AuthenticationRequest request) {
+        Map<String, String> requestAttributes = null;
+        for (Map.Entry<String, Object> identityAttribute : identity.getAttributes().entrySet()) {
+            for (Map.Entry<String, Object> requestAttribute : request.getAttributes().entrySet()) {
+                if (identityAttribute.getValue() == requestAttribute.getValue()) {
+                    if (requestAttributes == null) {
+                        requestAttributes = new HashMap<>();
+                    }
+                    requestAttributes.put(identityAttribute.getKey(), requestAttribute.getKey());
+                    break;
+                }
+            }
+        }
+        return requestAttributes == null ? Map.of() : requestAttributes;
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Entry(SecurityIdentity identity, long expiresAt, Map<String, String> requestAttributes) {
+    }
+
+    /**
+     * The entries of a segment, in access order so that the least recently used entry is evicted when it is full.
+     */
+    @SuppressWarnings("serial")
+    private static final class Segment extends LinkedHashMap<String, Entry> {
+
+        private final int capacity;
+
+        private Segment(int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            return size() > capacity;
+        }
+    }
+
+    /**
+     * A cached identity with the attributes of the current request.
+     */
+    private static final class RequestAwareSecurityIdentity implements SecurityIdentity {
+
+        private final SecurityIdentity delegate;
+        private final Map<String, Object> requestAttributes;
+
+        private RequestAwareSecurityIdentity(SecurityIdentity delegate, Map<String, Object> requestAttributes) {
+            this.delegate = delegate;
+            this.requestAttributes = requestAttributes;
+        }
+
+        @Override
+        public Principal getPrincipal() {
+            return delegate.getPrincipal();
+        }
+
+        @Override
+        public boolean isAnonymous() {
+            return delegate.isAnonymous();
+        }
+
+        @Override
+        public Set<String> getRoles() {
+            return delegate.getRoles();
+        }
+
+        @Override
+        public boolean hasRole(String role) {
+            return delegate.hasRole(role);
+        }
+
+        @Override
+        public <T extends Credential> T getCredential(Class<T> credentialType) {
+            return delegate.getCredential(credentialType);
+        }
+
+        @Override
+        public Set<Credential> getCredentials() {
+            return delegate.getCredentials();
+        }
+
+        @Override
+        public Set<Permission> getPermissions() {
+            return delegate.getPermissions();
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public <T> T getAttribute(String name) {
+            Object value = requestAttributes.get(name);
+            return value != null ? (T) value : delegate.getAttribute(name);
+        }
+
+        @Override
+        public Map<String, Object> getAttributes() {
+            Map<String, Object> attributes = new HashMap<>(delegate.getAttributes());
+            attributes.putAll(requestAttributes);
+            return attributes;
+        }
+
+        @Override
+        public Uni<Boolean> checkPermission(Permission permission) {
+            return delegate.checkPermission(permission);
+        }
+    }
+}
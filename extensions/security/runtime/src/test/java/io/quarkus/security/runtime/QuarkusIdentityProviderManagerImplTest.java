@@ -7,17 +7,22 @@
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 
 import io.quarkus.security.AuthenticationFailedException;
+import io.quarkus.security.credential.TokenCredential;
 import io.quarkus.security.identity.AuthenticationRequestContext;
 import io.quarkus.security.identity.IdentityProvider;
 import io.quarkus.security.identity.IdentityProviderManager;
 import io.quarkus.security.identity.SecurityIdentity;
 import io.quarkus.security.identity.SecurityIdentityAugmentor;
 import io.quarkus.security.identity.request.BaseAuthenticationRequest;
+import io.quarkus.security.identity.request.TokenAuthenticationRequest;
 import io.smallrye.mutiny.Uni;
 
 class QuarkusIdentityProviderManagerImplTest {
@@ -53,9 +58,118 @@ void testIdentityProviderAugmentOnlyOnce() {
         verify(augmentor, times(1)).augment(any(), any());
     }
 
+    @Test
+    void testIdentityCache() {
+        TestTokenIdentityProvider provider = new TestTokenIdentityProvider();
+        SecurityIdentityCache identityCache = new SecurityIdentityCache(10, Duration.ofMinutes(1));
+        TestSecurityAugmentor augmentor = spy(new TestSecurityAugmentor());
+        IdentityProviderManager identityProviderManager = QuarkusIdentityProviderManagerImpl.builder()
+                .addProvider(provider)
+                .addProvider(new AnonymousIdentityProvider())
+                .addSecurityIdentityAugmentor(augmentor)
+                .setIdentityCache(identityCache)
+                .setBlockingExecutor(Executors.newSingleThreadExecutor())
+                .build();
+
+        SecurityIdentity identity = authenticate(identityProviderManager, "token", "partition", "first request");
+        assertEquals("first request", identity.getAttribute(TestTokenIdentityProvider.REQUEST_ATTRIBUTE));
+        // the identity is neither created nor augmented again, but holds the attribute of the current request
+        identity = authenticate(identityProviderManager, "token", "partition", "second request");
+        assertEquals(new QuarkusPrincipal("Bob"), identity.getPrincipal());
+        assertTrue(identity.getRoles().contains("role"));
+        assertEquals("second request", identity.getAttribute(TestTokenIdentityProvider.REQUEST_ATTRIBUTE));
+        assertEquals(1, provider.authentications.get());
+        verify(augmentor, times(1)).augment(any(), any());
+
+        // another token, or a request which is not cacheable, are authenticated
+        authenticate(identityProviderManager, "other token", "partition", "request");
+        assertEquals(2, provider.authentications.get());
+        authenticate(identityProviderManager, "token", null, "request");
+        assertEquals(3, provider.authentications.get());
+
+        identityCache.invalidate("partition");
+        assertEquals(0, identityCache.size());
+        authenticate(identityProviderManager, "token", "partition", "request");
+        assertEquals(4, provider.authentications.get());
+    }
+
+    @Test
+    void testIdentityCacheRespectsTokenExpiry() {
+        TestTokenIdentityProvider provider = new TestTokenIdentityProvider();
+        provider.expiresAt = Instant.now().getEpochSecond() - 1;
+        IdentityProviderManager identityProviderManager = QuarkusIdentityProviderManagerImpl.builder()
+                .addProvider(provider)
+                .addProvider(new AnonymousIdentityProvider())
+                .setIdentityCache(new SecurityIdentityCache(10, Duration.ofMinutes(1)))
+                .setBlockingExecutor(Executors.newSingleThreadExecutor())
+                .build();
+
+        authenticate(identityProviderManager, "token", "partition", "request");
+        authenticate(identityProviderManager, "token", "partition", "request");
+        assertEquals(2, provider.authentications.get());
+    }
+
+    @Test
+    void testIdentityCacheEvictsLeastRecentlyUsedIdentity() {
+        TestTokenIdentityProvider provider = new TestTokenIdentityProvider();
+        SecurityIdentityCache identityCache = new SecurityIdentityCache(2, Duration.ofMinutes(1));
+        IdentityProviderManager identityProviderManager = QuarkusIdentityProviderManagerImpl.builder()
+                .addProvider(provider)
+                .addProvider(new AnonymousIdentityProvider())
+                .setIdentityCache(identityCache)
+                .setBlockingExecutor(Executors.newSingleThreadExecutor())
+                .build();
+
+        authenticate(identityProviderManager, "first", "partition", "request");
+        authenticate(identityProviderManager, "second", "partition", "request");
+        // the first identity is used again, so the second one is evicted to make room for the third one
+        authenticate(identityProviderManager, "first", "partition", "request");
+        authenticate(identityProviderManager, "third", "partition", "request");
+        assertEquals(3, provider.authentications.get());
+        assertEquals(2, identityCache.size());
+
+        authenticate(identityProviderManager, "first", "partition", "request");
+        assertEquals(3, provider.authentications.get());
+        authenticate(identityProviderManager, "second", "partition", "request");
+        assertEquals(4, provider.authentications.get());
+    }
+
+    private static SecurityIdentity authenticate(IdentityProviderManager identityProviderManager, String token,
+            String partition, String requestAttribute) {
+        TokenAuthenticationRequest request = new TokenAuthenticationRequest(new TokenCredential(token, "bearer"));
+        if (partition != null) {
+            SecurityIdentityCache.setCachePartition(request, partition);
+        }
+        request.setAttribute(TestTokenIdentityProvider.REQUEST_ATTRIBUTE, requestAttribute);
+        return identityProviderManager.authenticate(request).await().indefinitely();
+    }
+
     static class TestAuthenticationRequest extends BaseAuthenticationRequest {
     }
 
+    static class TestTokenIdentityProvider implements IdentityProvider<TokenAuthenticationRequest> {
+
+        static final String REQUEST_ATTRIBUTE = "request-attribute";
+
+        final AtomicInteger authentications = new AtomicInteger();
+        volatile long expiresAt = Instant.now().plusSeconds(60).getEpochSecond();
+
+        @Override
+        public Class<TokenAuthenticationRequest> getRequestType() {
+            return TokenAuthenticationRequest.class;
+        }
+
+        @Override
+        public Uni<SecurityIdentity> authenticate(TokenAuthenticationRequest request, AuthenticationRequestContext context) {
+            authentications.incrementAndGet();
+            return Uni.createFrom().item(QuarkusSecurityIdentity.builder()
+                    .setPrincipal(new QuarkusPrincipal("Bob"))
+                    .addAttribute(SecurityIdentityCache.EXPIRE_TIME_ATTRIBUTE, expiresAt)
+                    .addAttribute(REQUEST_ATTRIBUTE, request.getAttribute(REQUEST_ATTRIBUTE))
+                    .build());
+        }
+    }
+
     abstract static class TestIdentityProvider implements IdentityProvider<TestAuthenticationRequest> {
         @Override
         public Class<TestAuthenticationRequest> getRequestType() {
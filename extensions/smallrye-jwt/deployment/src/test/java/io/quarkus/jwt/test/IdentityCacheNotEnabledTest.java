@@ -0,0 +1,53 @@
+package io.quarkus.jwt.test;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.security.runtime.SecurityIdentityCache;
+import io.quarkus.test.QuarkusExtensionTest;
+import io.restassured.RestAssured;
+import io.smallrye.jwt.build.Jwt;
+
+public class IdentityCacheNotEnabledTest {
+
+    @RegisterExtension
+    static final QuarkusExtensionTest config = new QuarkusExtensionTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(JwtSignEndpoint.class, IdentityCacheTest.CountingAugmentor.class,
+                            IdentityCacheTest.RootIdentity.class)
+                    .addAsResource("jwtPublicKey.pem")
+                    .addAsResource("jwtPrivateKey.pem")
+                    .addAsResource("applicationJwtSign.properties", "application.properties"))
+            .overrideConfigKey("quarkus.security.identity-cache.enabled", "true");
+
+    @Inject
+    SecurityIdentityCache identityCache;
+
+    @Inject
+    IdentityCacheTest.CountingAugmentor augmentor;
+
+    @Test
+    public void testIdentityIsNotCachedByDefault() {
+        String jwt = Jwt.issuer("immo-jwt")
+                .subject("immo-jwt")
+                .groups("admin")
+                .expiresIn(3600)
+                .sign();
+
+        for (int i = 0; i < 2; i++) {
+            RestAssured.given().auth()
+                    .oauth2(jwt)
+                    .get("/jwtsign")
+                    .then().assertThat().statusCode(200)
+                    .body(equalTo("success"));
+        }
+        // the smallrye-jwt identities are only cached if quarkus.smallrye-jwt.identity-cache-enabled is true
+        assertEquals(2, augmentor.count.get());
+        assertEquals(0, identityCache.size());
+    }
+}
@@ -0,0 +1,182 @@
+package io.quarkus.jwt.test;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.security.Permission;
+import java.security.Principal;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.security.credential.Credential;
+import io.quarkus.security.identity.AuthenticationRequestContext;
+import io.quarkus.security.identity.SecurityIdentity;
+import io.quarkus.security.identity.SecurityIdentityAugmentor;
+import io.quarkus.security.runtime.SecurityIdentityCache;
+import io.quarkus.test.QuarkusExtensionTest;
+import io.restassured.RestAssured;
+import io.smallrye.jwt.build.Jwt;
+import io.smallrye.mutiny.Uni;
+
+public class IdentityCacheTest {
+
+    @RegisterExtension
+    static final QuarkusExtensionTest config = new QuarkusExtensionTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(JwtSignEndpoint.class, CountingAugmentor.class, RootIdentity.class)
+                    .addAsResource("jwtPublicKey.pem")
+                    .addAsResource("jwtPrivateKey.pem")
+                    .addAsResource("applicationJwtSign.properties", "application.properties"))
+            .overrideConfigKey("quarkus.security.identity-cache.enabled", "true")
+            .overrideConfigKey("quarkus.smallrye-jwt.identity-cache-enabled", "true");
+
+    @Inject
+    SecurityIdentityCache identityCache;
+
+    @Inject
+    CountingAugmentor augmentor;
+
+    @BeforeEach
+    public void clearCache() {
+        identityCache.invalidateAll();
+        augmentor.count.set(0);
+    }
+
+    @Test
+    public void testIdentityIsCached() {
+        String jwt = Jwt.issuer("immo-jwt")
+                .subject("immo-jwt")
+                .groups("admin")
+                .expiresIn(3600)
+                .sign();
+
+        for (int i = 0; i < 3; i++) {
+            RestAssured.given().auth()
+                    .oauth2(jwt)
+                    .get("/jwtsign")
+                    .then().assertThat().statusCode(200)
+                    .body(equalTo("success"));
+        }
+        // the token was verified and the identity augmented only once
+        assertEquals(1, augmentor.count.get());
+        assertEquals(1, identityCache.size());
+    }
+
+    @Test
+    public void testCachedIdentityKeepsItsImplementation() {
+        // only the augmented identity grants the admin role
+        String jwt = Jwt.issuer("immo-jwt")
+                .subject("immo-jwt")
+                .groups("root")
+                .expiresIn(3600)
+                .sign();
+
+        for (int i = 0; i < 2; i++) {
+            RestAssured.given().auth()
+                    .oauth2(jwt)
+                    .get("/jwtsign")
+                    .then().assertThat().statusCode(200)
+                    .body(equalTo("success"));
+        }
+        assertEquals(1, augmentor.count.get());
+    }
+
+    @Test
+    public void testIdentitiesAreCachedPerToken() {
+        for (String group : new String[] { "admin", "user" }) {
+            String jwt = Jwt.issuer("immo-jwt")
+                    .subject("immo-jwt")
+                    .groups(group)
+                    .expiresIn(3600)
+                    .sign();
+            RestAssured.given().auth()
+                    .oauth2(jwt)
+                    .get("/jwtsign")
+                    .then().assertThat().statusCode("admin".equals(group) ? 200 : 403);
+        }
+        assertEquals(2, augmentor.count.get());
+        assertEquals(2, identityCache.size());
+    }
+
+    @ApplicationScoped
+    public static class CountingAugmentor implements SecurityIdentityAugmentor {
+
+        final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Uni<SecurityIdentity> augment(SecurityIdentity identity, AuthenticationRequestContext context) {
+            count.incrementAndGet();
+            return Uni.createFrom().item(new RootIdentity(identity));
+        }
+    }
+
+    /**
+     * Grants all the roles to the {@code root} group.
+     */
+    public static class RootIdentity implements SecurityIdentity {
+
+        private final SecurityIdentity delegate;
+
+        RootIdentity(SecurityIdentity delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Principal getPrincipal() {
+            return delegate.getPrincipal();
+        }
+
+        @Override
+        public boolean isAnonymous() {
+            return delegate.isAnonymous();
+        }
+
+        @Override
+        public Set<String> getRoles() {
+            return delegate.getRoles();
+        }
+
+        @Override
+        public boolean hasRole(String role) {
+            return delegate.hasRole("root") || delegate.hasRole(role);
+        }
+
+        @Override
+        public <T extends Credential> T getCredential(Class<T> credentialType) {
+            return delegate.getCredential(credentialType);
+        }
+
+        @Override
+        public Set<Credential> getCredentials() {
+            return delegate.getCredentials();
+        }
+
+        @Override
+        public Set<Permission> getPermissions() {
+            return delegate.getPermissions();
+        }
+
+        @Override
+        public <T> T getAttribute(String name) {
+            return delegate.getAttribute(name);
+        }
+
+        @Override
+        public Map<String, Object> getAttributes() {
+            return delegate.getAttributes();
+        }
+
+        @Override
+        public Uni<Boolean> checkPermission(Permission permission) {
+            return delegate.checkPermission(permission);
+        }
+    }
+}
@@ -21,6 +21,7 @@
 import io.quarkus.security.identity.SecurityIdentity;
 import io.quarkus.security.identity.request.AuthenticationRequest;
 import io.quarkus.security.identity.request.TokenAuthenticationRequest;
+import io.quarkus.security.runtime.SecurityIdentityCache;
 import io.quarkus.vertx.core.runtime.context.VertxContextSafetyToggle;
 import io.quarkus.vertx.http.runtime.security.ChallengeData;
 import io.quarkus.vertx.http.runtime.security.HttpAuthenticationMechanism;
@@ -40,6 +41,7 @@
 @ApplicationScoped
 public class JWTAuthMechanism implements HttpAuthenticationMechanism {
     private static final Logger LOG = Logger.getLogger(JWTAuthMechanism.class);
+    private static final String IDENTITY_CACHE_PARTITION = "smallrye-jwt";
     private static final String ERROR_MSG = "SmallRye JWT requires a safe (isolated) Vert.x sub-context for propagation "
             + "of the '" + TokenCredential.class.getName() + "', but the current context hasn't been flagged as such.";
     protected static final String COOKIE_HEADER = "Cookie";
@@ -55,6 +57,7 @@ public class JWTAuthMechanism implements HttpAuthenticationMechanism {
     JWTAuthContextInfo authContextInfo;
     private final boolean silent;
     private final int priority;
+    private final boolean identityCacheEnabled;
 
     public JWTAuthMechanism(SmallRyeJwtConfig config) {
         this.silent = config == null ? false : config.silent();
@@ -63,6 +66,7 @@ public JWTAuthMechanism(SmallRyeJwtConfig config) {
                 .getBoolean("io.quarkus.smallrye.jwt.runtime.auth.JWTAuthMechanism." +
                         "PROPAGATE_TOKEN_CREDENTIAL_WITH_DUPLICATED_CTX");
         this.priority = config == null ? HttpAuthenticationMechanism.DEFAULT_PRIORITY : config.priority();
+        this.identityCacheEnabled = config != null && config.identityCacheEnabled();
     }
 
     @Override
@@ -83,7 +87,7 @@ public Uni<SecurityIdentity> authenticate(RoutingContext context,
                 localMap.put(TokenCredential.class.getName(), token);
                 return identityProviderManager
                         .authenticate(HttpSecurityUtils.setRoutingContextAttribute(
-                                new TokenAuthenticationRequest(token), context))
+                                createTokenAuthenticationRequest(token), context))
                         .invoke(new Runnable() {
                             @Override
                             public void run() {
@@ -95,13 +99,22 @@ public void run() {
 
             return identityProviderManager
                     .authenticate(HttpSecurityUtils.setRoutingContextAttribute(
-                            new TokenAuthenticationRequest(new JsonWebTokenCredential(jwtToken)), context));
+                            createTokenAuthenticationRequest(new JsonWebTokenCredential(jwtToken)), context));
         } else {
             LOG.debug("Bearer access token is not available");
         }
         return Uni.createFrom().optional(Optional.empty());
     }
 
+    private TokenAuthenticationRequest createTokenAuthenticationRequest(JsonWebTokenCredential token) {
+        TokenAuthenticationRequest request = new TokenAuthenticationRequest(token);
+        if (identityCacheEnabled) {
+            // the identity only depends on the token and on the verification keys, which are not reloaded
+            SecurityIdentityCache.setCachePartition(request, IDENTITY_CACHE_PARTITION);
+        }
+        return request;
+    }
+
     @Override
     public Uni<ChallengeData> getChallenge(RoutingContext context) {
         if (silent) {
@@ -15,6 +15,7 @@
 import io.quarkus.security.identity.SecurityIdentity;
 import io.quarkus.security.identity.request.TokenAuthenticationRequest;
 import io.quarkus.security.runtime.QuarkusSecurityIdentity;
+import io.quarkus.security.runtime.SecurityIdentityCache;
 import io.quarkus.vertx.http.runtime.security.HttpSecurityUtils;
 import io.smallrye.jwt.auth.principal.JWTParser;
 import io.smallrye.jwt.auth.principal.ParseException;
@@ -82,7 +83,8 @@ private SecurityIdentity createSecurityIdentity(TokenAuthenticationRequest reque
             QuarkusSecurityIdentity.Builder builder = QuarkusSecurityIdentity.builder().setPrincipal(jwtPrincipal)
                     .addCredential(request.getToken())
                     .addRoles(jwtPrincipal.getGroups())
-                    .addAttribute(SecurityIdentity.USER_ATTRIBUTE, jwtPrincipal);
+                    .addAttribute(SecurityIdentity.USER_ATTRIBUTE, jwtPrincipal)
+                    .addAttribute(SecurityIdentityCache.EXPIRE_TIME_ATTRIBUTE, jwtPrincipal.getExpirationTime());
             RoutingContext routingContext = HttpSecurityUtils.getRoutingContextAttribute(request);
             if (routingContext != null) {
                 builder.addAttribute(RoutingContext.class.getName(), routingContext);
@@ -41,4 +41,16 @@ public interface SmallRyeJwtConfig {
      */
     @WithDefault(HttpAuthenticationMechanism.DEFAULT_PRIORITY + "")
     int priority();
+
+    /**
+     * Whether the security identities created for the bearer tokens are cached when
+     * `quarkus.security.identity-cache.enabled` is `true`.
+     *
+     * The cached identities are not removed when the verification keys are reloaded, for example when the keys fetched
+     * from an HTTPS location are rotated. Only enable it if the keys are not rotated, or if the cached identities are
+     * removed with the `io.quarkus.security.runtime.SecurityIdentityCache` bean when they are, using the `smallrye-jwt`
+     * partition.
+     */
+    @WithDefault("false")
+    boolean identityCacheEnabled();
 }
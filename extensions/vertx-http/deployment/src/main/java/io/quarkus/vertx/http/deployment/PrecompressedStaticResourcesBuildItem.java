@@ -0,0 +1,26 @@
+package io.quarkus.vertx.http.deployment;
+
+import java.util.Map;
+
+import io.quarkus.builder.item.SimpleBuildItem;
+
+/**
+ * Holds the static resources from {@code META-INF/resources} for which a gzip-compressed variant was generated at build
+ * time.
+ */
+public final class PrecompressedStaticResourcesBuildItem extends SimpleBuildItem {
+
+    private final Map<String, String> paths;
+
+    public PrecompressedStaticResourcesBuildItem(Map<String, String> paths) {
+        this.paths = paths;
+    }
+
+    /**
+     * @return the paths relative to {@code META-INF/resources}, mapped to the strong {@code ETag} of the compressed
+     *         variant
+     */
+    public Map<String, String> getPaths() {
+        return paths;
+    }
+}
@@ -2,13 +2,23 @@
 
 import static io.quarkus.deployment.annotations.ExecutionTime.RUNTIME_INIT;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
 
 import io.quarkus.arc.deployment.BeanContainerBuildItem;
 import io.quarkus.bootstrap.classloading.ClassPathElement;
@@ -19,6 +29,7 @@
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.builditem.GeneratedResourceBuildItem;
 import io.quarkus.deployment.builditem.HotDeploymentWatchedFileBuildItem;
 import io.quarkus.deployment.builditem.LaunchModeBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBuildItem;
@@ -27,6 +38,8 @@
 import io.quarkus.vertx.http.deployment.spi.AdditionalStaticResourceBuildItem;
 import io.quarkus.vertx.http.deployment.spi.StaticResourcesBuildItem;
 import io.quarkus.vertx.http.runtime.StaticResourcesRecorder;
+import io.quarkus.vertx.http.runtime.VertxHttpBuildTimeConfig;
+import io.vertx.core.http.MimeMapping;
 
 /**
  * Handles all static file resources found in {@code META-INF/resources} unless the servlet container is present.
@@ -59,13 +72,71 @@ void collectStaticResources(Capabilities capabilities,
         }
     }
 
+    /**
+     * Generates a gzip-compressed sibling for each compressible static resource so that the resource does not need to be
+     * compressed for every request at runtime.
+     */
+    @BuildStep(onlyIfNot = IsDevelopment.class)
+    void precompressStaticResources(VertxHttpBuildTimeConfig httpBuildTimeConfig,
+            Optional<StaticResourcesBuildItem> staticResources,
+            BuildProducer<GeneratedResourceBuildItem> generatedResources,
+            BuildProducer<NativeImageResourceBuildItem> nativeImageResources,
+            BuildProducer<PrecompressedStaticResourcesBuildItem> precompressedStaticResources) {
+        if (!httpBuildTimeConfig.precompressStaticResources() || staticResources.isEmpty()
+                || httpBuildTimeConfig.compressMediaTypes().isEmpty()) {
+            return;
+        }
+        final Set<String> compressMediaTypes = Set.copyOf(httpBuildTimeConfig.compressMediaTypes().get());
+        final Set<String> knownPaths = staticResources.get().getPaths();
+        final String prefix = StaticResourcesRecorder.META_INF_RESOURCES;
+        final Map<String, String> precompressed = new HashMap<>();
+        final Set<String> visited = new HashSet<>();
+        visitRuntimeMetaInfResources(visit -> {
+            Path visitPath = visit.getPath();
+            String rel = visit.getResourceName();
+            if (Files.isDirectory(visitPath) || !rel.startsWith(prefix)) {
+                return;
+            }
+            String subPath = rel.substring(prefix.length());
+            // the first occurrence on the classpath wins, the same way the class loader resolves it
+            if (!knownPaths.contains(subPath) || !visited.add(subPath)) {
+                return;
+            }
+            String contentType = MimeMapping.mimeTypeForFilename(subPath);
+            if (contentType == null || !compressMediaTypes.contains(contentType)) {
+                return;
+            }
+            try {
+                byte[] content = Files.readAllBytes(visitPath);
+                byte[] compressed = gzip(content);
+                if (compressed.length >= content.length) {
+                    return;
+                }
+                String resourceName = rel + StaticResourcesRecorder.GZIP_SUFFIX;
+                generatedResources.produce(new GeneratedResourceBuildItem(resourceName, compressed));
+                nativeImageResources.produce(new NativeImageResourceBuildItem(resourceName));
+                precompressed.put(subPath, "\"" + sha256(compressed) + "\"");
+            } catch (IOException e) {
+                throw new UncheckedIOException("Unable to precompress static resource " + rel, e);
+            }
+        });
+        if (!precompressed.isEmpty()) {
+            precompressedStaticResources.produce(new PrecompressedStaticResourcesBuildItem(precompressed));
+        }
+    }
+
     @BuildStep
     @Record(RUNTIME_INIT)
     public void runtimeInit(Optional<StaticResourcesBuildItem> staticResources, StaticResourcesRecorder recorder,
             CoreVertxBuildItem vertx, BeanContainerBuildItem beanContainer,
+            Optional<PrecompressedStaticResourcesBuildItem> precompressedStaticResources,
             BuildProducer<DefaultRouteBuildItem> defaultRoutes) {
         if (staticResources.isPresent()) {
-            defaultRoutes.produce(new DefaultRouteBuildItem(recorder.start(staticResources.get().getPaths())));
+            Map<String, String> precompressedPaths = precompressedStaticResources
+                    .map(PrecompressedStaticResourcesBuildItem::getPaths)
+                    .orElse(Map.of());
+            defaultRoutes.produce(
+                    new DefaultRouteBuildItem(recorder.start(staticResources.get().getPaths(), precompressedPaths)));
         }
     }
 
@@ -123,6 +194,26 @@ private Set<StaticResourcesBuildItem.Entry> getClasspathResources() {
         return knownPaths;
     }
 
+    private static byte[] gzip(byte[] content) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(content.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(content);
+        }
+        return out.toByteArray();
+    }
+
+    private static String sha256(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     /**
      * Visits all {@code META-INF/resources} directories and their content found on the runtime classpath
      *
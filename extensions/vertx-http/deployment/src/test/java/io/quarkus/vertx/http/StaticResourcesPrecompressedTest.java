@@ -0,0 +1,95 @@
+package io.quarkus.vertx.http;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.equalToIgnoringCase;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusExtensionTest;
+import io.restassured.RestAssured;
+import io.restassured.config.DecoderConfig;
+
+public class StaticResourcesPrecompressedTest {
+
+    private static final String PAGE = "<html><body>" + CompressionTest.TEXT.repeat(10) + "</body></html>";
+
+    @RegisterExtension
+    final static QuarkusExtensionTest test = new QuarkusExtensionTest()
+            .withApplicationRoot((jar) -> jar
+                    .add(new StringAsset(
+                            "quarkus.http.static-resources.precompress=true\n"),
+                            "application.properties")
+                    .addAsResource(new StringAsset(PAGE), "META-INF/resources/page.html"));
+
+    @Test
+    public void shouldServePrecompressedResource() {
+        given().header("Accept-Encoding", "gzip")
+                .get("/page.html")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", is("gzip"))
+                .header("Vary", equalToIgnoringCase("accept-encoding"))
+                .header("Content-Type", is("text/html;charset=UTF-8"))
+                .header("Cache-Control", is("public, max-age=86400"))
+                .header("ETag", notNullValue())
+                .body(equalTo(PAGE));
+    }
+
+    @Test
+    public void shouldServeOriginalResourceWithoutGzip() {
+        // RestAssured always sends gzip unless the decoders are restricted, see CompressionTest
+        given().config(RestAssured.config
+                .decoderConfig(DecoderConfig.decoderConfig().with().contentDecoders(DecoderConfig.ContentDecoder.DEFLATE)))
+                .get("/page.html")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", nullValue())
+                .body(containsString("Lorem ipsum"));
+    }
+
+    @Test
+    public void shouldReturnNotModified() {
+        String etag = given().header("Accept-Encoding", "gzip")
+                .get("/page.html")
+                .then()
+                .statusCode(200)
+                .extract().header("ETag");
+
+        given().header("Accept-Encoding", "gzip")
+                .header("If-None-Match", etag)
+                .get("/page.html")
+                .then()
+                .statusCode(304)
+                .header("ETag", is(etag))
+                .header("Content-Encoding", nullValue());
+        given().header("Accept-Encoding", "gzip")
+                .header("If-None-Match", "W/" + etag)
+                .get("/page.html")
+                .then()
+                .statusCode(304);
+        given().header("Accept-Encoding", "gzip")
+                .header("If-None-Match", "\"other\", " + etag)
+                .get("/page.html")
+                .then()
+                .statusCode(304);
+        given().header("Accept-Encoding", "gzip")
+                .header("If-None-Match", "*")
+                .get("/page.html")
+                .then()
+                .statusCode(304);
+        given().header("Accept-Encoding", "gzip")
+                .header("If-None-Match", "\"other\"")
+                .get("/page.html")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", is("gzip"));
+    }
+
+}
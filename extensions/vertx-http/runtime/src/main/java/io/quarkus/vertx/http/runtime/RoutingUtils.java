@@ -103,6 +103,109 @@ public static void compressIfNeeded(VertxHttpBuildTimeConfig config, Set<String>
         }
     }
 
+    /**
+     * Checks whether the given {@code Accept-Encoding} request header value accepts the given content coding.
+     * <p>
+     * A coding listed with the quality value {@code q=0} is considered not acceptable. The {@code *} wildcard
+     * matches any coding.
+     *
+     * @param acceptEncoding the value of the {@code Accept-Encoding} header, may be {@code null}
+     * @param encoding the content coding, e.g. {@code gzip}
+     * @return {@code true} if the coding is acceptable
+     */
+    public static boolean acceptsEncoding(String acceptEncoding, String encoding) {
+        if (acceptEncoding == null || acceptEncoding.isEmpty()) {
+            return false;
+        }
+        boolean wildcard = false;
+        int start = 0;
+        int length = acceptEncoding.length();
+        while (start < length) {
+            int end = acceptEncoding.indexOf(',', start);
+            if (end == -1) {
+                end = length;
+            }
+            int paramStart = acceptEncoding.indexOf(';', start);
+            int nameEnd = paramStart == -1 || paramStart > end ? end : paramStart;
+            String name = acceptEncoding.substring(start, nameEnd).trim();
+            boolean acceptable = nameEnd == end || !isZeroQuality(acceptEncoding.substring(nameEnd + 1, end));
+            if (name.equalsIgnoreCase(encoding)) {
+                // an explicit entry always takes precedence over the wildcard
+                return acceptable;
+            }
+            if (name.equals("*")) {
+                wildcard = acceptable;
+            }
+            start = end + 1;
+        }
+        return wildcard;
+    }
+
+    /**
+     * Checks whether the given {@code If-None-Match} request header value matches the given entity tag.
+     * <p>
+     * The header value is either {@code *}, which matches any entity tag, or a comma-separated list of entity tags.
+     * Entity tags are compared with the weak comparison function, i.e. the {@code W/} prefix is ignored.
+     *
+     * @param ifNoneMatch the value of the {@code If-None-Match} header, may be {@code null}
+     * @param etag the entity tag of the current representation, including the double quotes
+     * @return {@code true} if the header value matches the entity tag
+     */
+    public static boolean matchesEntityTag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isEmpty() || etag == null) {
+            return false;
+        }
+        if (ifNoneMatch.trim().equals("*")) {
+            return true;
+        }
+        String opaqueTag = opaqueTag(etag);
+        int length = ifNoneMatch.length();
+        int start = 0;
+        while (start < length) {
+            char c = ifNoneMatch.charAt(start);
+            if (c == ',' || c == ' ' || c == '\t') {
+                start++;
+                continue;
+            }
+            int tagStart = start;
+            if (ifNoneMatch.startsWith("W/", start)) {
+                start += 2;
+            }
+            int end;
+            if (start < length && ifNoneMatch.charAt(start) == '"') {
+                // a quoted entity tag may contain commas
+                end = ifNoneMatch.indexOf('"', start + 1);
+                end = end == -1 ? length : end + 1;
+            } else {
+                end = ifNoneMatch.indexOf(',', start);
+                end = end == -1 ? length : end;
+            }
+            if (opaqueTag(ifNoneMatch.substring(tagStart, end).trim()).equals(opaqueTag)) {
+                return true;
+            }
+            start = end;
+        }
+        return false;
+    }
+
+    private static String opaqueTag(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+
+    private static boolean isZeroQuality(String params) {
+        for (String param : params.split(";")) {
+            param = param.trim();
+            if (param.length() > 2 && (param.charAt(0) == 'q' || param.charAt(0) == 'Q') && param.charAt(1) == '=') {
+                try {
+                    return Double.parseDouble(param.substring(2).trim()) <= 0;
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+
     private static boolean isCompressed(Set<String> compressMediaTypes, String path) {
         if (compressMediaTypes.isEmpty()) {
             return false;
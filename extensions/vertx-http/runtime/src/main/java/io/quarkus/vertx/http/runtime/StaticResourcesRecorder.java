@@ -3,8 +3,12 @@
 import static io.quarkus.vertx.http.runtime.RoutingUtils.*;
 
 import java.nio.file.Path;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
 
@@ -12,7 +16,12 @@
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.annotations.Recorder;
 import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
+import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.http.MimeMapping;
 import io.vertx.ext.web.Route;
 import io.vertx.ext.web.RoutingContext;
 import io.vertx.ext.web.handler.FileSystemAccess;
@@ -23,6 +32,13 @@ public class StaticResourcesRecorder {
 
     public static final String META_INF_RESOURCES = "META-INF/resources";
 
+    /**
+     * The suffix of the gzip-compressed variant of a static resource generated at build time.
+     */
+    public static final String GZIP_SUFFIX = ".gz";
+
+    private static final String GZIP = "gzip";
+
     private static volatile List<Path> hotDeploymentResourcePaths;
 
     private final VertxHttpBuildTimeConfig httpBuildTimeConfig;
@@ -39,7 +55,12 @@ public static void setHotDeploymentResources(List<Path> resources) {
         hotDeploymentResourcePaths = resources;
     }
 
-    public Consumer<Route> start(Set<String> knownPaths) {
+    /**
+     * @param knownPaths the paths of all static resources
+     * @param precompressedPaths the paths of static resources with a gzip-compressed variant, mapped to the strong
+     *        {@code ETag} of the compressed variant
+     */
+    public Consumer<Route> start(Set<String> knownPaths, Map<String, String> precompressedPaths) {
         List<Handler<RoutingContext>> handlers = new ArrayList<>();
         Set<String> compressMediaTypes;
         if (httpBuildTimeConfig.enableCompression() && httpBuildTimeConfig.compressMediaTypes().isPresent()) {
@@ -108,6 +129,15 @@ public void handle(RoutingContext ctx) {
                     }
                     // check effective path, otherwise the index page when path ends with '/'
                     if (knownPaths.contains(rel) || (rel.endsWith("/") && knownPaths.contains(rel.concat(indexPage)))) {
+                        if (!precompressedPaths.isEmpty()) {
+                            String resource = rel.endsWith("/") ? rel.concat(indexPage) : rel;
+                            String etag = precompressedPaths.get(resource);
+                            if (etag != null && acceptsPrecompressed(ctx.request())) {
+                                Thread.currentThread().setContextClassLoader(currentCl);
+                                sendPrecompressed(ctx, config, resource, etag);
+                                return;
+                            }
+                        }
                         compressIfNeeded(httpBuildTimeConfig, compressMediaTypes, ctx, rel);
                         staticHandler.handle(ctx);
                     } else {
@@ -135,4 +165,39 @@ public void accept(Route route) {
         };
     }
 
+    private static boolean acceptsPrecompressed(HttpServerRequest request) {
+        // HEAD and range requests are left to the StaticHandler
+        return request.method() == HttpMethod.GET
+                && !request.headers().contains(HttpHeaders.RANGE)
+                && acceptsEncoding(request.getHeader(HttpHeaders.ACCEPT_ENCODING), GZIP);
+    }
+
+    private static void sendPrecompressed(RoutingContext ctx, StaticResourcesConfig config, String resource,
+            String etag) {
+        HttpServerResponse response = ctx.response();
+        MultiMap headers = response.headers();
+        headers.set(HttpHeaders.ETAG, etag);
+        if (config.sendVaryHeader()) {
+            headers.set(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        // same caching headers as the StaticHandler, the resource names are not fingerprinted so no immutable directive
+        if (config.cachingEnabled()) {
+            headers.set(HttpHeaders.CACHE_CONTROL, "public, max-age=" + config.maxAge().toSeconds());
+        }
+        headers.set(HttpHeaders.DATE, DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now(ZoneOffset.UTC)));
+        if (matchesEntityTag(ctx.request().getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            headers.remove(HttpHeaders.CONTENT_ENCODING);
+            response.setStatusCode(HttpResponseStatus.NOT_MODIFIED.code()).end();
+            return;
+        }
+        String contentType = MimeMapping.mimeTypeForFilename(resource);
+        if (contentType != null) {
+            headers.set(HttpHeaders.CONTENT_TYPE,
+                    contentType.startsWith("text") ? contentType + ";charset=UTF-8" : contentType);
+        }
+        // a Content-Encoding other than identity also prevents the response from being compressed again
+        headers.set(HttpHeaders.CONTENT_ENCODING, GZIP);
+        response.sendFile(META_INF_RESOURCES + resource + GZIP_SUFFIX).onFailure(ctx::fail);
+    }
+
 }
@@ -116,6 +116,19 @@ public interface VertxHttpBuildTimeConfig {
      */
     OptionalInt compressionLevel();
 
+    /**
+     * If enabled then static resources from {@code META-INF/resources} with a media type listed in
+     * {@link #compressMediaTypes} are gzip-compressed at build time and stored next to the original resource.
+     * <p>
+     * Clients that accept the {@code gzip} encoding are served the precompressed variant directly, with a strong
+     * {@code ETag}, so that the response body is not compressed again for every request.
+     * <p>
+     * Precompression is not performed in dev mode, where the static resources can change.
+     */
+    @WithName("static-resources.precompress")
+    @WithDefault("false")
+    boolean precompressStaticResources();
+
     /**
      * Configure Quarkus to serve static files from a local filesystem directory (outside of Java resources)
      *
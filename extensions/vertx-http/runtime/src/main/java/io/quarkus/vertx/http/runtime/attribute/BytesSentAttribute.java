@@ -28,6 +28,16 @@ public String readAttribute(final RoutingContext exchange) {
         }
     }
 
+    @Override
+    public void appendAttribute(final RoutingContext exchange, final StringBuilder sb) {
+        long bytesSent = exchange.response().bytesWritten();
+        if (dashIfZero && bytesSent == 0) {
+            sb.append('-');
+        } else {
+            sb.append(bytesSent);
+        }
+    }
+
     @Override
     public void writeAttribute(final RoutingContext exchange, final String newValue) throws ReadOnlyAttributeException {
         throw new ReadOnlyAttributeException("Bytes sent", newValue);
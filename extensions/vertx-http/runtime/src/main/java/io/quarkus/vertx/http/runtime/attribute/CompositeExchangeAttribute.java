@@ -10,6 +10,9 @@ public class CompositeExchangeAttribute implements ExchangeAttribute {
 
     private final ExchangeAttribute[] attributes;
 
+    // the length of the last value, so that the builder does not need to grow for every request; racy but harmless
+    private int sizeHint = 64;
+
     public CompositeExchangeAttribute(ExchangeAttribute[] attributes) {
         ExchangeAttribute[] copy = new ExchangeAttribute[attributes.length];
         System.arraycopy(attributes, 0, copy, 0, attributes.length);
@@ -18,14 +21,17 @@ public CompositeExchangeAttribute(ExchangeAttribute[] attributes) {
 
     @Override
     public String readAttribute(RoutingContext exchange) {
-        final StringBuilder sb = new StringBuilder();
+        final StringBuilder sb = new StringBuilder(sizeHint);
+        appendAttribute(exchange, sb);
+        sizeHint = sb.length() + 16;
+        return sb.toString();
+    }
+
+    @Override
+    public void appendAttribute(RoutingContext exchange, StringBuilder sb) {
         for (ExchangeAttribute attribute : attributes) {
-            final String val = attribute.readAttribute(exchange);
-            if (val != null) {
-                sb.append(val);
-            }
+            attribute.appendAttribute(exchange, sb);
         }
-        return sb.toString();
     }
 
     @Override
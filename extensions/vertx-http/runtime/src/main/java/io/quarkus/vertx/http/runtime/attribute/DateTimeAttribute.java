@@ -1,5 +1,6 @@
 package io.quarkus.vertx.http.runtime.attribute;
 
+import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
@@ -23,8 +24,12 @@ public class DateTimeAttribute implements ExchangeAttribute {
 
     private final DateTimeFormatter formatter;
 
+    // only the common log format is known to have a resolution of one second and can be cached
+    private final boolean cacheable;
+    private volatile CachedValue cachedValue;
+
     private DateTimeAttribute() {
-        this(COMMON_LOG_PATTERN, null);
+        this(COMMON_LOG_PATTERN, null, true);
     }
 
     public DateTimeAttribute(final String dateFormat) {
@@ -32,6 +37,11 @@ public DateTimeAttribute(final String dateFormat) {
     }
 
     public DateTimeAttribute(final String dateFormat, final String timezone) {
+        this(dateFormat, timezone, false);
+    }
+
+    private DateTimeAttribute(final String dateFormat, final String timezone, final boolean cacheable) {
+        this.cacheable = cacheable;
         DateTimeFormatter fmt = DateTimeFormatter.ofPattern(dateFormat, Locale.US);
         if (timezone != null) {
             fmt = fmt.withZone(ZoneId.of(timezone));
@@ -41,7 +51,18 @@ public DateTimeAttribute(final String dateFormat, final String timezone) {
 
     @Override
     public String readAttribute(final RoutingContext exchange) {
-        return formatter.format(ZonedDateTime.now());
+        if (!cacheable) {
+            return formatter.format(ZonedDateTime.now());
+        }
+        long now = System.currentTimeMillis();
+        long second = now / 1000;
+        CachedValue cached = cachedValue;
+        if (cached != null && cached.second == second) {
+            return cached.value;
+        }
+        String value = formatter.format(ZonedDateTime.ofInstant(Instant.ofEpochMilli(now), ZoneId.systemDefault()));
+        cachedValue = new CachedValue(second, value);
+        return value;
     }
 
     @Override
@@ -49,6 +70,9 @@ public void writeAttribute(final RoutingContext exchange, final String newValue)
         throw new ReadOnlyAttributeException("Date time", newValue);
     }
 
+    private record CachedValue(long second, String value) {
+    }
+
     public static final class Builder implements ExchangeAttributeBuilder {
 
         @Override
@@ -16,6 +16,23 @@ public interface ExchangeAttribute {
      */
     String readAttribute(final RoutingContext exchange);
 
+    /**
+     * Resolve the attribute from the HTTP server exchange and append it to the given builder. Nothing is appended if the
+     * attribute is not present.
+     * <p>
+     * Attributes that are frequently used in access log patterns should override this method to avoid creating an
+     * intermediate {@link String}.
+     *
+     * @param exchange The exchange
+     * @param sb The builder to append the attribute to
+     */
+    default void appendAttribute(final RoutingContext exchange, final StringBuilder sb) {
+        String val = readAttribute(exchange);
+        if (val != null) {
+            sb.append(val);
+        }
+    }
+
     /**
      * Sets a new value for the attribute. Not all attributes are writable.
      *
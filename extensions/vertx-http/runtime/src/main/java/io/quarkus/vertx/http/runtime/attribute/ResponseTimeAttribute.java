@@ -29,9 +29,36 @@ public ResponseTimeAttribute(TimeUnit timeUnit) {
 
     @Override
     public String readAttribute(RoutingContext exchange) {
+        long nanos = responseTimeNanos(exchange);
+        if (nanos < 0) {
+            return null;
+        }
+        if (timeUnit == TimeUnit.SECONDS) {
+            StringBuilder buf = new StringBuilder();
+            appendSeconds(nanos, buf);
+            return buf.toString();
+        } else {
+            return String.valueOf(timeUnit.convert(nanos, TimeUnit.NANOSECONDS));
+        }
+    }
+
+    @Override
+    public void appendAttribute(RoutingContext exchange, StringBuilder sb) {
+        long nanos = responseTimeNanos(exchange);
+        if (nanos < 0) {
+            return;
+        }
+        if (timeUnit == TimeUnit.SECONDS) {
+            appendSeconds(nanos, sb);
+        } else {
+            sb.append(timeUnit.convert(nanos, TimeUnit.NANOSECONDS));
+        }
+    }
+
+    private static long responseTimeNanos(RoutingContext exchange) {
         Long requestStartTime = exchange.get(VertxHttpRecorder.REQUEST_START_TIME);
         if (requestStartTime == null) {
-            return null;
+            return -1;
         }
         final long nanos;
         Long first = exchange.get(FIRST_RESPONSE_TIME_NANOS);
@@ -44,20 +71,18 @@ public String readAttribute(RoutingContext exchange) {
                 exchange.put(FIRST_RESPONSE_TIME_NANOS, nanos);
             }
         }
-        if (timeUnit == TimeUnit.SECONDS) {
-            StringBuilder buf = new StringBuilder();
-            long millis = TimeUnit.MILLISECONDS.convert(nanos, TimeUnit.NANOSECONDS);
-            buf.append(Long.toString(millis / 1000));
-            buf.append('.');
-            int remains = (int) (millis % 1000);
-            buf.append(Long.toString(remains / 100));
-            remains = remains % 100;
-            buf.append(Long.toString(remains / 10));
-            buf.append(Long.toString(remains % 10));
-            return buf.toString();
-        } else {
-            return String.valueOf(timeUnit.convert(nanos, TimeUnit.NANOSECONDS));
-        }
+        return nanos;
+    }
+
+    private static void appendSeconds(long nanos, StringBuilder buf) {
+        long millis = TimeUnit.MILLISECONDS.convert(nanos, TimeUnit.NANOSECONDS);
+        buf.append(millis / 1000);
+        buf.append('.');
+        int remains = (int) (millis % 1000);
+        buf.append(remains / 100);
+        remains = remains % 100;
+        buf.append(remains / 10);
+        buf.append(remains % 10);
     }
 
     @Override
@@ -33,6 +33,15 @@ public String readAttribute(RoutingContext exchange) {
             return val;
         }
 
+        @Override
+        public void appendAttribute(RoutingContext exchange, StringBuilder sb) {
+            int length = sb.length();
+            attribute.appendAttribute(exchange, sb);
+            if (sb.length() == length) {
+                sb.append(substitute);
+            }
+        }
+
         @Override
         public void writeAttribute(RoutingContext exchange, String newValue) throws ReadOnlyAttributeException {
             attribute.writeAttribute(exchange, newValue);
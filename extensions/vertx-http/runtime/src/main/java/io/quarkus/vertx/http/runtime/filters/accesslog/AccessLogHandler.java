@@ -93,6 +93,14 @@
  */
 public class AccessLogHandler implements Handler<RoutingContext> {
 
+    private static final int MAX_RETAINED_BUFFER_SIZE = 8 * 1024;
+
+    /**
+     * The messages are built on the thread that completes the request, typically an event loop, so the builder
+     * can be reused for all messages built on that thread.
+     */
+    private static final ThreadLocal<StringBuilder> MESSAGE_BUILDER = ThreadLocal.withInitial(() -> new StringBuilder(256));
+
     private final AccessLogReceiver accessLogReceiver;
     private final String formatString;
     private final boolean consolidateReroutedRequests;
@@ -155,7 +163,7 @@ public void handle(RoutingContext rc) {
         QuarkusRequestWrapper.get(rc.request()).addRequestDoneHandler(new Handler<Void>() {
             @Override
             public void handle(Void event) {
-                accessLogReceiver.logMessage(tokens.readAttribute(rc));
+                accessLogReceiver.logMessage(buildMessage(rc));
             }
         });
         if (consolidateReroutedRequests) {
@@ -164,6 +172,18 @@ public void handle(Void event) {
         rc.next();
     }
 
+    private String buildMessage(RoutingContext rc) {
+        StringBuilder sb = MESSAGE_BUILDER.get();
+        sb.setLength(0);
+        tokens.appendAttribute(rc, sb);
+        String message = sb.toString();
+        if (sb.capacity() > MAX_RETAINED_BUFFER_SIZE) {
+            // do not retain the memory of an exceptionally long message
+            MESSAGE_BUILDER.set(new StringBuilder(256));
+        }
+        return message;
+    }
+
     @Override
     public String toString() {
         return "AccessLogHandler{" +
@@ -37,8 +37,8 @@ public class AbstractPathMatchingHttpSecurityPolicy {
 
     private static final String PATH_MATCHING_POLICY_FOUND = AbstractPathMatchingHttpSecurityPolicy.class.getName()
             + ".POLICY_FOUND";
-    private final ImmutablePathMatcher<List<HttpMatcher>> pathMatcher;
-    private final List<ImmutablePathMatcher<List<HttpMatcher>>> sharedPermissionsPathMatchers;
+    private final ImmutablePathMatcher<HttpMatchers> pathMatcher;
+    private final List<ImmutablePathMatcher<HttpMatchers>> sharedPermissionsPathMatchers;
     private final boolean hasNoPermissions;
 
     AbstractPathMatchingHttpSecurityPolicy(List<HttpSecurityConfiguration.HttpPermissionCarrier> httpPermissions,
@@ -46,8 +46,9 @@ public class AbstractPathMatchingHttpSecurityPolicy {
             PolicyMappingConfig.AppliesTo appliesTo) {
         boolean hasNoPermissions = true;
         var namedHttpSecurityPolicies = toNamedHttpSecPolicies(rolePolicy, installedPolicies);
-        List<ImmutablePathMatcher<List<HttpMatcher>>> sharedPermsMatchers = new ArrayList<>();
-        final var builder = ImmutablePathMatcher.<List<HttpMatcher>> builder().handlerAccumulator(List::addAll)
+        List<ImmutablePathMatcher<HttpMatchers>> sharedPermsMatchers = new ArrayList<>();
+        List<HttpMatchers> allHttpMatchers = new ArrayList<>();
+        final var builder = ImmutablePathMatcher.<HttpMatchers> builder().handlerAccumulator(HttpMatchers::addAll)
                 .rootPath(rootPath);
         for (var httpPermission : httpPermissions) {
             if (appliesTo != httpPermission.getAppliesTo()) {
@@ -57,22 +58,26 @@ public class AbstractPathMatchingHttpSecurityPolicy {
                 hasNoPermissions = false;
             }
             if (httpPermission.isShared()) {
-                final var builder1 = ImmutablePathMatcher.<List<HttpMatcher>> builder().handlerAccumulator(List::addAll)
+                final var builder1 = ImmutablePathMatcher.<HttpMatchers> builder().handlerAccumulator(HttpMatchers::addAll)
                         .rootPath(rootPath);
-                addPermissionToPathMatcher(namedHttpSecurityPolicies, httpPermission, builder1);
+                addPermissionToPathMatcher(namedHttpSecurityPolicies, httpPermission, builder1, allHttpMatchers);
                 sharedPermsMatchers.add(builder1.build());
             } else {
-                addPermissionToPathMatcher(namedHttpSecurityPolicies, httpPermission, builder);
+                addPermissionToPathMatcher(namedHttpSecurityPolicies, httpPermission, builder, allHttpMatchers);
             }
         }
         this.hasNoPermissions = hasNoPermissions;
         this.sharedPermissionsPathMatchers = sharedPermsMatchers.isEmpty() ? null : List.copyOf(sharedPermsMatchers);
         this.pathMatcher = builder.build();
+        // the matchers of the same path were merged while the path matchers were built
+        for (HttpMatchers httpMatchers : allHttpMatchers) {
+            httpMatchers.compile();
+        }
     }
 
     AuthenticationMechanisms getAuthMechanisms(RoutingContext routingContext) {
         if (sharedPermissionsPathMatchers != null) {
-            for (ImmutablePathMatcher<List<HttpMatcher>> matcher : sharedPermissionsPathMatchers) {
+            for (ImmutablePathMatcher<HttpMatchers> matcher : sharedPermissionsPathMatchers) {
                 AuthenticationMechanisms authMechanisms = getAuthMechanisms(routingContext, matcher);
                 if (authMechanisms != null) {
                     return authMechanisms;
@@ -93,12 +98,13 @@ public Uni<CheckResult> checkPermission(RoutingContext routingContext, Uni<Secur
 
     Uni<CheckResult> checkPermissions(RoutingContext routingContext, Uni<SecurityIdentity> identity,
             AuthorizationRequestContext requestContext, HttpSecurityPolicy... additionalPolicies) {
-        final List<HttpSecurityPolicy> permissionCheckers = hasNoPermissions ? new ArrayList<>()
+        List<HttpSecurityPolicy> permissionCheckers = hasNoPermissions ? List.of()
                 : getHttpSecurityPolicies(routingContext);
         if (additionalPolicies.length > 0) {
-            if (additionalPolicies.length == 1) {
-                permissionCheckers.add(additionalPolicies[0]);
+            if (permissionCheckers.isEmpty()) {
+                permissionCheckers = Arrays.asList(additionalPolicies);
             } else {
+                permissionCheckers = new ArrayList<>(permissionCheckers);
                 permissionCheckers.addAll(Arrays.asList(additionalPolicies));
             }
         }
@@ -106,16 +112,15 @@ Uni<CheckResult> checkPermissions(RoutingContext routingContext, Uni<SecurityIde
     }
 
     private List<HttpSecurityPolicy> getHttpSecurityPolicies(RoutingContext routingContext) {
-        final List<HttpSecurityPolicy> permissionCheckers;
         if (sharedPermissionsPathMatchers == null) {
-            permissionCheckers = findPermissionCheckers(routingContext, pathMatcher);
-        } else {
-            permissionCheckers = new ArrayList<>();
-            for (ImmutablePathMatcher<List<HttpMatcher>> matcher : sharedPermissionsPathMatchers) {
-                permissionCheckers.addAll(findPermissionCheckers(routingContext, matcher));
-            }
-            permissionCheckers.addAll(findPermissionCheckers(routingContext, pathMatcher));
+            // the compiled policies are used as they are
+            return findMethodMatch(routingContext, pathMatcher).policies();
+        }
+        final List<HttpSecurityPolicy> permissionCheckers = new ArrayList<>();
+        for (ImmutablePathMatcher<HttpMatchers> matcher : sharedPermissionsPathMatchers) {
+            permissionCheckers.addAll(findMethodMatch(routingContext, matcher).policies());
         }
+        permissionCheckers.addAll(findMethodMatch(routingContext, pathMatcher).policies());
         return permissionCheckers;
     }
 
@@ -161,8 +166,8 @@ public Uni<? extends CheckResult> apply(CheckResult checkResult) {
     }
 
     private static AuthenticationMechanisms getAuthMechanisms(RoutingContext routingContext,
-            ImmutablePathMatcher<List<HttpMatcher>> pathMatcher) {
-        for (HttpMatcher i : findHttpMatchers(routingContext, pathMatcher)) {
+            ImmutablePathMatcher<HttpMatchers> pathMatcher) {
+        for (HttpMatcher i : findMethodMatch(routingContext, pathMatcher).matchers()) {
             if (i.authMechanisms != null) {
                 return i.authMechanisms;
             }
@@ -172,7 +177,7 @@ private static AuthenticationMechanisms getAuthMechanisms(RoutingContext routing
 
     private static void addPermissionToPathMatcher(Map<String, HttpSecurityPolicy> permissionCheckers,
             HttpSecurityConfiguration.HttpPermissionCarrier httpPermission,
-            ImmutablePathMatcher.ImmutablePathMatcherBuilder<List<HttpMatcher>> builder) {
+            ImmutablePathMatcher.ImmutablePathMatcherBuilder<HttpMatchers> builder, List<HttpMatchers> allHttpMatchers) {
         final HttpSecurityPolicy policy;
         if (httpPermission.getPolicy().instance() != null) {
             policy = httpPermission.getPolicy().instance();
@@ -192,45 +197,19 @@ private static void addPermissionToPathMatcher(Map<String, HttpSecurityPolicy> p
                         """.formatted(path));
             }
             HttpMatcher m = new HttpMatcher(httpPermission.getAuthMechanisms(), httpPermission.getMethods(), policy);
-            List<HttpMatcher> perms = new ArrayList<>();
-            perms.add(m);
+            HttpMatchers perms = new HttpMatchers(m);
+            allHttpMatchers.add(perms);
             builder.addPath(HttpSecurityUtils.normalizePath(path), perms);
         }
     }
 
-    private static List<HttpSecurityPolicy> findPermissionCheckers(RoutingContext context,
-            ImmutablePathMatcher<List<HttpMatcher>> pathMatcher) {
-        List<HttpSecurityPolicy> list = new ArrayList<>();
-        for (HttpMatcher httpMatcher : findHttpMatchers(context, pathMatcher)) {
-            list.add(httpMatcher.checker);
-        }
-        return list;
-    }
-
-    private static List<HttpMatcher> findHttpMatchers(RoutingContext context,
-            ImmutablePathMatcher<List<HttpMatcher>> pathMatcher) {
+    private static MethodMatch findMethodMatch(RoutingContext context, ImmutablePathMatcher<HttpMatchers> pathMatcher) {
         String normalizedPath = context.normalizedPath();
-        PathMatch<List<HttpMatcher>> toCheck = pathMatcher.match(HttpSecurityUtils.normalizePath(normalizedPath));
-        if (toCheck.getValue() == null || toCheck.getValue().isEmpty()) {
-            return List.of();
-        }
-        List<HttpMatcher> methodMatch = new ArrayList<>();
-        List<HttpMatcher> noMethod = new ArrayList<>();
-        for (HttpMatcher i : toCheck.getValue()) {
-            if (i.methods == null || i.methods.isEmpty()) {
-                noMethod.add(i);
-            } else if (i.methods.contains(context.request().method().toString())) {
-                methodMatch.add(i);
-            }
-        }
-        if (!methodMatch.isEmpty()) {
-            return methodMatch;
-        } else if (!noMethod.isEmpty()) {
-            return noMethod;
-        } else {
-            //we deny if we did not match due to method filtering
-            return List.of(HttpMatcher.DENY);
+        PathMatch<HttpMatchers> toCheck = pathMatcher.match(HttpSecurityUtils.normalizePath(normalizedPath));
+        if (toCheck.getValue() == null) {
+            return MethodMatch.NONE;
         }
+        return toCheck.getValue().get(context.request().method().name());
     }
 
     static boolean policyApplied(RoutingContext routingContext) {
@@ -426,4 +405,69 @@ static ConfigurationException duplicateNamedPoliciesNotAllowedEx(HttpSecurityPol
     record HttpMatcher(AuthenticationMechanisms authMechanisms, Set<String> methods, HttpSecurityPolicy checker) {
         private static final HttpMatcher DENY = new HttpMatcher(null, Set.of(), DenySecurityPolicy.INSTANCE);
     }
+
+    /**
+     * The matchers and the policies that apply to a request method.
+     */
+    record MethodMatch(List<HttpMatcher> matchers, List<HttpSecurityPolicy> policies) {
+        private static final MethodMatch NONE = new MethodMatch(List.of(), List.of());
+        //we deny if we did not match due to method filtering
+        private static final MethodMatch DENY = of(List.of(HttpMatcher.DENY));
+
+        private static MethodMatch of(List<HttpMatcher> matchers) {
+            List<HttpSecurityPolicy> policies = new ArrayList<>(matchers.size());
+            for (HttpMatcher matcher : matchers) {
+                policies.add(matcher.checker);
+            }
+            return new MethodMatch(List.copyOf(matchers), List.copyOf(policies));
+        }
+    }
+
+    /**
+     * The matchers of a path. They are accumulated while the path matcher is built, and then compiled per request method,
+     * so that the matchers that apply to a request are found with a single lookup.
+     */
+    static final class HttpMatchers {
+
+        private final List<HttpMatcher> matchers = new ArrayList<>();
+        private Map<String, MethodMatch> methodMatches;
+        private MethodMatch otherMethodsMatch;
+
+        private HttpMatchers(HttpMatcher matcher) {
+            matchers.add(matcher);
+        }
+
+        private void addAll(HttpMatchers httpMatchers) {
+            matchers.addAll(httpMatchers.matchers);
+        }
+
+        private void compile() {
+            List<HttpMatcher> noMethod = new ArrayList<>();
+            Set<String> methods = new HashSet<>();
+            for (HttpMatcher i : matchers) {
+                if (i.methods == null || i.methods.isEmpty()) {
+                    noMethod.add(i);
+                } else {
+                    methods.addAll(i.methods);
+                }
+            }
+            otherMethodsMatch = noMethod.isEmpty() ? MethodMatch.DENY : MethodMatch.of(noMethod);
+            Map<String, MethodMatch> methodMatches = new HashMap<>();
+            for (String method : methods) {
+                List<HttpMatcher> methodMatch = new ArrayList<>();
+                for (HttpMatcher i : matchers) {
+                    if (i.methods != null && i.methods.contains(method)) {
+                        methodMatch.add(i);
+                    }
+                }
+                methodMatches.put(method, MethodMatch.of(methodMatch));
+            }
+            this.methodMatches = Map.copyOf(methodMatches);
+        }
+
+        private MethodMatch get(String method) {
+            MethodMatch methodMatch = methodMatches.get(method);
+            return methodMatch == null ? otherMethodsMatch : methodMatch;
+        }
+    }
 }
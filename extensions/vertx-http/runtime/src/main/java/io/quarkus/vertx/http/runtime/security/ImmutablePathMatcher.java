@@ -2,13 +2,10 @@
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
-import java.util.TreeSet;
 import java.util.function.BiConsumer;
 
 import io.quarkus.runtime.configuration.ConfigurationException;
@@ -23,15 +20,15 @@
     private final Map<String, T> exactPathMatches;
 
     /**
-     * lengths of all registered paths
+     * whether a path of given length is registered, indexed by the path length
      */
-    private final int[] lengths;
+    private final boolean[] lengths;
     private final T defaultHandler;
     private final boolean hasPathWithInnerWildcard;
     private final boolean hasExactPathMatches;
 
     private ImmutablePathMatcher(T defaultHandler, ImmutableSubstringMap<T> paths, Map<String, T> exactPathMatches,
-            int[] lengths, boolean hasPathWithInnerWildcard) {
+            boolean[] lengths, boolean hasPathWithInnerWildcard) {
         this.defaultHandler = defaultHandler;
         this.paths = paths;
         this.lengths = Arrays.copyOf(lengths, lengths.length);
@@ -60,30 +57,40 @@ public PathMatch<T> match(String path) {
         }
 
         int length = path.length();
-        for (int pathLength : lengths) {
-            if (pathLength == length) {
-                SubstringMatch<T> next = paths.get(path, length);
+        if (isRegistered(length)) {
+            SubstringMatch<T> next = paths.get(path, length);
+            if (next != null) {
+                return new PathMatch<>(path, next.getValue());
+            }
+        }
+        // only the path prefixes followed by a separator can match, so rather than trying all the registered lengths,
+        // try each path segment from the longest prefix, which is at most one lookup per path segment
+        int pathLength = path.lastIndexOf('/', length - 1);
+        while (pathLength > 0) {
+            if (isRegistered(pathLength)) {
+                SubstringMatch<T> next = paths.get(path, pathLength);
                 if (next != null) {
-                    return new PathMatch<>(path, next.getValue());
-                }
-            } else if (pathLength < length) {
-                char c = path.charAt(pathLength);
-                // pathLength == 1 means prefix path is / because prefix path always starts with /
-                // which means it's default handler match, but if there is at least
-                // one path with inner wildcard, we need to check for paths like /*/one
-                if (c == '/' || (hasPathWithInnerWildcard && pathLength == 1)) {
-
-                    //String part = path.substring(0, pathLength);
-                    SubstringMatch<T> next = paths.get(path, pathLength);
-                    if (next != null) {
-                        return new PathMatch<>(next.getKey(), next.getValue());
-                    }
+                    return new PathMatch<>(next.getKey(), next.getValue());
                 }
             }
+            pathLength = path.lastIndexOf('/', pathLength - 1);
+        }
+        // pathLength == 1 means prefix path is / because prefix path always starts with /
+        // which means it's default handler match, but if there is at least
+        // one path with inner wildcard, we need to check for paths like /*/one
+        if (hasPathWithInnerWildcard && length > 1 && path.charAt(1) != '/' && isRegistered(1)) {
+            SubstringMatch<T> next = paths.get(path, 1);
+            if (next != null) {
+                return new PathMatch<>(next.getKey(), next.getValue());
+            }
         }
         return new PathMatch<>("", defaultHandler);
     }
 
+    private boolean isRegistered(int pathLength) {
+        return pathLength < lengths.length && lengths[pathLength];
+    }
+
     public static <T> ImmutablePathMatcherBuilder<T> builder() {
         return new ImmutablePathMatcherBuilder<>();
     }
@@ -202,7 +209,7 @@ public void accept(SubstringMatch<T> match1, SubstringMatch<T> match2) {
             for (var e : additionalExactPathMatches.entrySet()) {
                 exactPathMatches.putIfAbsent(e.getKey(), e.getValue());
             }
-            int[] lengths = buildLengths(paths.keys());
+            boolean[] lengths = buildLengths(paths.keys());
             return new ImmutablePathMatcher<>(defaultHandler, paths.build(), exactPathMatches, lengths,
                     hasPathWithInnerWildcard);
         }
@@ -326,23 +333,16 @@ private void addExactPath(final String path, final T handler) {
             additionalExactPathMatches.putIfAbsent(otherPath, handler);
         }
 
-        private static int[] buildLengths(Iterable<String> keys) {
-            final Set<Integer> lengths = new TreeSet<>(new Comparator<Integer>() {
-                @Override
-                public int compare(Integer o1, Integer o2) {
-                    return -o1.compareTo(o2);
-                }
-            });
+        private static boolean[] buildLengths(Iterable<String> keys) {
+            int maxLength = 0;
             for (String p : keys) {
-                lengths.add(p.length());
+                maxLength = Math.max(maxLength, p.length());
             }
-
-            int[] lengthArray = new int[lengths.size()];
-            int pos = 0;
-            for (int i : lengths) {
-                lengthArray[pos++] = i;
+            boolean[] lengths = new boolean[maxLength + 1];
+            for (String p : keys) {
+                lengths[p.length()] = true;
             }
-            return lengthArray;
+            return lengths;
         }
     }
 
@@ -519,6 +519,35 @@ public void testDefaultHandlerOneInnerWildcard() {
         assertNotMatched(matcher, "/1/one/two");
     }
 
+    @Test
+    public void testManyPrefixPaths() {
+        // only the prefixes of the request path are looked up, from the longest one
+        var builder = ImmutablePathMatcher.builder();
+        List<Object> handlers = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            Object handler = new Object();
+            handlers.add(handler);
+            builder.addPath("/api/resource-" + i + "/*", handler);
+        }
+        final Object nestedHandler = new Object();
+        final Object innerWildcardHandler = new Object();
+        final Object defaultHandler = new Object();
+        final ImmutablePathMatcher<Object> matcher = builder.addPath("/api/resource-1/nested/*", nestedHandler)
+                .addPath("/api/*/items", innerWildcardHandler).addPath("/*", defaultHandler).build();
+        for (int i = 0; i < 200; i++) {
+            assertMatched(matcher, "/api/resource-" + i, handlers.get(i));
+            assertMatched(matcher, "/api/resource-" + i + "/", handlers.get(i));
+            assertMatched(matcher, "/api/resource-" + i + "/one/two", handlers.get(i));
+        }
+        assertMatched(matcher, "/api/resource-1/nested", nestedHandler);
+        assertMatched(matcher, "/api/resource-1/nested/one", nestedHandler);
+        assertMatched(matcher, "/api/resource-1/nestedone", handlers.get(1));
+        assertMatched(matcher, "/api/resource-200/items", innerWildcardHandler);
+        assertMatched(matcher, "/api/resource-200", defaultHandler);
+        assertMatched(matcher, "/api/resource-1x/one", defaultHandler);
+        assertMatched(matcher, "/api", defaultHandler);
+    }
+
     private static void assertMatched(ImmutablePathMatcher<Object> matcher, String path, Object handler) {
         var match = matcher.match(path);
         assertEquals(handler, match.getValue());
@@ -0,0 +1,70 @@
+package io.quarkus.vertx.http.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class RoutingUtilsTest {
+
+    @Test
+    void acceptsEncoding_missing_header() {
+        assertFalse(RoutingUtils.acceptsEncoding(null, "gzip"));
+        assertFalse(RoutingUtils.acceptsEncoding("", "gzip"));
+    }
+
+    @Test
+    void acceptsEncoding_listed() {
+        assertTrue(RoutingUtils.acceptsEncoding("gzip", "gzip"));
+        assertTrue(RoutingUtils.acceptsEncoding("deflate, gzip, br", "gzip"));
+        assertTrue(RoutingUtils.acceptsEncoding("br;q=1.0, GZIP;q=0.5", "gzip"));
+        assertFalse(RoutingUtils.acceptsEncoding("deflate, br", "gzip"));
+    }
+
+    @Test
+    void acceptsEncoding_zero_quality() {
+        assertFalse(RoutingUtils.acceptsEncoding("gzip;q=0", "gzip"));
+        assertFalse(RoutingUtils.acceptsEncoding("br, gzip; q=0.000", "gzip"));
+    }
+
+    @Test
+    void acceptsEncoding_wildcard() {
+        assertTrue(RoutingUtils.acceptsEncoding("*", "gzip"));
+        assertTrue(RoutingUtils.acceptsEncoding("br, *;q=0.1", "gzip"));
+        assertFalse(RoutingUtils.acceptsEncoding("*;q=0", "gzip"));
+        assertFalse(RoutingUtils.acceptsEncoding("*, gzip;q=0", "gzip"));
+    }
+
+    @Test
+    void matchesEntityTag_missing_header() {
+        assertFalse(RoutingUtils.matchesEntityTag(null, "\"abc\""));
+        assertFalse(RoutingUtils.matchesEntityTag("", "\"abc\""));
+    }
+
+    @Test
+    void matchesEntityTag_single() {
+        assertTrue(RoutingUtils.matchesEntityTag("\"abc\"", "\"abc\""));
+        assertFalse(RoutingUtils.matchesEntityTag("\"abd\"", "\"abc\""));
+        assertFalse(RoutingUtils.matchesEntityTag("abc", "\"abc\""));
+    }
+
+    @Test
+    void matchesEntityTag_weak() {
+        assertTrue(RoutingUtils.matchesEntityTag("W/\"abc\"", "\"abc\""));
+        assertTrue(RoutingUtils.matchesEntityTag("\"abc\"", "W/\"abc\""));
+    }
+
+    @Test
+    void matchesEntityTag_list() {
+        assertTrue(RoutingUtils.matchesEntityTag("\"xyz\", \"abc\"", "\"abc\""));
+        assertTrue(RoutingUtils.matchesEntityTag("\"xyz\",W/\"abc\"", "\"abc\""));
+        assertTrue(RoutingUtils.matchesEntityTag("\"x,y\", \"abc\"", "\"abc\""));
+        assertFalse(RoutingUtils.matchesEntityTag("\"xyz\", \"a,bc\"", "\"abc\""));
+    }
+
+    @Test
+    void matchesEntityTag_wildcard() {
+        assertTrue(RoutingUtils.matchesEntityTag("*", "\"abc\""));
+        assertTrue(RoutingUtils.matchesEntityTag(" * ", "\"abc\""));
+    }
+}
@@ -0,0 +1,65 @@
+package io.quarkus.vertx.http.runtime.attribute;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+import io.vertx.ext.web.RoutingContext;
+
+class CompositeExchangeAttributeTest {
+
+    private static final SubstituteEmptyWrapper WRAPPER = new SubstituteEmptyWrapper("-");
+
+    @Test
+    void testReadAndAppendAreConsistent() {
+        ExchangeAttribute composite = new CompositeExchangeAttribute(new ExchangeAttribute[] {
+                WRAPPER.wrap(new ConstantExchangeAttribute("a")),
+                new ConstantExchangeAttribute(" "),
+                WRAPPER.wrap(new FixedAttribute(null)),
+                new ConstantExchangeAttribute(" "),
+                WRAPPER.wrap(new FixedAttribute("")),
+                new ConstantExchangeAttribute(" "),
+                WRAPPER.wrap(new FixedAttribute("b")),
+                new FixedAttribute(null)
+        });
+
+        assertEquals("a - - b", composite.readAttribute(null));
+
+        StringBuilder sb = new StringBuilder("prefix:");
+        composite.appendAttribute(null, sb);
+        assertEquals("prefix:a - - b", sb.toString());
+    }
+
+    @Test
+    void testNestedComposite() {
+        ExchangeAttribute nested = new CompositeExchangeAttribute(new ExchangeAttribute[] {
+                new ConstantExchangeAttribute("["),
+                new FixedAttribute("x"),
+                new ConstantExchangeAttribute("]")
+        });
+        ExchangeAttribute composite = new CompositeExchangeAttribute(new ExchangeAttribute[] {
+                nested, new ConstantExchangeAttribute(" "), nested
+        });
+
+        assertEquals("[x] [x]", composite.readAttribute(null));
+    }
+
+    private static final class FixedAttribute implements ExchangeAttribute {
+
+        private final String value;
+
+        FixedAttribute(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public String readAttribute(RoutingContext exchange) {
+            return value;
+        }
+
+        @Override
+        public void writeAttribute(RoutingContext exchange, String newValue) throws ReadOnlyAttributeException {
+            throw new ReadOnlyAttributeException("fixed", newValue);
+        }
+    }
+}
@@ -18,6 +18,7 @@
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.function.BiPredicate;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -85,7 +86,7 @@ public static Builder builder() {
     private final boolean generateSources;
     private final boolean allowMocking;
     private final boolean transformUnproxyableClasses;
-    private final Predicate<BeanDeployment> optimizeContexts;
+    private final BiPredicate<BeanDeployment, DotName> optimizeContexts;
     private final List<Consumer<BeanGenerator.SuppressConditionGeneration>> suppressConditionGenerators;
 
     // This predicate is used to filter annotations for InjectionPoint metadata
@@ -218,7 +219,15 @@ public List<Resource> generateResources(ReflectionRegistration reflectionRegistr
 
         ReflectionRegistration refReg = reflectionRegistration != null ? reflectionRegistration : this.reflectionRegistration;
         PrivateMembersCollector privateMembers = new PrivateMembersCollector();
-        boolean optimizeContextsValue = optimizeContexts != null ? optimizeContexts.test(beanDeployment) : false;
+        // The scopes for which a specialized ContextInstances implementation is generated
+        List<DotName> optimizedScopes = new ArrayList<>(2);
+        if (optimizeContexts != null) {
+            for (DotName scope : List.of(BuiltinScope.APPLICATION.getName(), BuiltinScope.REQUEST.getName())) {
+                if (optimizeContexts.test(beanDeployment, scope)) {
+                    optimizedScopes.add(scope);
+                }
+            }
+        }
 
         // These maps are precomputed and then used in the ComponentsProviderGenerator which is generated first
         Map<BeanInfo, String> beanToGeneratedName = new HashMap<>();
@@ -271,9 +280,8 @@ public List<Resource> generateResources(ReflectionRegistration reflectionRegistr
 
         ContextInstancesGenerator contextInstancesGenerator = new ContextInstancesGenerator(generateSources,
                 refReg, beanDeployment, scopeToGeneratedName);
-        if (optimizeContextsValue) {
-            contextInstancesGenerator.precomputeGeneratedName(BuiltinScope.APPLICATION.getName());
-            contextInstancesGenerator.precomputeGeneratedName(BuiltinScope.REQUEST.getName());
+        for (DotName scope : optimizedScopes) {
+            contextInstancesGenerator.precomputeGeneratedName(scope);
         }
 
         InvokerGenerator invokerGenerator = new InvokerGenerator(generateSources,
@@ -434,15 +442,16 @@ public Collection<Resource> call() throws Exception {
                 }));
             }
 
-            if (optimizeContextsValue) {
+            if (!optimizedScopes.isEmpty()) {
                 // Generate _ContextInstances
                 primaryTasks.add(executor.submit(new Callable<Collection<Resource>>() {
 
                     @Override
                     public Collection<Resource> call() throws Exception {
                         Collection<Resource> resources = new ArrayList<>();
-                        resources.addAll(contextInstancesGenerator.generate(BuiltinScope.APPLICATION.getName()));
-                        resources.addAll(contextInstancesGenerator.generate(BuiltinScope.REQUEST.getName()));
+                        for (DotName scope : optimizedScopes) {
+                            resources.addAll(contextInstancesGenerator.generate(scope));
+                        }
                         return resources;
                     }
                 }));
@@ -536,10 +545,9 @@ public Collection<Resource> call() throws Exception {
                             observerToGeneratedName,
                             scopeToGeneratedName));
 
-            if (optimizeContextsValue) {
-                // Generate _ContextInstances
-                resources.addAll(contextInstancesGenerator.generate(BuiltinScope.APPLICATION.getName()));
-                resources.addAll(contextInstancesGenerator.generate(BuiltinScope.REQUEST.getName()));
+            // Generate _ContextInstances
+            for (DotName scope : optimizedScopes) {
+                resources.addAll(contextInstancesGenerator.generate(scope));
             }
         }
 
@@ -655,7 +663,7 @@ public static class Builder {
         boolean failOnInterceptedPrivateMethod;
         boolean allowMocking;
         boolean strictCompatibility;
-        Predicate<BeanDeployment> optimizeContexts;
+        BiPredicate<BeanDeployment, DotName> optimizeContexts;
 
         AlternativePriorities alternativePriorities;
         final List<Predicate<ClassInfo>> excludeTypes;
@@ -956,6 +964,25 @@ public boolean test(BeanDeployment t) {
          * @return self
          */
         public Builder setOptimizeContexts(Predicate<BeanDeployment> fun) {
+            return setOptimizeContexts(new BiPredicate<BeanDeployment, DotName>() {
+                @Override
+                public boolean test(BeanDeployment deployment, DotName scope) {
+                    return fun.test(deployment);
+                }
+            });
+        }
+
+        /**
+         * Decides for each built-in scope whether the context should be optimized, i.e. whether a specialized
+         * {@code ContextInstances} implementation with a field per bean should be generated for the scope.
+         * <p>
+         * Currently, the {@link jakarta.enterprise.context.ApplicationScoped} and
+         * {@link jakarta.enterprise.context.RequestScoped} contexts can be optimized.
+         *
+         * @param fun the function accepting the deployment and the scope name
+         * @return self
+         */
+        public Builder setOptimizeContexts(BiPredicate<BeanDeployment, DotName> fun) {
             this.optimizeContexts = fun;
             return this;
         }
@@ -102,7 +102,7 @@ public static class Builder {
         private AlternativePriorities alternativePriorities;
         private final List<BuildCompatibleExtension> buildCompatibleExtensions;
         private boolean strictCompatibility = false;
-        private boolean optimizeContexts = false;
+        private Predicate<DotName> optimizeContexts = scope -> false;
         private final List<Predicate<ClassInfo>> excludeTypes;
         private boolean testMode = false;
 
@@ -242,7 +242,12 @@ public Builder testMode(boolean testMode) {
         }
 
         public Builder optimizeContexts(boolean value) {
-            this.optimizeContexts = value;
+            this.optimizeContexts = scope -> value;
+            return this;
+        }
+
+        public Builder optimizeContexts(Predicate<DotName> scopes) {
+            this.optimizeContexts = scopes;
             return this;
         }
 
@@ -287,7 +292,7 @@ public ArcTestContainer build() {
     private final List<BuildCompatibleExtension> buildCompatibleExtensions;
 
     private final boolean strictCompatibility;
-    private final boolean optimizeContexts;
+    private final Predicate<DotName> optimizeContexts;
     private final boolean testMode;
 
     private final int reproducibilityRuns;
@@ -314,7 +319,7 @@ public ArcTestContainer(Class<?>... beanClasses) {
         this.alternativePriorities = null;
         this.buildCompatibleExtensions = Collections.emptyList();
         this.strictCompatibility = false;
-        this.optimizeContexts = false;
+        this.optimizeContexts = scope -> false;
         this.excludeTypes = Collections.emptyList();
         this.testMode = false;
         this.reproducibilityRuns = parseReproducibilityRuns();
@@ -604,7 +609,7 @@ private BeanProcessor.Builder configureBeanProcessorBuilder(String deploymentNam
                 .setApplicationIndex(applicationIndex)
                 .setBuildCompatibleExtensions(buildCompatibleExtensions)
                 .setStrictCompatibility(strictCompatibility)
-                .setOptimizeContexts(optimizeContexts);
+                .setOptimizeContexts((deployment, scope) -> optimizeContexts.test(scope));
         if (!resourceAnnotations.isEmpty()) {
             builder.addResourceAnnotations(resourceAnnotations.stream()
                     .map(c -> DotName.createSimple(c.getName()))
@@ -0,0 +1,76 @@
+package io.quarkus.arc.test.contexts.optimized;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.lang.annotation.Annotation;
+import java.util.HashSet;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.UUID;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.RequestScoped;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.ComponentsProvider;
+import io.quarkus.arc.processor.BuiltinScope;
+import io.quarkus.arc.test.ArcTestContainer;
+
+public class OptimizeContextsPerScopeTest {
+
+    @RegisterExtension
+    ArcTestContainer container = ArcTestContainer.builder()
+            .beanClasses(Boom.class, Bim.class)
+            .optimizeContexts(scope -> scope.equals(BuiltinScope.REQUEST.getName()))
+            .build();
+
+    @Test
+    public void testOnlyRequestContextIsOptimized() {
+        ArcContainer container = Arc.container();
+        Set<Class<? extends Annotation>> optimizedScopes = new HashSet<>();
+        for (ComponentsProvider componentsProvider : ServiceLoader.load(ComponentsProvider.class)) {
+            optimizedScopes.addAll(
+                    componentsProvider.getComponents(container.getCurrentContextFactory()).getContextInstances().keySet());
+        }
+        assertEquals(Set.of(RequestScoped.class), optimizedScopes);
+
+        // Both contexts work, whether they are optimized or not
+        Bim bim = container.instance(Bim.class).get();
+        assertEquals(bim.ping(), container.instance(Bim.class).get().ping());
+        container.requestContext().activate();
+        try {
+            Boom boom = container.instance(Boom.class).get();
+            assertNotNull(boom.ping());
+            assertEquals(boom.ping(), container.instance(Boom.class).get().ping());
+        } finally {
+            container.requestContext().terminate();
+        }
+    }
+
+    @RequestScoped
+    public static class Boom {
+
+        private final String id = UUID.randomUUID().toString();
+
+        String ping() {
+            return id;
+        }
+
+    }
+
+    @ApplicationScoped
+    public static class Bim {
+
+        private final String id = UUID.randomUUID().toString();
+
+        String ping() {
+            return id;
+        }
+
+    }
+}
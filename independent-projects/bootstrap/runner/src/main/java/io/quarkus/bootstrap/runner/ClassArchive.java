@@ -0,0 +1,257 @@
+package io.quarkus.bootstrap.runner;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.jar.Attributes;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+import java.util.zip.ZipEntry;
+
+/**
+ * A single, uncompressed archive containing the classes of all the jars of the application, which is memory-mapped at
+ * startup.
+ * <p>
+ * Classes are defined straight from the mapped region, so that the jars containing them do not need to be opened and
+ * their entries do not need to be inflated. Each class is only stored once, for the first jar that contains it in the
+ * class path order, i.e. the jar the {@link RunnerClassLoader} would load it from. Classes that are shadowed by a jar
+ * that cannot be archived, such as a multi-release jar, are not stored at all and are loaded from their jar.
+ * <p>
+ * The archive consists of the class data, followed by the UTF-8 encoded class resource names, the entries, an open
+ * addressing hash table of entry indexes keyed by the resource name hash code, and a fixed size footer.
+ * <p>
+ * This format is subject to change, and gives no compatibility guarantees, it is only intended to be used
+ * with the same version of Quarkus that created it.
+ */
+final class ClassArchive {
+
+    private static final int MAGIC = 0XC1A55A7C;
+    private static final int VERSION = 1;
+
+    // hash, name offset, name length, data offset, data length, class path index
+    private static final int ENTRY_SIZE = 6 * Integer.BYTES;
+    // entry count, table size, entries offset, table offset, magic
+    private static final int FOOTER_SIZE = 5 * Integer.BYTES;
+
+    private static final String CLASS_SUFFIX = ".class";
+
+    private final ByteBuffer buffer;
+    private final int entriesOffset;
+    private final int tableOffset;
+    private final int mask;
+
+    private ClassArchive(ByteBuffer buffer) {
+        this.buffer = buffer;
+        int footer = buffer.limit() - FOOTER_SIZE;
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(footer + 4 * Integer.BYTES) != MAGIC) {
+            throw new RuntimeException("Wrong class archive magic number");
+        }
+        if (buffer.getInt(Integer.BYTES) != VERSION) {
+            throw new RuntimeException("Wrong class archive version");
+        }
+        this.mask = buffer.getInt(footer + Integer.BYTES) - 1;
+        this.entriesOffset = buffer.getInt(footer + 2 * Integer.BYTES);
+        this.tableOffset = buffer.getInt(footer + 3 * Integer.BYTES);
+    }
+
+    static ClassArchive map(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            // the mapping remains valid once the channel is closed
+            return new ClassArchive(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * @param resource the class resource name, e.g. {@code org/acme/Foo.class}
+     * @return the entry index, or {@code -1} if the class is not archived
+     */
+    int find(String resource) {
+        int hash = resource.hashCode();
+        for (int slot = spread(hash) & mask;; slot = (slot + 1) & mask) {
+            int entry = buffer.getInt(tableOffset + slot * Integer.BYTES) - 1;
+            if (entry < 0) {
+                return -1;
+            }
+            int entryPosition = entriesOffset + entry * ENTRY_SIZE;
+            if (buffer.getInt(entryPosition) == hash && nameEquals(entryPosition, resource)) {
+                return entry;
+            }
+        }
+    }
+
+    /**
+     * @return the index of the class path element the class was archived from
+     */
+    int classPathIndex(int entry) {
+        return buffer.getInt(entriesOffset + entry * ENTRY_SIZE + 5 * Integer.BYTES);
+    }
+
+    /**
+     * @return a read-only view of the class data
+     */
+    ByteBuffer data(int entry) {
+        int entryPosition = entriesOffset + entry * ENTRY_SIZE;
+        return buffer.slice(buffer.getInt(entryPosition + 3 * Integer.BYTES),
+                buffer.getInt(entryPosition + 4 * Integer.BYTES));
+    }
+
+    private boolean nameEquals(int entryPosition, String resource) {
+        int offset = buffer.getInt(entryPosition + Integer.BYTES);
+        int length = buffer.getInt(entryPosition + 2 * Integer.BYTES);
+        if (length != resource.length()) {
+            // a non-ASCII name is longer than its number of chars
+            return length > resource.length() && decodedNameEquals(offset, length, resource);
+        }
+        for (int i = 0; i < length; i++) {
+            char c = resource.charAt(i);
+            if (c >= 0x80) {
+                return decodedNameEquals(offset, length, resource);
+            }
+            if (buffer.get(offset + i) != c) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean decodedNameEquals(int offset, int length, String resource) {
+        byte[] name = new byte[length];
+        buffer.get(offset, name);
+        return resource.equals(new String(name, StandardCharsets.UTF_8));
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Collects the classes of the visited jars, which must be visited in the class path order.
+     */
+    static class Writer implements JarVisitor, AutoCloseable {
+
+        private final Path path;
+        private final DataOutputStream out;
+        // all the class resources found so far, including the ones that could not be archived
+        private final Set<String> visited = new HashSet<>();
+        private final List<String> names = new ArrayList<>();
+        private final List<int[]> entries = new ArrayList<>();
+        private int classPathIndex = -1;
+        private boolean archivable;
+        private boolean overflow;
+
+        Writer(Path path) throws IOException {
+            this.path = path;
+            this.out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)));
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+        }
+
+        @Override
+        public void preVisit(Path jar) {
+            classPathIndex++;
+            // exploded directories can only be found when testing Quarkus itself
+            archivable = !Files.isDirectory(jar);
+        }
+
+        @Override
+        public void visitJarManifest(Path jar, Manifest manifest) {
+            // the classes of a multi-release jar depend on the runtime version
+            if (Boolean.parseBoolean(manifest.getMainAttributes().getValue(Attributes.Name.MULTI_RELEASE))) {
+                archivable = false;
+            }
+        }
+
+        @Override
+        public void visitRegularFile(Path jar, Path file, String relativePath) {
+            if (relativePath.endsWith(CLASS_SUFFIX)) {
+                visited.add(relativePath);
+            }
+        }
+
+        @Override
+        public void visitJarFileEntry(JarFile jarFile, ZipEntry entry) {
+            String name = entry.getName();
+            if (!name.endsWith(CLASS_SUFFIX) || name.startsWith(SerializedApplication.META_INF)
+                    || !visited.add(name) || !archivable || overflow) {
+                return;
+            }
+            try (InputStream in = jarFile.getInputStream(entry)) {
+                byte[] data = in.readAllBytes();
+                int offset = out.size();
+                if (offset < 0 || (long) offset + data.length > Integer.MAX_VALUE / 2) {
+                    // leave enough room for the index, the whole archive must be mappable at once
+                    overflow = true;
+                    return;
+                }
+                out.write(data);
+                names.add(name);
+                entries.add(new int[] { name.hashCode(), 0, 0, offset, data.length, classPathIndex });
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to archive " + name + " from " + jarFile.getName(), e);
+            }
+        }
+
+        /**
+         * Writes the index and closes the archive.
+         *
+         * @return {@code false} if the classes do not fit in a single archive, in which case it's deleted
+         */
+        boolean finish() throws IOException {
+            if (overflow) {
+                close();
+                Files.delete(path);
+                return false;
+            }
+            for (int i = 0; i < names.size(); i++) {
+                byte[] name = names.get(i).getBytes(StandardCharsets.UTF_8);
+                int[] entry = entries.get(i);
+                entry[1] = out.size();
+                entry[2] = name.length;
+                out.write(name);
+            }
+            int entriesOffset = out.size();
+            for (int[] entry : entries) {
+                for (int value : entry) {
+                    out.writeInt(value);
+                }
+            }
+            // keep the load factor below 0.5 so that the probe sequences remain short
+            int tableSize = Integer.highestOneBit(Math.max(entries.size(), 1) * 2) << 1;
+            int[] table = new int[tableSize];
+            for (int i = 0; i < entries.size(); i++) {
+                int slot = spread(entries.get(i)[0]) & (tableSize - 1);
+                while (table[slot] != 0) {
+                    slot = (slot + 1) & (tableSize - 1);
+                }
+                table[slot] = i + 1;
+            }
+            int tableOffset = out.size();
+            for (int slot : table) {
+                out.writeInt(slot);
+            }
+            out.writeInt(entries.size());
+            out.writeInt(tableSize);
+            out.writeInt(entriesOffset);
+            out.writeInt(tableOffset);
+            out.writeInt(MAGIC);
+            close();
+            return true;
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.close();
+        }
+    }
+}
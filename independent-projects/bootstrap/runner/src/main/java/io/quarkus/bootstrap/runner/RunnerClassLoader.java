@@ -4,6 +4,7 @@
 import static io.quarkus.commons.classloading.ClassLoaderHelper.isInJdkPackage;
 
 import java.net.URL;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Enumeration;
@@ -50,6 +51,10 @@ public final class RunnerClassLoader extends ClassLoader {
     private final ClassLoadingResource transformedBytecodeClassLoadingResource;
     private final Set<String> transformedBytecode;
 
+    // the optional class archive and the class path elements its entries refer to
+    private final ClassArchive classArchive;
+    private final ClassLoadingResource[] classPath;
+
     //Mutations protected by synchronization on the field value itself:
     private final ClassLoadingResource[] currentlyBufferedResources = new ClassLoadingResource[4];//Experimentally found to be a reasonable number
     //Protected by synchronization on the above field, as they are related.
@@ -62,7 +67,8 @@ public final class RunnerClassLoader extends ClassLoader {
             Set<String> parentFirstPackages,
             List<String> fullyIndexedDirectories, Map<String, ClassLoadingResource[]> fullyIndexedResourcesIndexMap,
             ClassLoadingResource generatedBytecodeClassLoadingResource, Set<String> generatedBytecode,
-            ClassLoadingResource transformedBytecodeClassLoadingResource, Set<String> transformedBytecode) {
+            ClassLoadingResource transformedBytecodeClassLoadingResource, Set<String> transformedBytecode,
+            ClassArchive classArchive, ClassLoadingResource[] classPath) {
         super(parent);
         this.resourceDirectoryMap = resourceDirectoryMap;
         this.parentFirstPackages = parentFirstPackages;
@@ -72,6 +78,8 @@ public final class RunnerClassLoader extends ClassLoader {
         this.generatedBytecode = generatedBytecode;
         this.transformedBytecodeClassLoadingResource = transformedBytecodeClassLoadingResource;
         this.transformedBytecode = transformedBytecode;
+        this.classArchive = classArchive;
+        this.classPath = classPath;
 
         if (CracSupport.isEnabled()) {
             resource = new CracResource();
@@ -115,6 +123,13 @@ public Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundExce
         }
         if (resources != null) {
             String classResource = fromClassNameToResourceName(name);
+            if (classArchive != null) {
+                int entry = classArchive.find(classResource);
+                if (entry >= 0) {
+                    definePackage(packageName, resources);
+                    return defineClass(name, classArchive.data(entry), classPath[classArchive.classPathIndex(entry)]);
+                }
+            }
             for (ClassLoadingResource resource : resources) {
                 if (resource == generatedBytecodeClassLoadingResource && !generatedBytecode.contains(classResource)) {
                     continue;
@@ -183,6 +198,22 @@ private Class<?> defineClass(String name, byte[] data, ClassLoadingResource reso
         }
     }
 
+    private Class<?> defineClass(String name, ByteBuffer data, ClassLoadingResource resource) {
+        Class<?> loaded = findLoadedClass(name);
+        if (loaded != null) {
+            return loaded;
+        }
+        try {
+            return defineClass(name, data, resource.getProtectionDomain());
+        } catch (LinkageError e) {
+            loaded = findLoadedClass(name);
+            if (loaded != null) {
+                return loaded;
+            }
+            throw e;
+        }
+    }
+
     private void accessingResource(final ClassLoadingResource resource) {
         final ClassLoadingResource toEvict;
         synchronized (this.currentlyBufferedResources) {
@@ -35,7 +35,7 @@ public class SerializedApplication {
     private static final List<String> FULLY_INDEXED_DIRECTORIES = List.of("", "META-INF", "META-INF/services");
 
     private static final int MAGIC = 0XF0315432;
-    private static final int VERSION = 3;
+    private static final int VERSION = 4;
 
     private static final ClassLoadingResource[] EMPTY_ARRAY = new ClassLoadingResource[0];
     private static final JarResource SENTINEL = new JarResource(null, Path.of("wqxehxivam"));
@@ -58,7 +58,18 @@ public String getMainClass() {
 
     public static void write(OutputStream outputStream, String mainClass, Path applicationRoot, List<Path> classPath,
             List<Path> parentFirst) throws IOException {
-        try (DataOutputStream data = new DataOutputStream(outputStream)) {
+        write(outputStream, mainClass, applicationRoot, classPath, parentFirst, null);
+    }
+
+    /**
+     * @param classArchive the path of the class archive to create, or {@code null} if the classes should be loaded from
+     *        the jars
+     */
+    public static void write(OutputStream outputStream, String mainClass, Path applicationRoot, List<Path> classPath,
+            List<Path> parentFirst, Path classArchive) throws IOException {
+        try (DataOutputStream data = new DataOutputStream(outputStream);
+                ClassArchive.Writer classArchiveWriter = classArchive != null ? new ClassArchive.Writer(classArchive)
+                        : null) {
             data.writeInt(MAGIC);
             data.writeInt(VERSION);
             data.writeUTF(mainClass);
@@ -71,7 +82,11 @@ public static void write(OutputStream outputStream, String mainClass, Path appli
                 FullyIndexedJarVisitor fullyIndexedVisitor = new FullyIndexedJarVisitor(FULLY_INDEXED_DIRECTORIES);
                 JarInspectorVisitor jarInspectorVisitor = new JarInspectorVisitor();
 
-                visitJar(jar, fullyIndexedVisitor, jarInspectorVisitor);
+                if (classArchiveWriter != null) {
+                    visitJar(jar, fullyIndexedVisitor, jarInspectorVisitor, classArchiveWriter);
+                } else {
+                    visitJar(jar, fullyIndexedVisitor, jarInspectorVisitor);
+                }
 
                 String relativePath = applicationRoot.relativize(jar).toString().replace('\\', '/');
                 data.writeUTF(relativePath);
@@ -125,6 +140,12 @@ public static void write(OutputStream outputStream, String mainClass, Path appli
                     data.writeShort(index);
                 }
             }
+            if (classArchiveWriter != null && classArchiveWriter.finish()) {
+                data.writeBoolean(true);
+                data.writeUTF(applicationRoot.relativize(classArchive).toString().replace('\\', '/'));
+            } else {
+                data.writeBoolean(false);
+            }
             data.flush();
         }
     }
@@ -205,11 +226,16 @@ public static SerializedApplication read(InputStream inputStream, Path appRoot)
                 }
                 fullyIndexedResourcesIndexMap.put(resource, matchingResources);
             }
+            ClassArchive classArchive = null;
+            if (in.readBoolean()) {
+                classArchive = ClassArchive.map(appRoot.resolve(in.readUTF()));
+            }
             RunnerClassLoader runnerClassLoader = new RunnerClassLoader(ClassLoader.getSystemClassLoader(),
                     resourceDirectoryTracker.getResult(), parentFirstPackages,
                     FULLY_INDEXED_DIRECTORIES, fullyIndexedResourcesIndexMap,
                     generatedBytecodeClassLoadingResource, generatedBytecode,
-                    transformedBytecodeClassLoadingResource, transformedBytecode);
+                    transformedBytecodeClassLoadingResource, transformedBytecode,
+                    classArchive, allClassLoadingResources);
             for (ClassLoadingResource classLoadingResource : allClassLoadingResources) {
                 classLoadingResource.init();
             }
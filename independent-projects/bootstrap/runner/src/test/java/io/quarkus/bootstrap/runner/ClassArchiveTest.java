@@ -0,0 +1,54 @@
+package io.quarkus.bootstrap.runner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ClassArchiveTest {
+
+    private static final List<String> JARS = List.of("simple-project-1.0.jar", "easy-project-1.0.jar",
+            "trivial-project-1.0.jar");
+
+    @TempDir
+    Path appRoot;
+
+    @Test
+    public void testClassesAreLoadedFromArchive() throws Exception {
+        List<Path> classPath = new ArrayList<>();
+        Files.createDirectories(appRoot.resolve("lib"));
+        for (String jar : JARS) {
+            classPath.add(Files.copy(Path.of("src", "test", "resources", "jars", jar), appRoot.resolve("lib").resolve(jar)));
+        }
+        Path archivePath = appRoot.resolve("classes.dat");
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        SerializedApplication.write(out, "org.simple.SimplePojo1", appRoot, classPath, List.of(), archivePath);
+
+        ClassArchive archive = ClassArchive.map(archivePath);
+        int entry = archive.find("org/simple/SimplePojo1.class");
+        assertThat(entry).isNotNegative();
+        assertThat(archive.classPathIndex(entry)).isZero();
+        assertThat(archive.classPathIndex(archive.find("org/trivial/TrivialPojo.class"))).isEqualTo(2);
+        assertThat(archive.find("org/simple/Missing.class")).isNegative();
+
+        SerializedApplication app = SerializedApplication.read(new ByteArrayInputStream(out.toByteArray()), appRoot);
+        RunnerClassLoader classLoader = app.getRunnerClassLoader();
+        try {
+            Class<?> simple = classLoader.loadClass(app.getMainClass());
+            assertThat(simple.getClassLoader()).isSameAs(classLoader);
+            assertThat(simple.getProtectionDomain().getCodeSource().getLocation().getPath())
+                    .endsWith("simple-project-1.0.jar");
+            assertThat(classLoader.loadClass("org.easy.EasyPojo").getClassLoader()).isSameAs(classLoader);
+        } finally {
+            classLoader.close();
+        }
+    }
+}
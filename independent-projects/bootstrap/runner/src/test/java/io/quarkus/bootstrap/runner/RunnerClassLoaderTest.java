@@ -40,7 +40,8 @@ public void testConcurrentJarCloseAndReload() throws Exception {
                 Collections.emptySet(),
                 Collections.emptyList(), Collections.emptyMap(),
                 null, Collections.emptySet(),
-                null, Collections.emptySet());
+                null, Collections.emptySet(),
+                null, null);
 
         // Put the RunnerClassLoader in a postBootPhase thus enabling the jars cache
         runnerClassLoader.resetInternalCaches();
@@ -114,7 +115,8 @@ public void testUrlWithTrailingSlash() {
                 Collections.emptySet(),
                 Collections.emptyList(), Collections.emptyMap(),
                 null, Collections.emptySet(),
-                null, Collections.emptySet());
+                null, Collections.emptySet(),
+                null, null);
 
         assertThat(runnerClassLoader.findResource("org").toString()).endsWith("/org");
         assertThat(runnerClassLoader.findResource("org/").toString()).endsWith("/org/");
@@ -0,0 +1,104 @@
+package org.jboss.resteasy.reactive.server.mapping;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link RequestMapper#map(String)} over a route table of 540 endpoints, shaped like a typical REST API: 60
+ * resources exposing literal, path parameter and regular expression templates.
+ * <p>
+ * Run with {@code -prof gc} to see the allocation rate per match.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class RequestMapperBenchmark {
+
+    private static final int RESOURCES = 60;
+
+    private static final String[] TEMPLATES = {
+            "",
+            "/search",
+            "/count",
+            "/export/{format}",
+            "/{id}",
+            "/{id}/owner",
+            "/{id}/history",
+            "/{id}/items/{itemId}",
+            "/{id}/revisions/{revision:[0-9]+}",
+    };
+
+    private RequestMapper<String> mapper;
+
+    private String[] literalPaths;
+    private String[] paramPaths;
+    private String[] regexPaths;
+    private String[] unknownPaths;
+    private int index;
+
+    @Setup
+    public void setup() {
+        ArrayList<RequestMapper.RequestPath<String>> templates = new ArrayList<>();
+        for (int resource = 0; resource < RESOURCES; resource++) {
+            for (String template : TEMPLATES) {
+                String path = "/api/v1/resource" + resource + template;
+                templates.add(new RequestMapper.RequestPath<>(false, new URITemplate(path, false), path));
+            }
+        }
+        mapper = new RequestMapper<>(templates);
+
+        literalPaths = new String[RESOURCES];
+        paramPaths = new String[RESOURCES];
+        regexPaths = new String[RESOURCES];
+        unknownPaths = new String[RESOURCES];
+        for (int resource = 0; resource < RESOURCES; resource++) {
+            String base = "/api/v1/resource" + resource;
+            literalPaths[resource] = base + "/search";
+            paramPaths[resource] = base + "/" + (resource * 31) + "/items/" + (resource * 17);
+            regexPaths[resource] = base + "/" + resource + "/revisions/" + (resource * 7);
+            unknownPaths[resource] = base + "/" + resource + "/unknown/segment";
+        }
+    }
+
+    private String next(String[] paths) {
+        int i = index++;
+        if (index == paths.length) {
+            index = 0;
+        }
+        return paths[i];
+    }
+
+    @Benchmark
+    public Object literal() {
+        return mapper.map(next(literalPaths));
+    }
+
+    @Benchmark
+    public Object pathParams() {
+        return mapper.map(next(paramPaths));
+    }
+
+    @Benchmark
+    public Object regex() {
+        return mapper.map(next(regexPaths));
+    }
+
+    @Benchmark
+    public Object notFound() {
+        return mapper.map(next(unknownPaths));
+    }
+}
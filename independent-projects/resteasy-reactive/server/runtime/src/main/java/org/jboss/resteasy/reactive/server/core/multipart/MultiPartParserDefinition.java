@@ -13,6 +13,7 @@
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -42,6 +43,11 @@ public class MultiPartParserDefinition implements FormParserFactory.ParserDefini
 
     public static final String MULTIPART_FORM_DATA = "multipart/form-data";
 
+    /**
+     * The amount of received data that may be waiting to be parsed before the request input is paused.
+     */
+    private static final int MAX_PENDING_BYTES = 128 * 1024;
+
     private final Supplier<Executor> executorSupplier;
 
     private Path tempFileLocation;
@@ -449,16 +455,107 @@ public void setCharacterEncoding(final String encoding) {
             parser.setCharacterEncoding(encoding);
         }
 
-        private final class NonBlockingParseTask implements ServerHttpRequest.ReadCallback {
+        /**
+         * Parses the chunks on the executor as they are received. A single task parses all the chunks that are pending,
+         * so that a worker thread is not dispatched for each and every chunk, and the request input is only paused when
+         * the parsing, which may write to disk, cannot keep up with the network.
+         */
+        private final class NonBlockingParseTask implements ServerHttpRequest.ReadCallback, Runnable {
 
             private final Executor executor;
 
+            // all guarded by this
+            private final ArrayDeque<ByteBuffer> pending = new ArrayDeque<>();
+            private long pendingBytes;
+            private boolean running;
+            private boolean paused;
+            private boolean ended;
+            private boolean failed;
+
             private NonBlockingParseTask(Executor executor) {
                 this.executor = executor;
             }
 
             @Override
             public void done() {
+                synchronized (this) {
+                    if (failed) {
+                        return;
+                    }
+                    ended = true;
+                    if (running) {
+                        // the parse task completes once the pending chunks are parsed
+                        return;
+                    }
+                }
+                complete();
+            }
+
+            @Override
+            public void data(ByteBuffer data) {
+                boolean pause = false;
+                boolean dispatch;
+                synchronized (this) {
+                    if (failed) {
+                        return;
+                    }
+                    pending.add(data);
+                    pendingBytes += data.remaining();
+                    if (!paused && pendingBytes >= MAX_PENDING_BYTES) {
+                        paused = pause = true;
+                    }
+                    dispatch = !running;
+                    running = true;
+                }
+                if (pause) {
+                    exchange.serverRequest().pauseRequestInput();
+                }
+                if (dispatch) {
+                    executor.execute(this);
+                }
+            }
+
+            @Override
+            public void run() {
+                for (;;) {
+                    ByteBuffer buffer;
+                    boolean resume = false;
+                    boolean complete = false;
+                    synchronized (this) {
+                        buffer = pending.poll();
+                        if (buffer == null) {
+                            running = false;
+                            complete = ended;
+                        } else {
+                            pendingBytes -= buffer.remaining();
+                        }
+                        if (paused && (buffer == null || pendingBytes <= MAX_PENDING_BYTES / 2)) {
+                            paused = false;
+                            resume = true;
+                        }
+                    }
+                    if (resume) {
+                        exchange.serverRequest().resumeRequestInput();
+                    }
+                    if (buffer == null) {
+                        if (complete) {
+                            complete();
+                        }
+                        return;
+                    }
+                    try {
+                        parser.parse(buffer);
+                    } catch (MultipartParser.HeaderTooLargeException e) {
+                        fail(new WebApplicationException(Response.Status.REQUEST_ENTITY_TOO_LARGE));
+                        return;
+                    } catch (Throwable t) {
+                        fail(t);
+                        return;
+                    }
+                }
+            }
+
+            private void complete() {
                 if (parser.isComplete()) {
                     exchange.setFormData(data);
                     exchange.resume();
@@ -467,23 +564,14 @@ public void done() {
                 }
             }
 
-            @Override
-            public void data(ByteBuffer data) {
-                exchange.serverRequest().pauseRequestInput();
-                executor.execute(new Runnable() {
-                    @Override
-                    public void run() {
-                        try {
-                            parser.parse(data);
-                            exchange.serverRequest().resumeRequestInput();
-                        } catch (MultipartParser.HeaderTooLargeException e) {
-                            exchange.resume(
-                                    new WebApplicationException(Response.Status.REQUEST_ENTITY_TOO_LARGE));
-                        } catch (Throwable t) {
-                            exchange.resume(t);
-                        }
-                    }
-                });
+            private void fail(Throwable t) {
+                synchronized (this) {
+                    failed = true;
+                    running = false;
+                    pending.clear();
+                    pendingBytes = 0;
+                }
+                exchange.resume(t);
             }
         }
     }
@@ -63,6 +63,40 @@ PathMatch<T> defaultMatch(String path) {
         return new PathMatch<>("/", path, defaultHandler);
     }
 
+    /**
+     * @return the number of distinct prefix lengths, which is the maximum number of candidates for a path
+     */
+    int candidateCount() {
+        return lengths.length;
+    }
+
+    /**
+     * @return the length of the prefix matched by the candidate at the given index, from the longest to the shortest
+     */
+    int candidateLength(int index) {
+        return lengths[index];
+    }
+
+    /**
+     * Allocation-free variant of {@link #match(String)}, to be called for every index lower than
+     * {@link #candidateCount()}.
+     *
+     * @return the value registered for the prefix of the path having the length of the candidate at the given index,
+     *         or {@code null} if there is none
+     */
+    T candidate(String path, int index) {
+        int pathLength = lengths[index];
+        if (pathLength > path.length()) {
+            return null;
+        }
+        SubstringMap.SubstringMatch<T> next = paths.get(path, pathLength);
+        return next != null ? next.getValue() : null;
+    }
+
+    T getDefaultHandler() {
+        return defaultHandler;
+    }
+
     static class Builder<T> {
 
         private static final String STRING_PATH_SEPARATOR = "/";
@@ -4,7 +4,6 @@
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.function.BiConsumer;
 import java.util.regex.Matcher;
@@ -44,21 +43,26 @@ public void accept(String stem, ArrayList<RequestPath<T>> list) {
 
     /**
      * Match the path to the UriTemplates. Returns the best match, meaning the least remaining path after match.
+     * <p>
+     * The candidates are looked up directly in the {@link PathMatcher}, from the longest prefix to the shortest one,
+     * without allocating intermediate matches.
      *
      * @param path path to search UriTemplate for
      * @return best RequestMatch, or null if the path has no match
      */
     public RequestMatch<T> map(String path) {
-        List<PathMatcher.PathMatch<ArrayList<RequestPath<T>>>> matches = requestPaths.match(path);
-        for (int i = 0; i < matches.size(); i++) {
-            var result = mapFromPathMatcher(path, matches.get(i), 0);
-            if (result != null) {
-                return result;
+        for (int i = 0; i < requestPaths.candidateCount(); i++) {
+            ArrayList<RequestPath<T>> candidate = requestPaths.candidate(path, i);
+            if (candidate != null) {
+                var result = mapFromPathMatcher(path, candidate, requestPaths.candidateLength(i), 0);
+                if (result != null) {
+                    return result;
+                }
             }
         }
 
         // the following code is meant to handle cases like https://github.com/quarkusio/quarkus/issues/30667
-        return mapFromPathMatcher(path, requestPaths.defaultMatch(path), 0);
+        return mapFromPathMatcher(path, requestPaths.getDefaultHandler(), 1, 0);
     }
 
     /**
@@ -72,12 +76,16 @@ public RequestMatch<T> continueMatching(String path, RequestMatch<T> lastMatch)
             return null;
         }
 
-        var initialMatchesList = requestPaths.match(path);
-        for (int i = 0; i < initialMatchesList.size(); i++) {
-            var result = mapFromPathMatcher(path, initialMatchesList.get(i), 0);
+        for (int i = 0; i < requestPaths.candidateCount(); i++) {
+            ArrayList<RequestPath<T>> candidate = requestPaths.candidate(path, i);
+            if (candidate == null) {
+                continue;
+            }
+            int matchedLength = requestPaths.candidateLength(i);
+            var result = mapFromPathMatcher(path, candidate, matchedLength, 0);
             if (result != null) {
-                int idx = nextMatchStartingIndex(initialMatchesList.get(i), lastMatch);
-                RequestMatch<T> match = mapFromPathMatcher(path, initialMatchesList.get(i), idx);
+                int idx = nextMatchStartingIndex(candidate, lastMatch);
+                RequestMatch<T> match = mapFromPathMatcher(path, candidate, matchedLength, idx);
                 if (match != null) {
                     return match;
                 }
@@ -85,25 +93,24 @@ public RequestMatch<T> continueMatching(String path, RequestMatch<T> lastMatch)
         }
 
         // the following code is meant to handle cases like https://github.com/quarkusio/quarkus/issues/30667
-        var initialMatches = requestPaths.defaultMatch(path);
-        var result = mapFromPathMatcher(path, initialMatches, 0);
+        var defaultCandidate = requestPaths.getDefaultHandler();
+        var result = mapFromPathMatcher(path, defaultCandidate, 1, 0);
         if (result != null) {
-            int idx = nextMatchStartingIndex(initialMatches, lastMatch);
-            return mapFromPathMatcher(path, initialMatches, idx);
+            int idx = nextMatchStartingIndex(defaultCandidate, lastMatch);
+            return mapFromPathMatcher(path, defaultCandidate, 1, idx);
         }
         return null;
     }
 
-    private int nextMatchStartingIndex(PathMatcher.PathMatch<ArrayList<RequestPath<T>>> initialMatches,
-            RequestMatch<T> current) {
-        if (initialMatches.getValue() == null || initialMatches.getValue().isEmpty()) {
+    private int nextMatchStartingIndex(ArrayList<RequestPath<T>> candidate, RequestMatch<T> current) {
+        if (candidate == null || candidate.isEmpty()) {
             return -1;
         }
-        for (int i = 0; i < initialMatches.getValue().size(); i++) {
-            if (initialMatches.getValue().get(i).template == current.template) {
+        for (int i = 0; i < candidate.size(); i++) {
+            if (candidate.get(i).template == current.template) {
                 i++;
 
-                if (i < initialMatches.getValue().size()) {
+                if (i < candidate.size()) {
                     return i;
                 }
                 return -1;
@@ -113,21 +120,24 @@ private int nextMatchStartingIndex(PathMatcher.PathMatch<ArrayList<RequestPath<T
         return -1;
     }
 
+    /**
+     * @param matchedLength the length of the prefix of the path matched by the {@link PathMatcher}
+     */
     @SuppressWarnings({ "rawtypes", "unchecked" })
-    private RequestMatch<T> mapFromPathMatcher(String path, PathMatcher.PathMatch<ArrayList<RequestPath<T>>> initialMatches,
+    private RequestMatch<T> mapFromPathMatcher(String path, ArrayList<RequestPath<T>> value, int matchedLength,
             int startIdx) {
-        var value = initialMatches.getValue();
         if (value == null || startIdx < 0) {
             return null;
         }
         int pathLength = path.length();
+        // shared by the candidates, as only the one that matches is returned
+        String[] params = (maxParams > 0) ? new String[maxParams] : EMPTY_STRING_ARRAY;
         for (int index = startIdx; index < value.size(); index++) {
             RequestPath<T> potentialMatch = value.get(index);
-            String[] params = (maxParams > 0) ? new String[maxParams] : EMPTY_STRING_ARRAY;
             int paramCount = 0;
             boolean matched = true;
             boolean prefixAllowed = potentialMatch.prefixTemplate;
-            int matchPos = initialMatches.getMatched().length();
+            int matchPos = matchedLength;
             for (int i = 1; i < potentialMatch.template.components.length; ++i) {
                 URITemplate.TemplateComponent segment = potentialMatch.template.components[i];
                 if (segment.type == URITemplate.Type.CUSTOM_REGEX) {
@@ -177,7 +187,8 @@ private RequestMatch<T> mapFromPathMatcher(String path, PathMatcher.PathMatch<Ar
                 continue;
             }
             if (paramCount < params.length) {
-                params[paramCount] = null;
+                // clear the values captured by the previous candidates
+                Arrays.fill(params, paramCount, params.length, null);
             }
             boolean fullMatch = matchPos == pathLength;
             boolean doPrefixMatch = false;
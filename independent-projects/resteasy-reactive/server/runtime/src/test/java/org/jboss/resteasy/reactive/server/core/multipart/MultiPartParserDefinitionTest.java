@@ -0,0 +1,241 @@
+package org.jboss.resteasy.reactive.server.core.multipart;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+import jakarta.ws.rs.core.HttpHeaders;
+
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.jaxrs.HttpHeadersImpl;
+import org.jboss.resteasy.reactive.server.multipart.FormValue;
+import org.jboss.resteasy.reactive.server.spi.ServerHttpRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+
+public class MultiPartParserDefinitionTest {
+
+    private static final String BOUNDARY = "----formboundary7c3a91e5";
+    private static final int MAX_PENDING_BYTES = 128 * 1024;
+
+    @TempDir
+    Path tempDir;
+
+    private final ManualExecutor executor = new ManualExecutor();
+    private ResteasyReactiveRequestContext exchange;
+    private ServerHttpRequest request;
+
+    @BeforeEach
+    public void setUp() {
+        exchange = mock(ResteasyReactiveRequestContext.class);
+        request = mock(ServerHttpRequest.class);
+        HttpHeadersImpl headers = mock(HttpHeadersImpl.class);
+        when(headers.getHeaderString(HttpHeaders.CONTENT_TYPE)).thenReturn("multipart/form-data; boundary=" + BOUNDARY);
+        when(exchange.getHttpHeaders()).thenReturn(headers);
+        when(exchange.serverRequest()).thenReturn(request);
+    }
+
+    @Test
+    public void testSmallChunks() throws Exception {
+        byte[] file = randomBytes(10_000);
+        ServerHttpRequest.ReadCallback callback = startParsing();
+
+        // every chunk is parsed before the next one is received
+        for (ByteBuffer chunk : split(body(file), 7)) {
+            callback.data(chunk);
+            executor.runAll();
+        }
+        callback.done();
+
+        assertParsed(file);
+        // the input is never paused
+        verify(request, never()).pauseRequestInput();
+    }
+
+    @Test
+    public void testChunksReceivedWhileTaskIsQueued() throws Exception {
+        byte[] file = randomBytes(10_000);
+        ServerHttpRequest.ReadCallback callback = startParsing();
+
+        // the chunks are received faster than they are parsed
+        for (ByteBuffer chunk : split(body(file), 1024)) {
+            callback.data(chunk);
+        }
+        // a single task parses all the pending chunks
+        assertEquals(1, executor.tasks.size());
+        executor.runAll();
+        assertEquals(1, executor.dispatched);
+        callback.done();
+
+        assertParsed(file);
+    }
+
+    @Test
+    public void testDoneBeforeBufferedDataIsParsed() throws Exception {
+        byte[] file = randomBytes(10_000);
+        ServerHttpRequest.ReadCallback callback = startParsing();
+
+        for (ByteBuffer chunk : split(body(file), 1024)) {
+            callback.data(chunk);
+        }
+        // the whole body was received before the parse task started
+        callback.done();
+        verify(exchange, never()).resume();
+        verify(exchange, never()).setFormData(any());
+
+        executor.runAll();
+        assertParsed(file);
+    }
+
+    @Test
+    public void testLargeBodyPausesAndResumesInput() throws Exception {
+        byte[] file = randomBytes(4 * MAX_PENDING_BYTES);
+        ServerHttpRequest.ReadCallback callback = startParsing();
+        // resumed once when the parsing starts
+        verify(request, times(1)).resumeRequestInput();
+
+        int chunkSize = 8 * 1024;
+        ArrayDeque<ByteBuffer> chunks = split(body(file), chunkSize);
+        int received = 0;
+        while (received < MAX_PENDING_BYTES - chunkSize) {
+            received += chunks.peek().remaining();
+            callback.data(chunks.poll());
+        }
+        verify(request, never()).pauseRequestInput();
+
+        // the input is paused once 128 KiB are pending, and only once
+        callback.data(chunks.poll());
+        callback.data(chunks.poll());
+        verify(request, times(1)).pauseRequestInput();
+
+        // the input is resumed once the pending chunks are parsed
+        executor.runAll();
+        verify(request, times(2)).resumeRequestInput();
+
+        // the rest of the body is parsed slowly, every few chunks
+        for (int i = 1; !chunks.isEmpty(); i++) {
+            callback.data(chunks.poll());
+            if (i % 4 == 0) {
+                executor.runAll();
+            }
+        }
+        callback.done();
+        executor.runAll();
+
+        assertParsed(file);
+    }
+
+    @Test
+    public void testTruncatedBody() throws Exception {
+        byte[] body = body(randomBytes(1000));
+        ServerHttpRequest.ReadCallback callback = startParsing();
+
+        callback.data(ByteBuffer.wrap(body, 0, body.length / 2));
+        callback.done();
+        executor.runAll();
+
+        ArgumentCaptor<Throwable> failure = ArgumentCaptor.forClass(Throwable.class);
+        verify(exchange).resume(failure.capture());
+        assertInstanceOf(IOException.class, failure.getValue());
+        verify(exchange, never()).setFormData(any());
+    }
+
+    private ServerHttpRequest.ReadCallback startParsing() throws Exception {
+        MultiPartParserDefinition definition = new MultiPartParserDefinition(() -> executor, tempDir);
+        FormDataParser parser = definition.create(exchange, Set.of());
+        parser.parse();
+
+        verify(exchange).suspend();
+        ArgumentCaptor<ServerHttpRequest.ReadCallback> callback = ArgumentCaptor
+                .forClass(ServerHttpRequest.ReadCallback.class);
+        verify(request).setReadListener(callback.capture());
+        return callback.getValue();
+    }
+
+    private void assertParsed(byte[] file) throws IOException {
+        ArgumentCaptor<FormData> formData = ArgumentCaptor.forClass(FormData.class);
+        verify(exchange).setFormData(formData.capture());
+        verify(exchange).resume();
+        assertEquals(0, executor.tasks.size());
+
+        FormData data = formData.getValue();
+        assertEquals("John", data.getFirst("name").getValue());
+        FormValue upload = data.getFirst("file");
+        assertEquals("data.bin", upload.getFileName());
+        assertFalse(upload.getFileItem().isInMemory());
+        assertArrayEquals(file, Files.readAllBytes(upload.getFileItem().getFile()));
+        assertNull(data.getFirst("missing"));
+    }
+
+    private static byte[] body(byte[] file) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(("--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"name\"\r\n"
+                + "\r\n"
+                + "John\r\n"
+                + "--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"data.bin\"\r\n"
+                + "Content-Type: application/octet-stream\r\n"
+                + "\r\n").getBytes(StandardCharsets.US_ASCII));
+        out.write(file);
+        out.write(("\r\n--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.US_ASCII));
+        return out.toByteArray();
+    }
+
+    private static ArrayDeque<ByteBuffer> split(byte[] body, int chunkSize) {
+        ArrayDeque<ByteBuffer> chunks = new ArrayDeque<>();
+        for (int i = 0; i < body.length; i += chunkSize) {
+            chunks.add(ByteBuffer.wrap(body, i, Math.min(chunkSize, body.length - i)).slice());
+        }
+        return chunks;
+    }
+
+    private static byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
+
+    /**
+     * Runs the dispatched tasks on demand, to simulate a busy worker pool.
+     */
+    private static final class ManualExecutor implements Executor {
+
+        private final ArrayDeque<Runnable> tasks = new ArrayDeque<>();
+        private int dispatched;
+
+        @Override
+        public void execute(Runnable command) {
+            dispatched++;
+            tasks.add(command);
+        }
+
+        void runAll() {
+            Runnable task;
+            while ((task = tasks.poll()) != null) {
+                task.run();
+            }
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package org.jboss.resteasy.reactive.server.mapping;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Test;
+
+public class RequestMapperTest {
+
+    @Test
+    public void paramsOfRejectedCandidateDoNotLeak() {
+        RequestMapper<String> mapper = mapper(
+                new RequestMapper.RequestPath<>(false, new URITemplate("/a/{x}/{y}/z", false), "xyz"),
+                new RequestMapper.RequestPath<>(true, new URITemplate("/a/{x}", true), "x"));
+
+        // /a/{x}/{y}/z captures both params before its last literal is rejected
+        RequestMapper.RequestMatch<String> match = mapper.map("/a/1/2/q");
+        assertMatch(match, "/a/{x}", "/2/q", "1", null);
+
+        match = mapper.map("/a/1/2/z");
+        assertMatch(match, "/a/{x}/{y}/z", "", "1", "2");
+    }
+
+    @Test
+    public void prefixTemplateMatchesWithRemainingPath() {
+        RequestMapper<String> mapper = mapper(
+                new RequestMapper.RequestPath<>(true, new URITemplate("/users", true), "users"),
+                new RequestMapper.RequestPath<>(false, new URITemplate("/orders", false), "orders"));
+
+        assertMatch(mapper.map("/users/42/orders"), "/users", "/42/orders");
+        assertMatch(mapper.map("/users"), "/users", "");
+        // only a trailing slash may remain after a template that is not a prefix
+        assertMatch(mapper.map("/orders/"), "/orders", "/");
+        assertNull(mapper.map("/orders/42"));
+        // the stem must end at a segment boundary
+        assertNull(mapper.map("/usersx"));
+    }
+
+    @Test
+    public void regexParams() {
+        RequestMapper<String> mapper = mapper(
+                new RequestMapper.RequestPath<>(false, new URITemplate("/files/{name: [a-z]+}.{ext}", false), "file"),
+                new RequestMapper.RequestPath<>(false, new URITemplate("/orders/{id: \\d+}", false), "id"),
+                new RequestMapper.RequestPath<>(false, new URITemplate("/orders/{name}", false), "name"));
+
+        assertMatch(mapper.map("/files/report.pdf"), "/files/{name: [a-z]+}.{ext}", "", "report", "pdf");
+        assertMatch(mapper.map("/files/report.pdf/"), "/files/{name: [a-z]+}.{ext}", "", "report", "pdf");
+        assertNull(mapper.map("/files/Report.pdf"));
+
+        // the regex template is more specific, but the other one matches what the regex rejects
+        assertMatch(mapper.map("/orders/12"), "/orders/{id: \\d+}", "", "12", null);
+        assertMatch(mapper.map("/orders/abc"), "/orders/{name}", "", "abc", null);
+    }
+
+    @Test
+    public void overlappingTemplates() {
+        RequestMapper<String> mapper = mapper(
+                new RequestMapper.RequestPath<>(true, new URITemplate("/books/{id}", true), "id"),
+                new RequestMapper.RequestPath<>(false, new URITemplate("/books/latest", false), "latest"),
+                new RequestMapper.RequestPath<>(false, new URITemplate("/books/{id}/{chapter}", false), "chapter"));
+
+        // the longest stem is tried first
+        assertMatch(mapper.map("/books/latest"), "/books/latest", "", null, null);
+        assertMatch(mapper.map("/books/7"), "/books/{id}", "", "7", null);
+
+        // the template with the most literal characters is tried first, then the next one of the same stem
+        RequestMapper.RequestMatch<String> match = mapper.map("/books/7/3");
+        assertMatch(match, "/books/{id}/{chapter}", "", "7", "3");
+        match = mapper.continueMatching("/books/7/3", match);
+        assertMatch(match, "/books/{id}", "/3", "7", null);
+        assertNull(mapper.continueMatching("/books/7/3", match));
+    }
+
+    @SafeVarargs
+    private static RequestMapper<String> mapper(RequestMapper.RequestPath<String>... paths) {
+        ArrayList<RequestMapper.RequestPath<String>> templates = new ArrayList<>();
+        for (RequestMapper.RequestPath<String> path : paths) {
+            templates.add(path);
+        }
+        return new RequestMapper<>(templates);
+    }
+
+    private static void assertMatch(RequestMapper.RequestMatch<String> match, String template, String remaining,
+            String... params) {
+        assertEquals(template, match.template.template);
+        assertEquals(remaining, match.remaining);
+        if (params.length == 0) {
+            return;
+        }
+        String[] actual = new String[params.length];
+        System.arraycopy(match.pathParamValues, 0, actual, 0, Math.min(params.length, match.pathParamValues.length));
+        assertArrayEquals(params, actual);
+    }
+}